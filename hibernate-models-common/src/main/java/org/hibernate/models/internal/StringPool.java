@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of canonical String instances, scoped to a single model build.
+ * <p/>
+ * Names (class names, table and column names, query names, etc.) tend to be repeated
+ * across a great many annotation usages.  Routing them through the pool means the
+ * duplicates share a single instance.  Unlike {@link String#intern()}, the pooled
+ * values are released along with the pool itself.
+ *
+ * @author Steve Ebersole
+ */
+public class StringPool {
+	private final Map<String, String> pool = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the canonical instance for the given {@code value}, adding it to
+	 * the pool if not already pooled.
+	 */
+	public String intern(String value) {
+		if ( value == null ) {
+			return null;
+		}
+
+		final String existing = pool.putIfAbsent( value, value );
+		return existing == null ? value : existing;
+	}
+
+	/**
+	 * The number of distinct values currently pooled
+	 */
+	public int size() {
+		return pool.size();
+	}
+
+	/**
+	 * Release all pooled values
+	 */
+	public void clear() {
+		pool.clear();
+	}
+}
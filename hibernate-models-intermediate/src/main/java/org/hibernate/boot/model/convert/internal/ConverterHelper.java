@@ -20,14 +20,15 @@ import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.MemberDetails;
 
 import com.fasterxml.classmate.ResolvedType;
-import com.fasterxml.classmate.ResolvedTypeWithMembers;
-import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.classmate.members.ResolvedMember;
-import com.fasterxml.classmate.members.ResolvedMethod;
 import jakarta.persistence.AttributeConverter;
 
 /**
  * Helpers related to handling converters
+ *
+ * @implNote Diverges from the hibernate-core original - {@link #resolveMember} and
+ * {@link #resolveConverterClassParamTypes} use the resolutions memoized by
+ * {@link ClassmateContext} rather than resolving again on each call.
  */
 @Copied
 public class ConverterHelper {
@@ -39,27 +40,12 @@ public class ConverterHelper {
 			ClassDetails container,
 			MemberDetails propertyMember,
 			ClassmateContext classmateContext) {
-		final Class<?> declaringType = container.toJavaClass();
-		final ResolvedType declaringTypeResolved = classmateContext.getTypeResolver().resolve( declaringType );
-		final ResolvedTypeWithMembers declaringClassWithMembers = classmateContext.getMemberResolver().resolve(
-				declaringTypeResolved,
-				null,
-				null
-		);
-
-		if ( propertyMember.isField() ) {
-			for ( ResolvedField resolvedMember : declaringClassWithMembers.getMemberFields() ) {
-				if ( resolvedMember.getName().equals( propertyMember.getName() ) ) {
-					return resolvedMember;
-				}
-			}
-		}
-		else {
-			for ( ResolvedMethod resolvedMember : declaringClassWithMembers.getMemberMethods() ) {
-				if ( resolvedMember.getName().equals( propertyMember.getName() ) ) {
-					return resolvedMember;
-				}
-			}
+		final ClassmateContext.ResolvedMembers resolvedMembers = classmateContext.resolveMembers( container.toJavaClass() );
+		final ResolvedMember<? extends Member> resolvedMember = propertyMember.isField()
+				? resolvedMembers.findField( propertyMember.getName() )
+				: resolvedMembers.findMethod( propertyMember.getName() );
+		if ( resolvedMember != null ) {
+			return resolvedMember;
 		}
 
 		throw new HibernateException(
@@ -70,6 +56,15 @@ public class ConverterHelper {
 	public static List<ResolvedType> resolveConverterClassParamTypes(
 			Class<? extends AttributeConverter<?, ?>> converterClass,
 			ClassmateContext context) {
+		return context.resolveConverterParamTypes(
+				converterClass,
+				(type) -> doResolveConverterClassParamTypes( type, context )
+		);
+	}
+
+	private static List<ResolvedType> doResolveConverterClassParamTypes(
+			Class<?> converterClass,
+			ClassmateContext context) {
 		final ResolvedType converterType = context.getTypeResolver().resolve( converterClass );
 		final List<ResolvedType> converterParamTypes = converterType.typeParametersFor( AttributeConverter.class );
 		if ( converterParamTypes == null ) {
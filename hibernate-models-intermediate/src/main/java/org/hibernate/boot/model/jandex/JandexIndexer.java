@@ -30,7 +30,10 @@ import org.jboss.jandex.Indexer;
 @Incubating
 public class JandexIndexer {
 	/**
-	 * Index the managed-resources
+	 * Index the managed-resources.
+	 * <p/>
+	 * {@linkplain ManagedResources#getLoadedClasses() Loaded classes} are not indexed; we already
+	 * have their {@link Class} references and model them reflectively.
 	 *
 	 * @param classLoading Used to load {@linkplain ClassLoading#locateResource resources}
 	 */
@@ -69,9 +72,7 @@ public class JandexIndexer {
 			// todo (models) : exception?
 		}
 
-		for ( Class<?> loadedClass : managedResources.getLoadedClasses() ) {
-			index( loadedClass, indexer );
-		}
+		// NOTE : loaded classes are not indexed - they are modeled reflectively
 
 		// todo (models) : mapping files
 	}
@@ -87,13 +88,4 @@ public class JandexIndexer {
 			throw new IndexingException( "Unable to index resource" + resource, e );
 		}
 	}
-
-	private static void index(Class<?> loadedClass, Indexer indexer) {
-		try {
-			indexer.indexClass( loadedClass );
-		}
-		catch (IOException e) {
-			throw new IndexingException( "Unable to index loaded Class" + loadedClass.getName(), e );
-		}
-	}
 }
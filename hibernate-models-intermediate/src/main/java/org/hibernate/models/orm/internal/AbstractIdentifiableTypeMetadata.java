@@ -7,6 +7,7 @@
 package org.hibernate.models.orm.internal;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -16,16 +17,11 @@ import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
-import org.hibernate.models.source.internal.AnnotationUsageHelper;
-import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
-import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
 
-import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 
-import static org.hibernate.models.source.spi.AnnotationAttributeDescriptor.VALUE;
-
 
 /**
  * @author Steve Ebersole
@@ -70,7 +66,10 @@ public abstract class AbstractIdentifiableTypeMetadata
 
 		if ( isRootEntity ) {
 			// walk down
-			walkSubclasses( classDetails, this, this.accessType, typeConsumer );
+			final TypeHierarchyIndex typeHierarchyIndex = processingContext.getSourceModel()
+					.getClassDetailsRegistry()
+					.getTypeHierarchyIndex();
+			walkSubclasses( classDetails, this, this.accessType, typeHierarchyIndex, typeConsumer );
 		}
 
 		// the idea here is to collect up class-level annotations and to apply
@@ -81,9 +80,9 @@ public abstract class AbstractIdentifiableTypeMetadata
 	}
 
 	private AccessType determineAccessType(AccessType defaultAccessType) {
-		final AnnotationUsage<Access> annotation = getClassDetails().getAnnotation( JpaAnnotations.ACCESS );
-		if ( annotation != null ) {
-			return AnnotationUsageHelper.extractValue( annotation, VALUE );
+		final AccessType explicitAccessType = getModelContext().getAccessTypeResolver().getExplicitAccessType( getClassDetails() );
+		if ( explicitAccessType != null ) {
+			return explicitAccessType;
 		}
 
 		return defaultAccessType;
@@ -176,9 +175,11 @@ public abstract class AbstractIdentifiableTypeMetadata
 			ClassDetails classDetails,
 			AbstractIdentifiableTypeMetadata superType,
 			AccessType defaultAccessType,
+			TypeHierarchyIndex typeHierarchyIndex,
 			Consumer<IdentifiableTypeMetadata> typeConsumer) {
-		final ClassDetailsRegistry classDetailsRegistry = getModelContext().getSourceModel().getClassDetailsRegistry();
-		classDetailsRegistry.forEachDirectSubType( classDetails.getName(), (subTypeManagedClass) -> {
+		final List<ClassDetails> directSubTypes = typeHierarchyIndex.getDirectSubTypes( classDetails );
+		for ( int i = 0; i < directSubTypes.size(); i++ ) {
+			final ClassDetails subTypeManagedClass = directSubTypes.get( i );
 			final AbstractIdentifiableTypeMetadata subTypeMetadata;
 			if ( isEntity( subTypeManagedClass ) ) {
 				subTypeMetadata = new EntityTypeMetadataImpl(
@@ -204,8 +205,8 @@ public abstract class AbstractIdentifiableTypeMetadata
 				subTypeMetadata = superType;
 			}
 
-			walkSubclasses( subTypeManagedClass, subTypeMetadata, defaultAccessType, typeConsumer );
-		} );
+			walkSubclasses( subTypeManagedClass, subTypeMetadata, defaultAccessType, typeHierarchyIndex, typeConsumer );
+		}
 	}
 
 	@Override
@@ -8,19 +8,16 @@ package org.hibernate.models.orm.internal;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.hibernate.annotations.Any;
-import org.hibernate.annotations.ManyToAny;
 import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.model.source.spi.AttributeRole;
 import org.hibernate.boot.model.source.spi.NaturalIdMutability;
 import org.hibernate.models.internal.IndexedConsumer;
-import org.hibernate.models.orm.MultipleAttributeNaturesException;
 import org.hibernate.models.orm.spi.AttributeMetadata;
-import org.hibernate.models.orm.spi.HibernateAnnotations;
-import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.orm.spi.EmbeddableTypeMetadata;
 import org.hibernate.models.orm.spi.ManagedTypeMetadata;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
@@ -28,17 +25,7 @@ import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.MemberDetails;
 
-import jakarta.persistence.Basic;
-import jakarta.persistence.ElementCollection;
-import jakarta.persistence.Embedded;
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
-
 import static org.hibernate.models.internal.CollectionHelper.arrayList;
-import static org.hibernate.models.orm.internal.OrmModelLogging.ORM_MODEL_LOGGER;
 
 /**
  * Models metadata about a JPA {@linkplain jakarta.persistence.metamodel.ManagedType managed-type}.
@@ -51,8 +38,18 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	private final ClassDetails classDetails;
 	private final OrmModelBuildingContext modelContext;
 
-	private final AttributePath attributePathBase;
-	private final AttributeRole attributeRoleBase;
+	// for embedded references, the bases are relative to the container's and built lazily
+	private final AbstractManagedTypeMetadata container;
+	private final String containerAttributeName;
+
+	private volatile AttributePath attributePathBase;
+	private volatile AttributeRole attributeRoleBase;
+
+	// resolved on first access
+	private volatile List<AttributeMetadata> attributeList;
+
+	// views of the embeddables referenced from here, by embedded attribute member
+	private final Map<MemberDetails, EmbeddableTypeMetadata> embeddables = new ConcurrentHashMap<>();
 
 	/**
 	 * This form is intended for construction of the root of an entity hierarchy
@@ -61,8 +58,8 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	public AbstractManagedTypeMetadata(ClassDetails classDetails, OrmModelBuildingContext modelContext) {
 		this.classDetails = classDetails;
 		this.modelContext = modelContext;
-		this.attributeRoleBase = new AttributeRole( classDetails.getName() );
-		this.attributePathBase = new AttributePath();
+		this.container = null;
+		this.containerAttributeName = null;
 	}
 
 	/**
@@ -79,10 +76,31 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 			OrmModelBuildingContext modelContext) {
 		this.classDetails = classDetails;
 		this.modelContext = modelContext;
+		this.container = null;
+		this.containerAttributeName = null;
 		this.attributeRoleBase = attributeRoleBase;
 		this.attributePathBase = attributePathBase;
 	}
 
+	/**
+	 * This form is used to create Embedded references whose role and path bases
+	 * are derived from the container's, on demand
+	 *
+	 * @param classDetails The Embeddable descriptor
+	 * @param container The managed type containing the embedded attribute
+	 * @param containerAttributeName The name of the embedded attribute
+	 */
+	protected AbstractManagedTypeMetadata(
+			ClassDetails classDetails,
+			AbstractManagedTypeMetadata container,
+			String containerAttributeName,
+			OrmModelBuildingContext modelContext) {
+		this.classDetails = classDetails;
+		this.modelContext = modelContext;
+		this.container = container;
+		this.containerAttributeName = containerAttributeName;
+	}
+
 	public ClassDetails getClassDetails() {
 		return classDetails;
 	}
@@ -91,6 +109,35 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 		return modelContext;
 	}
 
+	/**
+	 * The base for the roles of attributes created *from* here
+	 */
+	public AttributeRole getAttributeRoleBase() {
+		AttributeRole resolved = attributeRoleBase;
+		if ( resolved == null ) {
+			// racing threads build equal roles, so no need to lock
+			resolved = container == null
+					? new AttributeRole( classDetails.getName() )
+					: container.getAttributeRoleBase().append( containerAttributeName );
+			attributeRoleBase = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * The base for the paths of attributes created *from* here
+	 */
+	public AttributePath getAttributePathBase() {
+		AttributePath resolved = attributePathBase;
+		if ( resolved == null ) {
+			resolved = container == null
+					? new AttributePath()
+					: container.getAttributePathBase().append( containerAttributeName );
+			attributePathBase = resolved;
+		}
+		return resolved;
+	}
+
 	@Override
 	public String toString() {
 		return "ManagedTypeMetadata(" + classDetails.getName() + ")";
@@ -100,7 +147,34 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// attribute handling
 
-	protected abstract List<AttributeMetadata> attributeList();
+	/**
+	 * The attributes, resolved on first access.  Many consumers only care about the
+	 * shape of the hierarchies, so there is no reason to resolve and classify the
+	 * members of every type up front.
+	 *
+	 * @implNote Validating the members is most of the work of resolving them, so the mapping
+	 * problems found doing so surface here as well.  A failed resolution is not remembered.
+	 */
+	protected List<AttributeMetadata> attributeList() {
+		List<AttributeMetadata> resolved = attributeList;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = attributeList;
+				if ( resolved == null ) {
+					resolved = buildAttributeList();
+					attributeList = resolved;
+				}
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Build the attribute list on first access.  By default, simply {@linkplain #resolveAttributes resolves} them.
+	 */
+	protected List<AttributeMetadata> buildAttributeList() {
+		return resolveAttributes();
+	}
 
 	@Override
 	public int getNumberOfAttributes() {
@@ -114,8 +188,9 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 
 	@Override
 	public void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer) {
-		for ( int i = 0; i < attributeList().size(); i++ ) {
-			consumer.accept( i, attributeList().get( i ) );
+		final List<AttributeMetadata> attributeList = attributeList();
+		for ( int i = 0; i < attributeList.size(); i++ ) {
+			consumer.accept( i, attributeList.get( i ) );
 		}
 	}
 
@@ -131,7 +206,7 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 		for ( MemberDetails backingMember : backingMembers ) {
 			final AttributeMetadata attribute = new AttributeMetadataImpl(
 					backingMember.resolveAttributeName(),
-					determineAttributeNature( backingMember ),
+					AttributeNatureResolver.determineAttributeNature( backingMember ),
 					backingMember
 			);
 			attributeList.add( attribute );
@@ -140,112 +215,16 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 		return attributeList;
 	}
 
-	/**
-	 * Determine the attribute's nature - is it a basic mapping, an embeddable, ...?
-	 *
-	 * Also performs some simple validation around multiple natures being indicated
-	 */
-	private AttributeMetadata.AttributeNature determineAttributeNature(MemberDetails backingMember) {
-		final EnumSet<AttributeMetadata.AttributeNature> natures = EnumSet.noneOf( AttributeMetadata.AttributeNature.class );
-
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// first, look for explicit nature annotations
-
-		final AnnotationUsage<Any> any = backingMember.getAnnotation( HibernateAnnotations.ANY );
-		final AnnotationUsage<Basic> basic = backingMember.getAnnotation( JpaAnnotations.BASIC );
-		final AnnotationUsage<ElementCollection> elementCollection = backingMember.getAnnotation( JpaAnnotations.ELEMENT_COLLECTION );
-		final AnnotationUsage<Embedded> embedded = backingMember.getAnnotation( JpaAnnotations.EMBEDDED );
-		final AnnotationUsage<EmbeddedId> embeddedId = backingMember.getAnnotation( JpaAnnotations.EMBEDDED_ID );
-		final AnnotationUsage<ManyToAny> manyToAny = backingMember.getAnnotation( HibernateAnnotations.MANY_TO_ANY );
-		final AnnotationUsage<ManyToMany> manyToMany = backingMember.getAnnotation( JpaAnnotations.MANY_TO_MANY );
-		final AnnotationUsage<ManyToOne> manyToOne = backingMember.getAnnotation( JpaAnnotations.MANY_TO_ONE );
-		final AnnotationUsage<OneToMany> oneToMany = backingMember.getAnnotation( JpaAnnotations.ONE_TO_MANY );
-		final AnnotationUsage<OneToOne> oneToOne = backingMember.getAnnotation( JpaAnnotations.ONE_TO_ONE );
-
-		if ( basic != null ) {
-			natures.add( AttributeMetadata.AttributeNature.BASIC );
-		}
-
-		if ( embedded != null
-				|| embeddedId != null
-				|| ( backingMember.getType() != null && backingMember.getType().getAnnotation( JpaAnnotations.EMBEDDABLE ) != null ) ) {
-			natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
-		}
-
-		if ( any != null ) {
-			natures.add( AttributeMetadata.AttributeNature.ANY );
-		}
-
-		if ( oneToOne != null
-				|| manyToOne != null ) {
-			natures.add( AttributeMetadata.AttributeNature.TO_ONE );
-		}
-
-		final boolean plural = oneToMany != null
-				|| manyToMany != null
-				|| elementCollection != null
-				|| manyToAny != null;
-		if ( plural ) {
-			natures.add( AttributeMetadata.AttributeNature.PLURAL );
-		}
-
-		// look at annotations that imply a nature
-		//		NOTE : these could apply to the element or index of collection, so
-		//		only do these if it is not a collection
-
-		if ( !plural ) {
-			// first implicit basic nature
-			if ( backingMember.getAnnotation( JpaAnnotations.TEMPORAL ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.LOB ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.ENUMERATED ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.CONVERT ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.VERSION ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.GENERATED ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.NATIONALIZED ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TZ_COLUMN ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TZ_STORAGE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TENANT_ID ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JAVA_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JDBC_TYPE_CODE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JDBC_TYPE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.BASIC );
-			}
-
-			// then embedded
-			if ( backingMember.getAnnotation( HibernateAnnotations.EMBEDDABLE_INSTANTIATOR ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.COMPOSITE_TYPE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
-			}
-
-			// and any
-			if ( backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR_VALUE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR_VALUES ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JAVA_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JAVA_CLASS ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JDBC_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.ANY );
-			}
+	@Override
+	public EmbeddableTypeMetadata getEmbeddable(AttributeMetadata attribute) {
+		if ( attribute.getNature() != AttributeMetadata.AttributeNature.EMBEDDED ) {
+			throw new IllegalArgumentException( "Attribute `" + attribute.getName() + "` is not embedded" );
 		}
 
-		int size = natures.size();
-		switch ( size ) {
-			case 0: {
-				ORM_MODEL_LOGGER.debugf(
-						"Implicitly interpreting attribute `%s` as BASIC",
-						backingMember.resolveAttributeName()
-				);
-				return AttributeMetadata.AttributeNature.BASIC;
-			}
-			case 1: {
-				return natures.iterator().next();
-			}
-			default: {
-				throw new MultipleAttributeNaturesException( backingMember.resolveAttributeName(), natures );
-			}
-		}
+		return embeddables.computeIfAbsent(
+				attribute.getMember(),
+				(member) -> new EmbeddableTypeMetadataImpl( member.getType(), this, attribute.getName(), modelContext )
+		);
 	}
 
 	@Override
@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.models.orm.internal.usage.AccessUsage;
+import org.hibernate.models.orm.spi.AccessTypeResolver;
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+
+/**
+ * Per-class cache of the {@linkplain AccessType access type} details of managed classes - the
+ * explicit {@link Access @Access} on the class and the access implied by the placement of
+ * {@link jakarta.persistence.Id @Id} / {@link jakarta.persistence.EmbeddedId @EmbeddedId}.
+ * <p/>
+ * Where possible, the placement of the identifier is read from the Jandex annotations of the
+ * class, which report the kind of target directly, rather than building the details of
+ * every member just to check for those annotations.
+ *
+ * @author Steve Ebersole
+ */
+public class AccessTypeCache implements AccessTypeResolver {
+	private static final DotName ID = DotName.createSimple( JpaAnnotations.ID.getAnnotationType().getName() );
+	private static final DotName EMBEDDED_ID = DotName.createSimple( JpaAnnotations.EMBEDDED_ID.getAnnotationType().getName() );
+	private static final DotName[] ID_ANNOTATIONS = new DotName[] { ID, EMBEDDED_ID };
+
+	private final Supplier<IndexView> jandexIndexAccess;
+	private final Map<ClassDetails, ClassAccess> accessByClass = new ConcurrentHashMap<>();
+
+	public AccessTypeCache(IndexView jandexIndex) {
+		this( () -> jandexIndex );
+	}
+
+	/**
+	 * @param jandexIndexAccess Access to the Jandex index, which may grow as classes are indexed on demand
+	 */
+	public AccessTypeCache(Supplier<IndexView> jandexIndexAccess) {
+		this.jandexIndexAccess = jandexIndexAccess;
+	}
+
+	@Override
+	public AccessType getExplicitAccessType(ClassDetails classDetails) {
+		return resolveClassAccess( classDetails ).explicitAccessType;
+	}
+
+	@Override
+	public AccessType getImplicitAccessType(ClassDetails classDetails) {
+		return resolveClassAccess( classDetails ).implicitAccessType;
+	}
+
+	private ClassAccess resolveClassAccess(ClassDetails classDetails) {
+		final ClassAccess existing = accessByClass.get( classDetails );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final ClassAccess resolved = new ClassAccess(
+				determineExplicitAccessType( classDetails ),
+				determineImplicitAccessType( classDetails )
+		);
+		final ClassAccess raced = accessByClass.putIfAbsent( classDetails, resolved );
+		return raced == null ? resolved : raced;
+	}
+
+	private static AccessType determineExplicitAccessType(ClassDetails classDetails) {
+		final AnnotationUsage<Access> accessAnnotation = classDetails.getAnnotation( JpaAnnotations.ACCESS );
+		if ( accessAnnotation != null ) {
+			return AccessUsage.VALUE.getValue( accessAnnotation );
+		}
+		return null;
+	}
+
+	private AccessType determineImplicitAccessType(ClassDetails classDetails) {
+		final IndexView jandexIndex = jandexIndexAccess.get();
+		final ClassInfo classInfo = jandexIndex == null
+				? null
+				: jandexIndex.getClassByName( DotName.createSimple( classDetails.getName() ) );
+		if ( classInfo == null ) {
+			// not known to Jandex (e.g. dynamic models) - check the members
+			return determineImplicitAccessTypeFromMembers( classDetails );
+		}
+
+		final Map<DotName, List<AnnotationInstance>> annotationsMap = classInfo.annotationsMap();
+		boolean fieldPlacement = false;
+		boolean methodPlacement = false;
+		for ( int i = 0; i < ID_ANNOTATIONS.length; i++ ) {
+			final List<AnnotationInstance> usages = annotationsMap.get( ID_ANNOTATIONS[i] );
+			if ( usages == null ) {
+				continue;
+			}
+			for ( int u = 0; u < usages.size(); u++ ) {
+				final AnnotationTarget.Kind targetKind = usages.get( u ).target().kind();
+				if ( targetKind == AnnotationTarget.Kind.METHOD ) {
+					methodPlacement = true;
+				}
+				else if ( targetKind == AnnotationTarget.Kind.FIELD ) {
+					fieldPlacement = true;
+				}
+			}
+		}
+
+		// methods are checked first, matching `#determineImplicitAccessTypeFromMembers`
+		if ( methodPlacement ) {
+			return AccessType.PROPERTY;
+		}
+		if ( fieldPlacement ) {
+			return AccessType.FIELD;
+		}
+		return null;
+	}
+
+	private static AccessType determineImplicitAccessTypeFromMembers(ClassDetails classDetails) {
+		final List<MethodDetails> methods = classDetails.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails methodDetails = methods.get( i );
+			if ( methodDetails.getAnnotation( JpaAnnotations.ID ) != null
+					|| methodDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
+				return AccessType.PROPERTY;
+			}
+		}
+
+		final List<FieldDetails> fields = classDetails.getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			final FieldDetails fieldDetails = fields.get( i );
+			if ( fieldDetails.getAnnotation( JpaAnnotations.ID ) != null
+					|| fieldDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
+				return AccessType.FIELD;
+			}
+		}
+
+		return null;
+	}
+
+	private static class ClassAccess {
+		private final AccessType explicitAccessType;
+		private final AccessType implicitAccessType;
+
+		private ClassAccess(AccessType explicitAccessType, AccessType implicitAccessType) {
+			this.explicitAccessType = explicitAccessType;
+			this.implicitAccessType = implicitAccessType;
+		}
+	}
+}
@@ -7,15 +7,9 @@
 package org.hibernate.models.orm.internal;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.util.Locale;
 import java.util.function.Consumer;
 
-import org.hibernate.models.orm.spi.HibernateAnnotations;
 import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
-import org.hibernate.models.orm.spi.JpaAnnotations;
-import org.hibernate.models.source.AnnotationAccessException;
-import org.hibernate.models.source.internal.explicit.AnnotationDescriptorImpl;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationUsage;
 
@@ -57,37 +51,21 @@ public class AnnotationHelper {
 		return createOrmDescriptor( javaType, null );
 	}
 
+	/**
+	 * Creates a lazy descriptor for JPA and Hibernate annotations - the descriptor is
+	 * only built when first used.
+	 *
+	 * @see OrmAnnotationCatalog
+	 */
 	public static <A extends Annotation> AnnotationDescriptor<A> createOrmDescriptor(
 			Class<A> javaType,
 			AnnotationDescriptor<?> repeatableContainer) {
 		assert javaType != null;
 
-		return AnnotationDescriptorImpl.buildDescriptor( javaType, repeatableContainer );
+		return OrmAnnotationCatalog.register( javaType, repeatableContainer );
 	}
 
 	public static void forEachOrmAnnotation(Consumer<AnnotationDescriptor<?>> consumer) {
-		forEachOrmAnnotation( JpaAnnotations.class, consumer );
-		forEachOrmAnnotation( HibernateAnnotations.class, consumer );
+		OrmAnnotationCatalog.forEachDescriptor( consumer );
 	}
-
-	private static void forEachOrmAnnotation(Class<?> declarer, Consumer<AnnotationDescriptor<?>> consumer) {
-		for ( Field field : declarer.getFields() ) {
-			if ( AnnotationDescriptor.class.equals( field.getType() ) ) {
-				try {
-					consumer.accept( (AnnotationDescriptor<?>) field.get( null ) );
-				}
-				catch (IllegalAccessException e) {
-					throw new AnnotationAccessException(
-							String.format(
-									Locale.ROOT,
-									"Unable to access standard annotation descriptor field - %s",
-									field.getName()
-							),
-							e
-					);
-				}
-			}
-		}
-	}
-
 }
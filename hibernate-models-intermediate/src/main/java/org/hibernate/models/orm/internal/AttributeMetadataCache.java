@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.hibernate.models.orm.spi.AttributeMetadata;
+import org.hibernate.models.orm.spi.AttributeMetadataResolver;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Cache of the resolved {@linkplain AttributeMetadata attributes} of managed types which
+ * are shared - e.g. a mapped-superclass extended by many root entities or an embeddable
+ * referenced from many embedded attributes.
+ * <p/>
+ * The attributes of a managed type depend only on its class and its effective
+ * {@linkplain AccessType access type}, so they are resolved once per combination.
+ *
+ * @author Steve Ebersole
+ */
+public class AttributeMetadataCache implements AttributeMetadataResolver {
+	private static final AccessType[] ACCESS_TYPES = AccessType.values();
+
+	// attributes indexed by access type ordinal
+	private final Map<ClassDetails, AtomicReferenceArray<List<AttributeMetadata>>> attributesByType = new ConcurrentHashMap<>();
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Should two threads race to resolve the same attributes, both get the first stored result.
+	 */
+	@Override
+	public List<AttributeMetadata> resolveAttributes(
+			ClassDetails classDetails,
+			AccessType accessType,
+			Supplier<List<AttributeMetadata>> resolver) {
+		final AtomicReferenceArray<List<AttributeMetadata>> attributesByAccessType = attributesByType.computeIfAbsent(
+				classDetails,
+				(type) -> new AtomicReferenceArray<>( ACCESS_TYPES.length )
+		);
+
+		final int position = accessType.ordinal();
+		final List<AttributeMetadata> existing = attributesByAccessType.get( position );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final List<AttributeMetadata> resolved = Collections.unmodifiableList( resolver.get() );
+		if ( attributesByAccessType.compareAndSet( position, null, resolved ) ) {
+			return resolved;
+		}
+		return attributesByAccessType.get( position );
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.models.orm.MultipleAttributeNaturesException;
+import org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.MemberDetails;
+
+import static org.hibernate.models.orm.internal.OrmModelLogging.ORM_MODEL_LOGGER;
+
+/**
+ * Determines the {@linkplain AttributeNature nature} of a persistent attribute from the
+ * annotations on its backing member.
+ * <p/>
+ * Each annotation which says something about the nature is cataloged once, up front,
+ * along with what it says.  Determining the nature is then a single pass over the
+ * annotations actually present on the member.
+ *
+ * @author Steve Ebersole
+ */
+public class AttributeNatureResolver {
+	private static final Map<Class<? extends Annotation>, NatureMarker> MARKERS = new HashMap<>();
+
+	static {
+		// explicit natures
+		explicit( JpaAnnotations.BASIC, AttributeNature.BASIC );
+		explicit( JpaAnnotations.EMBEDDED, AttributeNature.EMBEDDED );
+		explicit( JpaAnnotations.EMBEDDED_ID, AttributeNature.EMBEDDED );
+		explicit( HibernateAnnotations.ANY, AttributeNature.ANY );
+		explicit( JpaAnnotations.ONE_TO_ONE, AttributeNature.TO_ONE );
+		explicit( JpaAnnotations.MANY_TO_ONE, AttributeNature.TO_ONE );
+		plural( JpaAnnotations.ONE_TO_MANY );
+		plural( JpaAnnotations.MANY_TO_MANY );
+		plural( JpaAnnotations.ELEMENT_COLLECTION );
+		plural( HibernateAnnotations.MANY_TO_ANY );
+
+		// annotations implying a nature.  these could apply to the element or index
+		// of a collection, so they only count when the attribute is not plural
+		implicit( JpaAnnotations.TEMPORAL, AttributeNature.BASIC );
+		implicit( JpaAnnotations.LOB, AttributeNature.BASIC );
+		implicit( JpaAnnotations.ENUMERATED, AttributeNature.BASIC );
+		implicit( JpaAnnotations.CONVERT, AttributeNature.BASIC );
+		implicit( JpaAnnotations.VERSION, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.GENERATED, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.NATIONALIZED, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.TZ_COLUMN, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.TZ_STORAGE, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.TYPE, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.TENANT_ID, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.JAVA_TYPE, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.JDBC_TYPE_CODE, AttributeNature.BASIC );
+		implicit( HibernateAnnotations.JDBC_TYPE, AttributeNature.BASIC );
+
+		implicit( HibernateAnnotations.EMBEDDABLE_INSTANTIATOR, AttributeNature.EMBEDDED );
+		implicit( HibernateAnnotations.COMPOSITE_TYPE, AttributeNature.EMBEDDED );
+
+		implicit( HibernateAnnotations.ANY_DISCRIMINATOR, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_DISCRIMINATOR_VALUE, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_DISCRIMINATOR_VALUES, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_KEY_JAVA_TYPE, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_KEY_JAVA_CLASS, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_KEY_JDBC_TYPE, AttributeNature.ANY );
+		implicit( HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE, AttributeNature.ANY );
+	}
+
+	private static void explicit(AnnotationDescriptor<?> descriptor, AttributeNature nature) {
+		MARKERS.put( descriptor.getAnnotationType(), new NatureMarker( nature, false ) );
+	}
+
+	private static void plural(AnnotationDescriptor<?> descriptor) {
+		MARKERS.put( descriptor.getAnnotationType(), new NatureMarker( AttributeNature.PLURAL, false ) );
+	}
+
+	private static void implicit(AnnotationDescriptor<?> descriptor, AttributeNature nature) {
+		MARKERS.put( descriptor.getAnnotationType(), new NatureMarker( nature, true ) );
+	}
+
+	private AttributeNatureResolver() {
+		// disallow direct instantiation
+	}
+
+	/**
+	 * Determine the attribute's nature - is it a basic mapping, an embeddable, ...?
+	 *
+	 * Also performs some simple validation around multiple natures being indicated
+	 *
+	 * @throws MultipleAttributeNaturesException If the annotations indicate more than one nature
+	 */
+	public static AttributeNature determineAttributeNature(MemberDetails backingMember) {
+		final NatureCollector collector = new NatureCollector();
+		backingMember.forEachDeclaredAnnotation( collector );
+
+		final EnumSet<AttributeNature> natures = collector.explicitNatures;
+		if ( !natures.contains( AttributeNature.EMBEDDED ) ) {
+			final ClassDetails type = backingMember.getType();
+			if ( type != null && type.getAnnotation( JpaAnnotations.EMBEDDABLE ) != null ) {
+				natures.add( AttributeNature.EMBEDDED );
+			}
+		}
+
+		if ( !natures.contains( AttributeNature.PLURAL ) ) {
+			natures.addAll( collector.implicitNatures );
+		}
+
+		switch ( natures.size() ) {
+			case 0: {
+				ORM_MODEL_LOGGER.debugf(
+						"Implicitly interpreting attribute `%s` as BASIC",
+						backingMember.resolveAttributeName()
+				);
+				return AttributeNature.BASIC;
+			}
+			case 1: {
+				return natures.iterator().next();
+			}
+			default: {
+				throw new MultipleAttributeNaturesException( backingMember.resolveAttributeName(), natures );
+			}
+		}
+	}
+
+	private static class NatureMarker {
+		private final AttributeNature nature;
+		private final boolean implicit;
+
+		private NatureMarker(AttributeNature nature, boolean implicit) {
+			this.nature = nature;
+			this.implicit = implicit;
+		}
+	}
+
+	private static class NatureCollector implements Consumer<AnnotationUsage<?>> {
+		private final EnumSet<AttributeNature> explicitNatures = EnumSet.noneOf( AttributeNature.class );
+		private final EnumSet<AttributeNature> implicitNatures = EnumSet.noneOf( AttributeNature.class );
+
+		@Override
+		public void accept(AnnotationUsage<?> usage) {
+			final NatureMarker marker = MARKERS.get( usage.getAnnotationDescriptor().getAnnotationType() );
+			if ( marker != null ) {
+				( marker.implicit ? implicitNatures : explicitNatures ).add( marker.nature );
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.util.List;
+
+import org.hibernate.models.orm.spi.AttributeMetadata;
+import org.hibernate.models.orm.spi.EmbeddableTypeMetadata;
+import org.hibernate.models.orm.spi.OrmModelBuildingContext;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * EmbeddableTypeMetadata for a single embedded reference.
+ * <p/>
+ * Instances are cheap - the attributes are resolved once per embeddable class and access type
+ * through the {@linkplain OrmModelBuildingContext#getAttributeMetadataResolver() cache} and the
+ * role and path bases are only built when asked for.
+ *
+ * @author Steve Ebersole
+ */
+public class EmbeddableTypeMetadataImpl extends AbstractManagedTypeMetadata implements EmbeddableTypeMetadata {
+	private final AccessType accessType;
+
+	/**
+	 * @param classDetails The Embeddable descriptor
+	 * @param container The managed type containing the embedded attribute
+	 * @param attributeName The name of the embedded attribute
+	 */
+	public EmbeddableTypeMetadataImpl(
+			ClassDetails classDetails,
+			AbstractManagedTypeMetadata container,
+			String attributeName,
+			OrmModelBuildingContext modelContext) {
+		super( classDetails, container, attributeName, modelContext );
+
+		final AccessType explicitAccessType = modelContext.getAccessTypeResolver().getExplicitAccessType( classDetails );
+		this.accessType = explicitAccessType != null ? explicitAccessType : container.getAccessType();
+	}
+
+	@Override
+	public AccessType getAccessType() {
+		return accessType;
+	}
+
+	@Override
+	protected List<AttributeMetadata> buildAttributeList() {
+		return getModelContext().getAttributeMetadataResolver().resolveAttributes(
+				getClassDetails(),
+				accessType,
+				this::resolveAttributes
+		);
+	}
+}
@@ -7,24 +7,20 @@
 package org.hibernate.models.orm.internal;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import org.hibernate.models.orm.AccessTypeDeterminationException;
+import org.hibernate.models.orm.spi.AccessTypeResolver;
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
-import org.hibernate.models.source.spi.AnnotationTarget;
-import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
-import org.hibernate.models.source.spi.FieldDetails;
 import org.hibernate.models.orm.spi.JpaAnnotations;
-import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
 import org.hibernate.internal.util.collections.CollectionHelper;
 
-import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 
 import static org.hibernate.models.source.internal.SourceModelLogging.SOURCE_MODEL_LOGGER;
@@ -138,28 +134,19 @@ public class EntityHierarchyBuilder {
 	private AccessType determineDefaultAccessTypeForHierarchy(ClassDetails rootEntityType) {
 		assert rootEntityType != null;
 
+		final AccessTypeResolver accessTypeResolver = modelContext.getAccessTypeResolver();
 		ClassDetails current = rootEntityType;
 		while ( current != null ) {
 			// look for `@Access` on the class
-			final AnnotationUsage<Access> accessAnnotation = current.getAnnotation( JpaAnnotations.ACCESS );
-			if ( accessAnnotation != null ) {
-				return (AccessType) accessAnnotation.getAttributeValue( "value" ).getValue();
+			final AccessType explicitAccessType = accessTypeResolver.getExplicitAccessType( current );
+			if ( explicitAccessType != null ) {
+				return explicitAccessType;
 			}
 
 			// look for `@Id` or `@EmbeddedId`
-			final AnnotationTarget idMember = determineIdMember( current );
-			if ( idMember != null ) {
-				switch ( idMember.getKind() ) {
-					case FIELD: {
-						return AccessType.FIELD;
-					}
-					case METHOD: {
-						return AccessType.PROPERTY;
-					}
-					default: {
-						throw new IllegalStateException( "@Id / @EmbeddedId found on target other than field or method : " + idMember );
-					}
-				}
+			final AccessType implicitAccessType = accessTypeResolver.getImplicitAccessType( current );
+			if ( implicitAccessType != null ) {
+				return implicitAccessType;
 			}
 
 			current = current.getSuperType();
@@ -172,38 +159,17 @@ public class EntityHierarchyBuilder {
 		throw new AccessTypeDeterminationException( rootEntityType );
 	}
 
-	private AnnotationTarget determineIdMember(ClassDetails current) {
-		final List<MethodDetails> methods = current.getMethods();
-		for ( int i = 0; i < methods.size(); i++ ) {
-			final MethodDetails methodDetails = methods.get( i );
-			if ( methodDetails.getAnnotation( JpaAnnotations.ID ) != null
-					|| methodDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
-				return methodDetails;
-			}
-		}
-
-		final List<FieldDetails> fields = current.getFields();
-		for ( int i = 0; i < fields.size(); i++ ) {
-			final FieldDetails fieldDetails = fields.get( i );
-			if ( fieldDetails.getAnnotation( JpaAnnotations.ID ) != null
-					|| fieldDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
-				return fieldDetails;
-			}
-		}
-
-		return null;
-	}
-
 	private Set<ClassDetails> collectRootEntityTypes() {
 		return collectRootEntityTypes( modelContext.getSourceModel().getClassDetailsRegistry() );
 	}
 
 	private static Set<ClassDetails> collectRootEntityTypes(ClassDetailsRegistry classDetailsRegistry) {
 		final Set<ClassDetails> collectedTypes = new HashSet<>();
+		final TypeHierarchyIndex typeHierarchyIndex = classDetailsRegistry.getTypeHierarchyIndex();
 
 		classDetailsRegistry.forEachClassDetails( (managedType) -> {
 			if ( managedType.getAnnotation( JpaAnnotations.ENTITY ) != null
-					&& isRoot( managedType ) ) {
+					&& isRoot( managedType, typeHierarchyIndex ) ) {
 				collectedTypes.add( managedType );
 			}
 		} );
@@ -211,6 +177,15 @@ public class EntityHierarchyBuilder {
 		return collectedTypes;
 	}
 
+	/**
+	 * Form of {@link #isRoot(ClassDetails)} using the pre-computed root-entity lookup
+	 * of the given {@code typeHierarchyIndex}, rather than walking the super-types.
+	 */
+	public static boolean isRoot(ClassDetails classInfo, TypeHierarchyIndex typeHierarchyIndex) {
+		final ClassDetails superType = classInfo.getSuperType();
+		return superType == null || typeHierarchyIndex.findRootType( superType, JpaAnnotations.ENTITY ) == null;
+	}
+
 	public static boolean isRoot(ClassDetails classInfo) {
 		// perform a series of opt-out checks against the super-type hierarchy
 
@@ -11,6 +11,8 @@ import java.util.function.Consumer;
 
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.models.orm.internal.usage.CacheableUsage;
+import org.hibernate.models.orm.internal.usage.InheritanceUsage;
 import org.hibernate.models.orm.spi.Caching;
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.EntityTypeMetadata;
@@ -18,7 +20,6 @@ import org.hibernate.models.orm.spi.HibernateAnnotations;
 import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.orm.spi.NaturalIdCaching;
-import org.hibernate.models.source.internal.AnnotationUsageHelper;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
@@ -30,8 +31,6 @@ import jakarta.persistence.InheritanceType;
 import jakarta.persistence.SharedCacheMode;
 
 import static org.hibernate.models.orm.internal.OrmModelLogging.ORM_MODEL_LOGGER;
-import static org.hibernate.models.source.internal.AnnotationUsageHelper.extractValue;
-import static org.hibernate.models.source.spi.AnnotationAttributeDescriptor.VALUE;
 
 /**
  * @author Steve Ebersole
@@ -87,7 +86,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 					cached = true;
 				}
 				else {
-					cached = AnnotationUsageHelper.extractValue( cacheableAnnotation, VALUE );
+					cached = CacheableUsage.VALUE.getBoolean( cacheableAnnotation );
 				}
 				if ( cached ) {
 					this.caching = new Caching( cacheAnnotation, implicitCacheAccessType, rootEntityClassDetails.getName() );
@@ -106,7 +105,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 				// Caching is enabled for all entities for <code>Cacheable(true)</code>
 				// is specified.  All other entities are not cached.
 				final boolean cached = cacheableAnnotation != null
-						&& AnnotationUsageHelper.extractValue( cacheableAnnotation, VALUE, true );
+						&& CacheableUsage.VALUE.getBoolean( cacheableAnnotation, true );
 				if ( cached ) {
 					this.caching = new Caching( cacheAnnotation, implicitCacheAccessType, rootEntityClassDetails.getName() );
 					this.naturalIdCaching = new NaturalIdCaching( naturalIdCacheAnnotation, caching );
@@ -150,7 +149,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 			return null;
 		}
 
-		return AnnotationUsageHelper.extractValue( localAnnotation, "strategy" );
+		return InheritanceUsage.STRATEGY.getValue( localAnnotation );
 	}
 
 	private void ensureNoInheritanceAnnotationsOnSubclasses(IdentifiableTypeMetadata type) {
@@ -6,12 +6,10 @@
  */
 package org.hibernate.models.orm.internal;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.model.naming.EntityNaming;
 import org.hibernate.models.internal.StringHelper;
-import org.hibernate.models.orm.spi.AttributeMetadata;
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.EntityTypeMetadata;
 import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
@@ -38,8 +36,6 @@ public class EntityTypeMetadataImpl
 	private final String entityName;
 	private final String jpaEntityName;
 
-	private final List<AttributeMetadata> attributeList;
-
 //	private final String proxy;
 //
 //	private final String customLoaderQueryName;
@@ -125,8 +121,6 @@ public class EntityTypeMetadataImpl
 //		else {
 //			this.discriminatorMatchValue = null;
 //		}
-
-		this.attributeList = resolveAttributes();
 	}
 
 	/**
@@ -148,8 +142,6 @@ public class EntityTypeMetadataImpl
 
 		final AnnotationUsage<Entity> entityAnnotation = classDetails.getAnnotation( JpaAnnotations.ENTITY );
 		this.jpaEntityName = determineJpaEntityName( entityAnnotation, entityName );
-
-		this.attributeList = resolveAttributes();
 	}
 
 	private String determineJpaEntityName(AnnotationUsage<Entity> entityAnnotation, String entityName) {
@@ -160,11 +152,6 @@ public class EntityTypeMetadataImpl
 		return unqualify( entityName );
 	}
 
-	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
-	}
-
 //	private String determineCustomLoader() {
 //		final AnnotationUsage<Loader> loaderAnnotation = getManagedClass().getAnnotation( HibernateAnnotations.LOADER );
 //		if ( loaderAnnotation != null ) {
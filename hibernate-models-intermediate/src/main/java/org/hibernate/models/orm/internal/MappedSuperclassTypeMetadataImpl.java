@@ -25,8 +25,6 @@ public class MappedSuperclassTypeMetadataImpl
 		extends AbstractIdentifiableTypeMetadata
 		implements MappedSuperclassTypeMetadata {
 
-	private final List<AttributeMetadata> attributeList;
-
 	public MappedSuperclassTypeMetadataImpl(
 			ClassDetails classDetails,
 			EntityHierarchy hierarchy,
@@ -34,8 +32,6 @@ public class MappedSuperclassTypeMetadataImpl
 			Consumer<IdentifiableTypeMetadata> typeConsumer,
 			OrmModelBuildingContext modelContext) {
 		super( classDetails, hierarchy, false, defaultAccessType, typeConsumer, modelContext );
-
-		this.attributeList = resolveAttributes();
 	}
 
 	public MappedSuperclassTypeMetadataImpl(
@@ -45,12 +41,18 @@ public class MappedSuperclassTypeMetadataImpl
 			Consumer<IdentifiableTypeMetadata> typeConsumer,
 			OrmModelBuildingContext modelContext) {
 		super( classDetails, hierarchy, superType, typeConsumer, modelContext );
-
-		this.attributeList = resolveAttributes();
 	}
 
+	/**
+	 * A mapped-superclass may be extended by any number of hierarchies.  Its attributes only
+	 * depend on the class and the effective access type though, so share them.
+	 */
 	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
+	protected List<AttributeMetadata> buildAttributeList() {
+		return getModelContext().getAttributeMetadataResolver().resolveAttributes(
+				getClassDetails(),
+				getAccessType(),
+				this::resolveAttributes
+		);
 	}
 }
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+
+import org.jboss.jandex.DotName;
+
+/**
+ * Catalog of the {@linkplain OrmAnnotationDescriptor descriptors} declared by
+ * {@link JpaAnnotations} and {@link HibernateAnnotations}, in ordinal order
+ * and indexed by {@linkplain DotName name}.
+ * <p/>
+ * Descriptors are added as the declaring interfaces initialize.  Adding one is cheap -
+ * the descriptor itself is only built when first used.
+ * <p/>
+ * Ordinals follow a fixed order - the JPA annotations, then the Hibernate annotations,
+ * each in declaration order - regardless of which interface happens to initialize first.
+ *
+ * @author Steve Ebersole
+ */
+public class OrmAnnotationCatalog {
+	private static final String JPA_PACKAGE = "jakarta.persistence.";
+
+	private static final List<OrmAnnotationDescriptor<?>> JPA_DESCRIPTORS = new ArrayList<>( 96 );
+	private static final List<OrmAnnotationDescriptor<?>> HIBERNATE_DESCRIPTORS = new ArrayList<>( 192 );
+	private static final Map<DotName, OrmAnnotationDescriptor<?>> DESCRIPTORS_BY_NAME = new ConcurrentHashMap<>( 256 );
+
+	private static volatile int hibernateOrdinalOffset = -1;
+
+	private OrmAnnotationCatalog() {
+		// disallow direct instantiation
+	}
+
+	/**
+	 * Create and catalog the descriptor for the given annotation type
+	 */
+	public static synchronized <A extends Annotation> AnnotationDescriptor<A> register(
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer) {
+		final boolean jpaAnnotation = annotationType.getName().startsWith( JPA_PACKAGE );
+		final List<OrmAnnotationDescriptor<?>> family = jpaAnnotation ? JPA_DESCRIPTORS : HIBERNATE_DESCRIPTORS;
+		final OrmAnnotationDescriptor<A> descriptor = new OrmAnnotationDescriptor<>(
+				annotationType,
+				repeatableContainer,
+				jpaAnnotation,
+				family.size()
+		);
+		family.add( descriptor );
+		DESCRIPTORS_BY_NAME.put( descriptor.getDotName(), descriptor );
+		return descriptor;
+	}
+
+	/**
+	 * The ordinal of a Hibernate annotation is offset by the number of JPA annotations.
+	 * That number is fixed once both declaring interfaces have initialized, so it is
+	 * only computed once.
+	 */
+	static int getHibernateOrdinalOffset() {
+		int offset = hibernateOrdinalOffset;
+		if ( offset < 0 ) {
+			ensureInitialized();
+			synchronized ( OrmAnnotationCatalog.class ) {
+				offset = JPA_DESCRIPTORS.size();
+			}
+			hibernateOrdinalOffset = offset;
+		}
+		return offset;
+	}
+
+	/**
+	 * Find the descriptor for the named annotation, or {@code null} if the
+	 * annotation is not a JPA or Hibernate annotation.
+	 */
+	public static AnnotationDescriptor<?> findDescriptor(DotName annotationName) {
+		ensureInitialized();
+		return DESCRIPTORS_BY_NAME.get( annotationName );
+	}
+
+	/**
+	 * Visit each cataloged descriptor, in ordinal order
+	 */
+	public static void forEachDescriptor(Consumer<AnnotationDescriptor<?>> consumer) {
+		ensureInitialized();
+
+		final OrmAnnotationDescriptor<?>[] descriptors;
+		synchronized ( OrmAnnotationCatalog.class ) {
+			descriptors = new OrmAnnotationDescriptor<?>[JPA_DESCRIPTORS.size() + HIBERNATE_DESCRIPTORS.size()];
+			for ( int i = 0; i < JPA_DESCRIPTORS.size(); i++ ) {
+				descriptors[i] = JPA_DESCRIPTORS.get( i );
+			}
+			for ( int i = 0; i < HIBERNATE_DESCRIPTORS.size(); i++ ) {
+				descriptors[JPA_DESCRIPTORS.size() + i] = HIBERNATE_DESCRIPTORS.get( i );
+			}
+		}
+		for ( int i = 0; i < descriptors.length; i++ ) {
+			consumer.accept( descriptors[i] );
+		}
+	}
+
+	private static void ensureInitialized() {
+		// reading a constant forces the declaring interface to initialize,
+		// which registers all of its descriptors.  never call this while
+		// holding the catalog lock - initialization itself needs it
+		if ( JpaAnnotations.ACCESS == null || HibernateAnnotations.ANY == null ) {
+			throw new IllegalStateException( "ORM annotation descriptors not initialized" );
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.models.internal.IndexedBiConsumer;
+import org.hibernate.models.source.internal.explicit.AnnotationDescriptorImpl;
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import org.jboss.jandex.DotName;
+
+/**
+ * Lazy holder for the descriptor of a JPA or Hibernate annotation, as exposed through
+ * {@link org.hibernate.models.orm.spi.JpaAnnotations} and
+ * {@link org.hibernate.models.orm.spi.HibernateAnnotations}.
+ * <p/>
+ * The annotation type, its name and its repeatable container are known up front.
+ * The full descriptor (attributes, targets, etc.) is only built the first time
+ * something asks for it.
+ *
+ * @see OrmAnnotationCatalog
+ *
+ * @author Steve Ebersole
+ */
+public class OrmAnnotationDescriptor<A extends Annotation> implements AnnotationDescriptor<A> {
+	private final Class<A> annotationType;
+	private final AnnotationDescriptor<?> repeatableContainer;
+	private final DotName dotName;
+	private final boolean jpaAnnotation;
+	private final int familyPosition;
+
+	private volatile AnnotationDescriptor<A> delegate;
+
+	public OrmAnnotationDescriptor(
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer,
+			boolean jpaAnnotation,
+			int familyPosition) {
+		this.annotationType = annotationType;
+		this.repeatableContainer = repeatableContainer;
+		this.dotName = DotName.createSimple( annotationType.getName() );
+		this.jpaAnnotation = jpaAnnotation;
+		this.familyPosition = familyPosition;
+	}
+
+	/**
+	 * The position of this descriptor within the {@linkplain OrmAnnotationCatalog catalog}.
+	 * JPA annotations come first, followed by the Hibernate annotations.
+	 */
+	public int getOrdinal() {
+		return jpaAnnotation
+				? familyPosition
+				: OrmAnnotationCatalog.getHibernateOrdinalOffset() + familyPosition;
+	}
+
+	public DotName getDotName() {
+		return dotName;
+	}
+
+	/**
+	 * Whether the full descriptor has been built yet
+	 */
+	public boolean isResolved() {
+		return delegate != null;
+	}
+
+	private AnnotationDescriptor<A> resolveDelegate() {
+		AnnotationDescriptor<A> resolved = delegate;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = delegate;
+				if ( resolved == null ) {
+					resolved = AnnotationDescriptorImpl.buildDescriptor( annotationType, repeatableContainer );
+					delegate = resolved;
+				}
+			}
+		}
+		return resolved;
+	}
+
+	@Override
+	public String getName() {
+		return annotationType.getName();
+	}
+
+	@Override
+	public Class<A> getAnnotationType() {
+		return annotationType;
+	}
+
+	@Override
+	public AnnotationDescriptor<?> getRepeatableContainer() {
+		return repeatableContainer;
+	}
+
+	@Override
+	public Map<Class<? extends Annotation>, AnnotationUsage<?>> getMetaAnnotations() {
+		return resolveDelegate().getMetaAnnotations();
+	}
+
+	@Override
+	public EnumSet<Kind> getAllowableTargets() {
+		return resolveDelegate().getAllowableTargets();
+	}
+
+	@Override
+	public boolean isInherited() {
+		return resolveDelegate().isInherited();
+	}
+
+	@Override
+	public List<AnnotationAttributeDescriptor> getAttributes() {
+		return resolveDelegate().getAttributes();
+	}
+
+	@Override
+	public AnnotationAttributeDescriptor getAttribute(String name) {
+		return resolveDelegate().getAttribute( name );
+	}
+
+	@Override
+	public int getAttributeOrdinal(String name) {
+		return resolveDelegate().getAttributeOrdinal( name );
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getAnnotation(AnnotationDescriptor<X> type) {
+		return resolveDelegate().getAnnotation( type );
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getAnnotation(Class<X> type) {
+		return resolveDelegate().getAnnotation( type );
+	}
+
+	@Override
+	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotations(AnnotationDescriptor<X> type) {
+		return resolveDelegate().getRepeatedAnnotations( type );
+	}
+
+	@Override
+	public <X extends Annotation> List<AnnotationUsage<X>> getRepeatedAnnotations(Class<X> type) {
+		return resolveDelegate().getRepeatedAnnotations( type );
+	}
+
+	@Override
+	public <X extends Annotation> void forEachAnnotation(AnnotationDescriptor<X> type, Consumer<AnnotationUsage<X>> consumer) {
+		resolveDelegate().forEachAnnotation( type, consumer );
+	}
+
+	@Override
+	public <X extends Annotation> void forEachAnnotation(Class<X> type, Consumer<AnnotationUsage<X>> consumer) {
+		resolveDelegate().forEachAnnotation( type, consumer );
+	}
+
+	@Override
+	public <X extends Annotation, C> void forEachAnnotation(
+			AnnotationDescriptor<X> type,
+			C context,
+			IndexedBiConsumer<AnnotationUsage<X>, C> consumer) {
+		resolveDelegate().forEachAnnotation( type, context, consumer );
+	}
+
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		return resolveDelegate().getAllAnnotationUsages();
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotation(
+			AnnotationDescriptor<X> type,
+			String matchName,
+			String attributeToMatch) {
+		return resolveDelegate().getNamedAnnotation( type, matchName, attributeToMatch );
+	}
+
+	@Override
+	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotation(
+			Class<X> type,
+			String matchName,
+			String attributeToMatch) {
+		return resolveDelegate().getNamedAnnotation( type, matchName, attributeToMatch );
+	}
+
+	@Override
+	public String toString() {
+		return "AnnotationDescriptor(" + annotationType.getName() + ")";
+	}
+}
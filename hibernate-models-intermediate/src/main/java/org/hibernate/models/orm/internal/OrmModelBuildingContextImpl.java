@@ -6,7 +6,12 @@
  */
 package org.hibernate.models.orm.internal;
 
+import java.util.function.Supplier;
+
+import org.hibernate.models.orm.spi.AccessTypeResolver;
+import org.hibernate.models.orm.spi.AttributeMetadataResolver;
 import org.hibernate.models.orm.spi.ClassmateContext;
+import org.hibernate.models.orm.spi.JandexTypeResolver;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
 import org.hibernate.models.orm.spi.SourceModel;
 import org.hibernate.models.spi.ClassLoading;
@@ -19,14 +24,27 @@ import org.jboss.jandex.IndexView;
 public class OrmModelBuildingContextImpl implements OrmModelBuildingContext {
 	private final SourceModel sourceModel;
 	private final ClassLoading classLoading;
-	private final IndexView jandexIndex;
+	private final Supplier<IndexView> jandexIndexAccess;
 	private final ClassmateContext classmateContext;
+	private final AttributeMetadataCache attributeMetadataCache = new AttributeMetadataCache();
+	private final AccessTypeCache accessTypeCache;
+	private final JandexTypeResolver jandexTypeResolver;
 
 	public OrmModelBuildingContextImpl(SourceModel sourceModel, ClassLoading classLoading, IndexView jandexIndex) {
+		this( sourceModel, classLoading, () -> jandexIndex );
+	}
+
+	/**
+	 * @param jandexIndexAccess Access to the Jandex index, e.g. {@link org.hibernate.models.source.spi.SourceModelBuildingContext#getJandexIndex()},
+	 * which may grow as classes are indexed on demand
+	 */
+	public OrmModelBuildingContextImpl(SourceModel sourceModel, ClassLoading classLoading, Supplier<IndexView> jandexIndexAccess) {
 		this.sourceModel = sourceModel;
 		this.classLoading = classLoading;
-		this.jandexIndex = jandexIndex;
+		this.jandexIndexAccess = jandexIndexAccess;
 		this.classmateContext = new ClassmateContext();
+		this.accessTypeCache = new AccessTypeCache( jandexIndexAccess );
+		this.jandexTypeResolver = new JandexTypeResolver( jandexIndexAccess );
 	}
 
 	@Override
@@ -41,11 +59,26 @@ public class OrmModelBuildingContextImpl implements OrmModelBuildingContext {
 
 	@Override
 	public IndexView getJandexIndex() {
-		return jandexIndex;
+		return jandexIndexAccess.get();
 	}
 
 	@Override
 	public ClassmateContext getClassmateContext() {
 		return classmateContext;
 	}
+
+	@Override
+	public AttributeMetadataResolver getAttributeMetadataResolver() {
+		return attributeMetadataCache;
+	}
+
+	@Override
+	public AccessTypeResolver getAccessTypeResolver() {
+		return accessTypeCache;
+	}
+
+	@Override
+	public JandexTypeResolver getJandexTypeResolver() {
+		return jandexTypeResolver;
+	}
 }
@@ -7,122 +7,150 @@
 package org.hibernate.models.orm.internal;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
+import java.util.Map;
 
 import org.hibernate.models.orm.AccessTypePlacementException;
+import org.hibernate.models.orm.internal.usage.AccessUsage;
+import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
-import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.orm.spi.PersistentAttributeMemberResolver;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
-import org.hibernate.models.source.spi.FieldDetails;
-import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.source.spi.MemberDetails;
-import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.MemberFilter;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 
-import static org.hibernate.models.source.spi.AnnotationAttributeDescriptor.VALUE;
-
 /**
  * Standard implementation of the PersistentAttributeMemberResolver contract
  * based strictly on the JPA specification.
+ * <p/>
+ * Each field and method is classified exactly once - whether it names its own
+ * {@linkplain Access access}, whether it is picked up by the class-level access type and
+ * whether it is {@linkplain jakarta.persistence.Transient transient}.  The members are then
+ * collected directly into a list of the exact size, explicitly accessed members first.
  *
  * @author Steve Ebersole
  */
-public class StandardPersistentAttributeMemberResolver extends AbstractPersistentAttributeMemberResolver {
+public class StandardPersistentAttributeMemberResolver implements PersistentAttributeMemberResolver {
 	/**
 	 * Singleton access
 	 */
 	public static final StandardPersistentAttributeMemberResolver INSTANCE = new StandardPersistentAttributeMemberResolver();
 
+	private static final byte SKIPPED = 0;
+	private static final byte EXPLICIT = 1;
+	private static final byte IMPLICIT = 2;
+
+	// members naming their own access are candidates regardless of the class-level access type
+	private static final MemberFilter EXPLICITLY_ACCESSED = MemberFilter.annotatedWith( JpaAnnotations.ACCESS );
+	private static final MemberFilter CLASS_LEVEL_ACCESSED = MemberFilter.PERSISTABLE.or( EXPLICITLY_ACCESSED );
+
 	@Override
-	protected List<MemberDetails> resolveAttributesMembers(
-			Function<FieldDetails,Boolean> transientFieldChecker,
-			Function<MethodDetails,Boolean> transientMethodChecker,
+	public List<MemberDetails> resolveAttributesMembers(
 			ClassDetails classDetails,
 			AccessType classLevelAccessType,
 			OrmModelBuildingContext processingContext) {
 		assert classLevelAccessType != null;
 
-		final LinkedHashMap<String,MemberDetails> results = new LinkedHashMap<>();
-
-		processAttributeLevelAccess(
-				results::put,
-				transientFieldChecker,
-				transientMethodChecker,
-				classDetails,
-				processingContext
+		// only build the details of members which could possibly be attributes
+		final List<MemberDetails> candidates = new ArrayList<>();
+		classDetails.forEachField(
+				classLevelAccessType == AccessType.FIELD ? CLASS_LEVEL_ACCESSED : EXPLICITLY_ACCESSED,
+				candidates::add
 		);
-
-		processClassLevelAccess(
-				results::containsKey,
-				results::put,
-				transientFieldChecker,
-				transientMethodChecker,
-				classDetails,
-				classLevelAccessType,
-				processingContext
+		classDetails.forEachMethod(
+				classLevelAccessType == AccessType.PROPERTY ? CLASS_LEVEL_ACCESSED : EXPLICITLY_ACCESSED,
+				candidates::add
 		);
+		final byte[] dispositions = new byte[candidates.size()];
+
+		int explicitCount = 0;
+		int implicitCount = 0;
+		for ( int i = 0; i < dispositions.length; i++ ) {
+			final byte disposition = classify( candidates.get( i ), classLevelAccessType, classDetails );
+			dispositions[i] = disposition;
+			if ( disposition == EXPLICIT ) {
+				explicitCount++;
+			}
+			else if ( disposition == IMPLICIT ) {
+				implicitCount++;
+			}
+		}
 
-		return new ArrayList<>( results.values() );
-	}
+		final List<MemberDetails> members = new ArrayList<>( explicitCount + implicitCount );
 
-	private <M extends MemberDetails> void processAttributeLevelAccess(
-			BiConsumer<String,MemberDetails> memberConsumer,
-			Function<FieldDetails,Boolean> transientFieldChecker,
-			Function<MethodDetails,Boolean> transientMethodChecker,
-			ClassDetails classDetails,
-			OrmModelBuildingContext processingContext) {
-		final List<FieldDetails> fields = classDetails.getFields();
-		for ( int i = 0; i < fields.size(); i++ ) {
-			final FieldDetails fieldDetails = fields.get( i );
-			processAttributeLevelAccessMember( fieldDetails, memberConsumer, transientFieldChecker, classDetails, processingContext );
+		// fields have unique names, so names only need tracking when explicitly accessed
+		// members are involved or when the members are methods (e.g. `isX()` and `getX()`)
+		final Map<String, Integer> positions = explicitCount > 0 || ( classLevelAccessType == AccessType.PROPERTY && implicitCount > 1 )
+				? new HashMap<>()
+				: null;
+
+		if ( explicitCount > 0 ) {
+			for ( int i = 0; i < dispositions.length; i++ ) {
+				if ( dispositions[i] != EXPLICIT ) {
+					continue;
+				}
+				final MemberDetails memberDetails = candidates.get( i );
+				final Integer existing = positions.putIfAbsent( memberDetails.resolveAttributeName(), members.size() );
+				if ( existing != null ) {
+					// the last explicitly accessed member for an attribute wins
+					members.set( existing, memberDetails );
+				}
+				else {
+					members.add( memberDetails );
+				}
+			}
 		}
 
-		final List<MethodDetails> methods = classDetails.getMethods();
-		for ( int i = 0; i < methods.size(); i++ ) {
-			final MethodDetails methodDetails = methods.get( i );
-			processAttributeLevelAccessMember( methodDetails, memberConsumer, transientMethodChecker, classDetails, processingContext );
+		if ( implicitCount > 0 ) {
+			for ( int i = 0; i < dispositions.length; i++ ) {
+				if ( dispositions[i] != IMPLICIT ) {
+					continue;
+				}
+				final MemberDetails memberDetails = candidates.get( i );
+				if ( positions != null
+						&& positions.putIfAbsent( memberDetails.resolveAttributeName(), members.size() ) != null ) {
+					// already processed
+					continue;
+				}
+				members.add( memberDetails );
+			}
 		}
+
+		return members;
 	}
 
-	private <M extends MemberDetails> void processAttributeLevelAccessMember(
-			M memberDetails,
-			BiConsumer<String,MemberDetails> memberConsumer,
-			Function<M,Boolean> transiencyChecker,
-			ClassDetails classDetails,
-			OrmModelBuildingContext processingContext) {
+	private static byte classify(
+			MemberDetails memberDetails,
+			AccessType classLevelAccessType,
+			ClassDetails classDetails) {
 		final AnnotationUsage<Access> access = memberDetails.getAnnotation( JpaAnnotations.ACCESS );
-		if ( access == null  ) {
-			return;
+		if ( access != null ) {
+			validateAttributeLevelAccess( memberDetails, AccessUsage.VALUE.getValue( access ), classDetails );
+			return isTransient( memberDetails ) ? SKIPPED : EXPLICIT;
 		}
 
-		final AccessType attributeAccessType = AnnotationUsageHelper.extractValue( access, VALUE );
-
-		validateAttributeLevelAccess(
-				memberDetails,
-				attributeAccessType,
-				classDetails,
-				processingContext
-		);
-
-		if ( transiencyChecker.apply( memberDetails ) ) {
-			// the field is @Transient
-			return;
+		final boolean classLevelSide = classLevelAccessType == AccessType.FIELD
+				? memberDetails.isField()
+				: !memberDetails.isField();
+		if ( !classLevelSide || !memberDetails.isPersistable() || isTransient( memberDetails ) ) {
+			return SKIPPED;
 		}
+		return IMPLICIT;
+	}
 
-		memberConsumer.accept( memberDetails.resolveAttributeName(), memberDetails );
+	private static boolean isTransient(MemberDetails memberDetails) {
+		return memberDetails.getAnnotation( JpaAnnotations.TRANSIENT ) != null;
 	}
 
-	private void validateAttributeLevelAccess(
+	private static void validateAttributeLevelAccess(
 			MemberDetails annotationTarget,
 			AccessType attributeAccessType,
-			ClassDetails classDetails,
-			OrmModelBuildingContext processingContext) {
+			ClassDetails classDetails) {
 		// Apply the checks defined in section `2.3.2 Explicit Access Type` of the persistence specification
 
 		// Mainly, it is never legal to:
@@ -134,58 +162,4 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 			throw new AccessTypePlacementException( classDetails, annotationTarget );
 		}
 	}
-
-	private void processClassLevelAccess(
-			Function<String,Boolean> alreadyProcessedChecker,
-			BiConsumer<String, MemberDetails> memberConsumer,
-			Function<FieldDetails,Boolean> transientFieldChecker,
-			Function<MethodDetails,Boolean> transientMethodChecker,
-			ClassDetails classDetails,
-			AccessType classLevelAccessType,
-			@SuppressWarnings("unused") OrmModelBuildingContext processingContext) {
-		if ( classLevelAccessType == AccessType.FIELD ) {
-			final List<FieldDetails> fields = classDetails.getFields();
-			for ( int i = 0; i < fields.size(); i++ ) {
-				final FieldDetails fieldDetails = fields.get( i );
-				if ( !fieldDetails.isPersistable() ) {
-					// the field cannot be a persistent attribute
-					continue;
-				}
-
-				final String attributeName = fieldDetails.resolveAttributeName();
-				if ( alreadyProcessedChecker.apply( attributeName ) ) {
-					continue;
-				}
-
-				if ( transientFieldChecker.apply( fieldDetails ) ) {
-					// the field is @Transient
-					continue;
-				}
-
-				memberConsumer.accept( attributeName, fieldDetails );
-			}
-		}
-		else {
-			assert classLevelAccessType == AccessType.PROPERTY;
-			final List<MethodDetails> methods = classDetails.getMethods();
-			for ( int i = 0; i < methods.size(); i++ ) {
-				final MethodDetails methodDetails = methods.get( i );
-				if ( !methodDetails.isPersistable() ) {
-					continue;
-				}
-
-				final String attributeName = methodDetails.resolveAttributeName();
-				if ( alreadyProcessedChecker.apply( attributeName ) ) {
-					continue;
-				}
-
-				if ( transientMethodChecker.apply( methodDetails ) ) {
-					// the method is @Transient
-					continue;
-				}
-
-				memberConsumer.accept( attributeName, methodDetails );
-			}
-		}
-	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+
+/**
+ * Typed view of a {@link Access @Access} usage
+ *
+ * @author Steve Ebersole
+ */
+public class AccessUsage {
+	public static final OrmAnnotationAttribute<Access, AccessType> VALUE = new OrmAnnotationAttribute<>( JpaAnnotations.ACCESS, "value" );
+
+	private final AnnotationUsage<Access> usage;
+
+	public AccessUsage(AnnotationUsage<Access> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<Access> getUsage() {
+		return usage;
+	}
+
+	public AccessType value() {
+		return VALUE.getValue( usage );
+	}
+}
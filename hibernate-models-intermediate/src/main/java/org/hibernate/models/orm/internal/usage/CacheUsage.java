@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+/**
+ * Typed view of a {@link Cache @Cache} usage
+ *
+ * @author Steve Ebersole
+ */
+public class CacheUsage {
+	public static final OrmAnnotationAttribute<Cache, CacheConcurrencyStrategy> USAGE = new OrmAnnotationAttribute<>( HibernateAnnotations.CACHE, "usage" );
+	public static final OrmAnnotationAttribute<Cache, String> REGION = new OrmAnnotationAttribute<>( HibernateAnnotations.CACHE, "region" );
+	public static final OrmAnnotationAttribute<Cache, Boolean> INCLUDE_LAZY = new OrmAnnotationAttribute<>( HibernateAnnotations.CACHE, "includeLazy" );
+	public static final OrmAnnotationAttribute<Cache, String> INCLUDE = new OrmAnnotationAttribute<>( HibernateAnnotations.CACHE, "include" );
+
+	private final AnnotationUsage<Cache> usage;
+
+	public CacheUsage(AnnotationUsage<Cache> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<Cache> getUsage() {
+		return usage;
+	}
+
+	public CacheConcurrencyStrategy usage() {
+		return USAGE.getValue( usage );
+	}
+
+	public String region() {
+		return REGION.getValue( usage );
+	}
+
+	public boolean includeLazy() {
+		return INCLUDE_LAZY.getBoolean( usage );
+	}
+
+	public String include() {
+		return INCLUDE.getValue( usage );
+	}
+}
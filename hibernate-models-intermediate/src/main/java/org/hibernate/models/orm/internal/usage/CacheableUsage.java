@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.Cacheable;
+
+/**
+ * Typed view of a {@link Cacheable @Cacheable} usage
+ *
+ * @author Steve Ebersole
+ */
+public class CacheableUsage {
+	public static final OrmAnnotationAttribute<Cacheable, Boolean> VALUE = new OrmAnnotationAttribute<>( JpaAnnotations.CACHEABLE, "value" );
+
+	private final AnnotationUsage<Cacheable> usage;
+
+	public CacheableUsage(AnnotationUsage<Cacheable> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<Cacheable> getUsage() {
+		return usage;
+	}
+
+	public boolean value() {
+		return VALUE.getBoolean( usage );
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.annotations.ConverterRegistration;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Typed view of a {@link ConverterRegistration @ConverterRegistration} usage
+ *
+ * @author Steve Ebersole
+ */
+public class ConverterRegistrationUsage {
+	public static final OrmAnnotationAttribute<ConverterRegistration, ClassDetails> CONVERTER = new OrmAnnotationAttribute<>( HibernateAnnotations.CONVERTER_REG, "converter" );
+	public static final OrmAnnotationAttribute<ConverterRegistration, ClassDetails> DOMAIN_TYPE = new OrmAnnotationAttribute<>( HibernateAnnotations.CONVERTER_REG, "domainType" );
+	public static final OrmAnnotationAttribute<ConverterRegistration, Boolean> AUTO_APPLY = new OrmAnnotationAttribute<>( HibernateAnnotations.CONVERTER_REG, "autoApply" );
+
+	private final AnnotationUsage<ConverterRegistration> usage;
+
+	public ConverterRegistrationUsage(AnnotationUsage<ConverterRegistration> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<ConverterRegistration> getUsage() {
+		return usage;
+	}
+
+	public ClassDetails converter() {
+		return CONVERTER.getValue( usage );
+	}
+
+	public ClassDetails domainType() {
+		return DOMAIN_TYPE.getValue( usage );
+	}
+
+	public boolean autoApply() {
+		return AUTO_APPLY.getBoolean( usage );
+	}
+}
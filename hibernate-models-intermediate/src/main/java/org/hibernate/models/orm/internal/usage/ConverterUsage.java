@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Typed view of a {@link Converter @Converter} usage
+ *
+ * @author Steve Ebersole
+ */
+public class ConverterUsage {
+	public static final OrmAnnotationAttribute<Converter, Boolean> AUTO_APPLY = new OrmAnnotationAttribute<>( JpaAnnotations.CONVERTER, "autoApply" );
+
+	private final AnnotationUsage<Converter> usage;
+
+	public ConverterUsage(AnnotationUsage<Converter> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<Converter> getUsage() {
+		return usage;
+	}
+
+	public boolean autoApply() {
+		return AUTO_APPLY.getBoolean( usage );
+	}
+}
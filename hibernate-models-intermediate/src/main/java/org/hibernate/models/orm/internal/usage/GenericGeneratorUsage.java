@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Typed view of a {@link GenericGenerator @GenericGenerator} usage
+ *
+ * @author Steve Ebersole
+ */
+public class GenericGeneratorUsage {
+	public static final OrmAnnotationAttribute<GenericGenerator, String> NAME = new OrmAnnotationAttribute<>( HibernateAnnotations.GENERIC_GENERATOR, "name" );
+	public static final OrmAnnotationAttribute<GenericGenerator, String> STRATEGY = new OrmAnnotationAttribute<>( HibernateAnnotations.GENERIC_GENERATOR, "strategy" );
+	public static final OrmAnnotationAttribute<GenericGenerator, ClassDetails> TYPE = new OrmAnnotationAttribute<>( HibernateAnnotations.GENERIC_GENERATOR, "type" );
+
+	private final AnnotationUsage<GenericGenerator> usage;
+
+	public GenericGeneratorUsage(AnnotationUsage<GenericGenerator> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<GenericGenerator> getUsage() {
+		return usage;
+	}
+
+	public String name() {
+		return NAME.getValue( usage );
+	}
+
+	public String strategy() {
+		return STRATEGY.getValue( usage );
+	}
+
+	public ClassDetails type() {
+		return TYPE.getValue( usage );
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+/**
+ * Typed view of a {@link Inheritance @Inheritance} usage
+ *
+ * @author Steve Ebersole
+ */
+public class InheritanceUsage {
+	public static final OrmAnnotationAttribute<Inheritance, InheritanceType> STRATEGY = new OrmAnnotationAttribute<>( JpaAnnotations.INHERITANCE, "strategy" );
+
+	private final AnnotationUsage<Inheritance> usage;
+
+	public InheritanceUsage(AnnotationUsage<Inheritance> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<Inheritance> getUsage() {
+		return usage;
+	}
+
+	public InheritanceType strategy() {
+		return STRATEGY.getValue( usage );
+	}
+}
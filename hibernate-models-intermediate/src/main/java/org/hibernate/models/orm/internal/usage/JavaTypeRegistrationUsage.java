@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.annotations.JavaTypeRegistration;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Typed view of a {@link JavaTypeRegistration @JavaTypeRegistration} usage
+ *
+ * @author Steve Ebersole
+ */
+public class JavaTypeRegistrationUsage {
+	public static final OrmAnnotationAttribute<JavaTypeRegistration, ClassDetails> JAVA_TYPE = new OrmAnnotationAttribute<>( HibernateAnnotations.JAVA_TYPE_REG, "javaType" );
+	public static final OrmAnnotationAttribute<JavaTypeRegistration, ClassDetails> DESCRIPTOR_CLASS = new OrmAnnotationAttribute<>( HibernateAnnotations.JAVA_TYPE_REG, "descriptorClass" );
+
+	private final AnnotationUsage<JavaTypeRegistration> usage;
+
+	public JavaTypeRegistrationUsage(AnnotationUsage<JavaTypeRegistration> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<JavaTypeRegistration> getUsage() {
+		return usage;
+	}
+
+	public ClassDetails javaType() {
+		return JAVA_TYPE.getValue( usage );
+	}
+
+	public ClassDetails descriptorClass() {
+		return DESCRIPTOR_CLASS.getValue( usage );
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.annotations.JdbcTypeRegistration;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+
+/**
+ * Typed view of a {@link JdbcTypeRegistration @JdbcTypeRegistration} usage
+ *
+ * @author Steve Ebersole
+ */
+public class JdbcTypeRegistrationUsage {
+	public static final OrmAnnotationAttribute<JdbcTypeRegistration, ClassDetails> VALUE = new OrmAnnotationAttribute<>( HibernateAnnotations.JDBC_TYPE_REG, "value" );
+	public static final OrmAnnotationAttribute<JdbcTypeRegistration, Integer> REGISTRATION_CODE = new OrmAnnotationAttribute<>( HibernateAnnotations.JDBC_TYPE_REG, "registrationCode" );
+
+	private final AnnotationUsage<JdbcTypeRegistration> usage;
+
+	public JdbcTypeRegistrationUsage(AnnotationUsage<JdbcTypeRegistration> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<JdbcTypeRegistration> getUsage() {
+		return usage;
+	}
+
+	public ClassDetails value() {
+		return VALUE.getValue( usage );
+	}
+
+	public int registrationCode() {
+		return REGISTRATION_CODE.getInt( usage );
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import java.lang.annotation.Annotation;
+
+import org.hibernate.models.source.AnnotationAccessException;
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+/**
+ * Typed handle to an attribute of one of the {@linkplain org.hibernate.models.orm.internal.OrmAnnotationCatalog ORM annotations}.
+ * <p/>
+ * The attribute's {@linkplain AnnotationDescriptor#getAttributeOrdinal ordinal} is resolved
+ * once, on first use, after which values are read from usages positionally rather than by name.
+ *
+ * @param <A> The annotation type
+ * @param <V> The (wrapped) attribute value type
+ *
+ * @author Steve Ebersole
+ */
+public class OrmAnnotationAttribute<A extends Annotation, V> {
+	private final AnnotationDescriptor<A> annotationDescriptor;
+	private final String name;
+
+	private volatile int ordinal = -1;
+
+	public OrmAnnotationAttribute(AnnotationDescriptor<A> annotationDescriptor, String name) {
+		this.annotationDescriptor = annotationDescriptor;
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getOrdinal() {
+		if ( ordinal < 0 ) {
+			final int resolved = annotationDescriptor.getAttributeOrdinal( name );
+			if ( resolved < 0 ) {
+				throw new AnnotationAccessException( "No such attribute : " + annotationDescriptor.getName() + "." + name );
+			}
+			ordinal = resolved;
+		}
+		return ordinal;
+	}
+
+	/**
+	 * The wrapped attribute value from the given {@code usage}
+	 */
+	public AnnotationAttributeValue<V> getAttributeValue(AnnotationUsage<A> usage) {
+		if ( usage.getAnnotationDescriptor() != annotationDescriptor ) {
+			// a usage built against some other descriptor - the ordinal may not apply
+			return usage.getAttributeValue( name );
+		}
+		return usage.getAttributeValue( getOrdinal() );
+	}
+
+	/**
+	 * The attribute value from the given {@code usage}
+	 */
+	public V getValue(AnnotationUsage<A> usage) {
+		final AnnotationAttributeValue<V> attributeValue = getAttributeValue( usage );
+		return attributeValue == null ? null : attributeValue.getValue();
+	}
+
+	/**
+	 * The attribute value from the given {@code usage}, or {@code implicitValue} if
+	 * the attribute was not explicitly specified.
+	 */
+	public V getValue(AnnotationUsage<A> usage, V implicitValue) {
+		final AnnotationAttributeValue<V> attributeValue = getAttributeValue( usage );
+		if ( attributeValue == null || attributeValue.isImplicit() ) {
+			return implicitValue;
+		}
+		return attributeValue.getValue();
+	}
+
+	/**
+	 * The {@code boolean} attribute value from the given {@code usage}, without boxing
+	 */
+	public boolean getBoolean(AnnotationUsage<A> usage) {
+		return getAttributeValue( usage ).getBoolean();
+	}
+
+	/**
+	 * The {@code boolean} attribute value from the given {@code usage}, or {@code implicitValue}
+	 * if the attribute was not explicitly specified.
+	 */
+	public boolean getBoolean(AnnotationUsage<A> usage, boolean implicitValue) {
+		final AnnotationAttributeValue<V> attributeValue = getAttributeValue( usage );
+		if ( attributeValue == null || attributeValue.isImplicit() ) {
+			return implicitValue;
+		}
+		return attributeValue.getBoolean();
+	}
+
+	/**
+	 * The {@code int} attribute value from the given {@code usage}, without boxing
+	 */
+	public int getInt(AnnotationUsage<A> usage) {
+		return getAttributeValue( usage ).getInt();
+	}
+
+	/**
+	 * The {@code long} attribute value from the given {@code usage}, without boxing
+	 */
+	public long getLong(AnnotationUsage<A> usage) {
+		return getAttributeValue( usage ).getLong();
+	}
+
+	/**
+	 * Whether the attribute was left to its default value for the given {@code usage}
+	 */
+	public boolean isImplicit(AnnotationUsage<A> usage) {
+		final AnnotationAttributeValue<V> attributeValue = getAttributeValue( usage );
+		return attributeValue == null || attributeValue.isImplicit();
+	}
+
+	@Override
+	public String toString() {
+		return "OrmAnnotationAttribute(" + annotationDescriptor.getName() + "." + name + ")";
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * Typed view of a {@link SequenceGenerator @SequenceGenerator} usage
+ *
+ * @author Steve Ebersole
+ */
+public class SequenceGeneratorUsage {
+	public static final OrmAnnotationAttribute<SequenceGenerator, String> NAME = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "name" );
+	public static final OrmAnnotationAttribute<SequenceGenerator, String> SEQUENCE_NAME = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "sequenceName" );
+	public static final OrmAnnotationAttribute<SequenceGenerator, String> CATALOG = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "catalog" );
+	public static final OrmAnnotationAttribute<SequenceGenerator, String> SCHEMA = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "schema" );
+	public static final OrmAnnotationAttribute<SequenceGenerator, Integer> INITIAL_VALUE = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "initialValue" );
+	public static final OrmAnnotationAttribute<SequenceGenerator, Integer> ALLOCATION_SIZE = new OrmAnnotationAttribute<>( JpaAnnotations.SEQUENCE_GENERATOR, "allocationSize" );
+
+	private final AnnotationUsage<SequenceGenerator> usage;
+
+	public SequenceGeneratorUsage(AnnotationUsage<SequenceGenerator> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<SequenceGenerator> getUsage() {
+		return usage;
+	}
+
+	public String name() {
+		return NAME.getValue( usage );
+	}
+
+	public String sequenceName() {
+		return SEQUENCE_NAME.getValue( usage );
+	}
+
+	public String catalog() {
+		return CATALOG.getValue( usage );
+	}
+
+	public String schema() {
+		return SCHEMA.getValue( usage );
+	}
+
+	public int initialValue() {
+		return INITIAL_VALUE.getInt( usage );
+	}
+
+	public int allocationSize() {
+		return ALLOCATION_SIZE.getInt( usage );
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.internal.usage;
+
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+import jakarta.persistence.TableGenerator;
+
+/**
+ * Typed view of a {@link TableGenerator @TableGenerator} usage
+ *
+ * @author Steve Ebersole
+ */
+public class TableGeneratorUsage {
+	public static final OrmAnnotationAttribute<TableGenerator, String> NAME = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "name" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> TABLE = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "table" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> CATALOG = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "catalog" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> SCHEMA = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "schema" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> PK_COLUMN_NAME = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "pkColumnName" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> VALUE_COLUMN_NAME = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "valueColumnName" );
+	public static final OrmAnnotationAttribute<TableGenerator, String> PK_COLUMN_VALUE = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "pkColumnValue" );
+	public static final OrmAnnotationAttribute<TableGenerator, Integer> INITIAL_VALUE = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "initialValue" );
+	public static final OrmAnnotationAttribute<TableGenerator, Integer> ALLOCATION_SIZE = new OrmAnnotationAttribute<>( JpaAnnotations.TABLE_GENERATOR, "allocationSize" );
+
+	private final AnnotationUsage<TableGenerator> usage;
+
+	public TableGeneratorUsage(AnnotationUsage<TableGenerator> usage) {
+		this.usage = usage;
+	}
+
+	public AnnotationUsage<TableGenerator> getUsage() {
+		return usage;
+	}
+
+	public String name() {
+		return NAME.getValue( usage );
+	}
+
+	public String table() {
+		return TABLE.getValue( usage );
+	}
+
+	public String catalog() {
+		return CATALOG.getValue( usage );
+	}
+
+	public String schema() {
+		return SCHEMA.getValue( usage );
+	}
+
+	public String pkColumnName() {
+		return PK_COLUMN_NAME.getValue( usage );
+	}
+
+	public String valueColumnName() {
+		return VALUE_COLUMN_NAME.getValue( usage );
+	}
+
+	public String pkColumnValue() {
+		return PK_COLUMN_VALUE.getValue( usage );
+	}
+
+	public int initialValue() {
+		return INITIAL_VALUE.getInt( usage );
+	}
+
+	public int allocationSize() {
+		return ALLOCATION_SIZE.getInt( usage );
+	}
+}
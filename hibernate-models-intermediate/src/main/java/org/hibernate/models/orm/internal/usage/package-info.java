@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Typed views of {@linkplain org.hibernate.models.source.spi.AnnotationUsage annotation usages}
+ * for the JPA and Hibernate annotations read on the hot boot path.  Attribute values are
+ * read positionally through {@linkplain OrmAnnotationAttribute typed attribute handles}
+ * rather than by name.
+ *
+ * @author Steve Ebersole
+ */
+package org.hibernate.models.orm.internal.usage;
@@ -0,0 +1,272 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.model.convert.internal.ConverterHelper;
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.internal.util.type.PrimitiveWrapperHelper;
+import org.hibernate.models.orm.spi.ClassmateContext;
+import org.hibernate.models.orm.spi.JandexTypeResolver;
+import org.hibernate.models.orm.spi.OrmModelBuildingContext;
+import org.hibernate.models.source.spi.ClassDetails;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.classmate.ResolvedType;
+
+/**
+ * Registry of auto-applied converters, used to find the converters to apply to a domain type
+ * (basic attribute type, Map key type, Collection element type).
+ * <p/>
+ * Converters are indexed by the erased type of their domain type.  Matching a type only
+ * considers the converters registered against that type or one of its super-types and
+ * interfaces; only those few candidates are then checked for generic type parameters.
+ * The matches are memoized per type.
+ * <p/>
+ * The {@linkplain ConversionRegistration registrations} can be matched either from the Jandex
+ * signatures - see {@link #findMatchingRegistrations} - or
+ * as {@linkplain ConverterDescriptor converter descriptors} using Classmate - see
+ * {@link #findMatchingConverters}.  Either index is only built on first use.
+ *
+ * @author Steve Ebersole
+ */
+public class AutoApplyConverterRegistry {
+	/**
+	 * Build the registry from the auto-applied {@linkplain ProcessResultCollector#getConverterRegistrations() registrations}
+	 * and {@linkplain ProcessResultCollector#collectAutoAppliedConverter converters} collected while processing
+	 */
+	public static AutoApplyConverterRegistry from(
+			List<ConversionRegistration> converterRegistrations,
+			List<ClassDetails> autoAppliedConverters,
+			OrmModelBuildingContext modelContext) {
+		final List<ConversionRegistration> registrations = new ArrayList<>();
+		for ( int i = 0; i < converterRegistrations.size(); i++ ) {
+			final ConversionRegistration registration = converterRegistrations.get( i );
+			if ( registration.isAutoApply() ) {
+				registrations.add( registration );
+			}
+		}
+		for ( int i = 0; i < autoAppliedConverters.size(); i++ ) {
+			registrations.add( new ConversionRegistration( null, autoAppliedConverters.get( i ), true ) );
+		}
+
+		return new AutoApplyConverterRegistry(
+				registrations,
+				modelContext.getJandexTypeResolver(),
+				modelContext.getClassmateContext()
+		);
+	}
+
+	private final List<ConversionRegistration> registrations;
+	private final JandexTypeResolver typeResolver;
+	private final ClassmateContext classmateContext;
+
+	// Jandex - erased domain type name -> registrations, and domain type -> matches
+	private volatile Map<DotName, List<RegisteredDomainType>> registrationsByDomainType;
+	private final Map<Type, List<ConversionRegistration>> registrationMatchesByType = new ConcurrentHashMap<>();
+
+	// Classmate - erased domain type -> converters, erased type -> candidates and resolved type -> matches
+	private volatile Map<Class<?>, List<ConverterDescriptor>> convertersByDomainType;
+	private final Map<Class<?>, List<ConverterDescriptor>> candidatesByType = new ConcurrentHashMap<>();
+	private final Map<ResolvedType, List<ConverterDescriptor>> matchesByType = new ConcurrentHashMap<>();
+
+	public AutoApplyConverterRegistry(
+			List<ConversionRegistration> registrations,
+			JandexTypeResolver typeResolver,
+			ClassmateContext classmateContext) {
+		this.registrations = registrations;
+		this.typeResolver = typeResolver;
+		this.classmateContext = classmateContext;
+	}
+
+	public List<ConversionRegistration> getRegistrations() {
+		return registrations;
+	}
+
+	/**
+	 * Find the auto-applied registrations matching the given {@code domainType} from the Jandex
+	 * signatures, without building their {@linkplain ConverterDescriptor descriptors}.
+	 *
+	 * @see ConversionRegistration#resolveDomainTypeToMatch
+	 * @see JandexTypeResolver#typesMatch
+	 */
+	public List<ConversionRegistration> findMatchingRegistrations(Type domainType) {
+		final List<ConversionRegistration> existing = registrationMatchesByType.get( domainType );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Map<DotName, List<RegisteredDomainType>> registrationsByDomainType = resolveRegistrationsByDomainType();
+		final DotName erasedName = JandexTypeResolver.erasedName( domainType );
+		final Set<DotName> superTypeNames = typeResolver.resolveSuperTypeNames( erasedName );
+		final List<ConversionRegistration> collected = new ArrayList<>();
+		collectMatchingRegistrations( registrationsByDomainType.get( erasedName ), domainType, collected );
+		for ( DotName superTypeName : superTypeNames ) {
+			collectMatchingRegistrations( registrationsByDomainType.get( superTypeName ), domainType, collected );
+		}
+		// interfaces do not report Object as their super-type, but are still assignable to it
+		if ( !erasedName.equals( JandexTypeResolver.OBJECT ) && !superTypeNames.contains( JandexTypeResolver.OBJECT ) ) {
+			collectMatchingRegistrations( registrationsByDomainType.get( JandexTypeResolver.OBJECT ), domainType, collected );
+		}
+
+		final List<ConversionRegistration> matches = collected.isEmpty() ? Collections.emptyList() : collected;
+		registrationMatchesByType.put( domainType, matches );
+		return matches;
+	}
+
+	private void collectMatchingRegistrations(
+			List<RegisteredDomainType> candidates,
+			Type domainType,
+			List<ConversionRegistration> collected) {
+		if ( candidates == null ) {
+			return;
+		}
+		for ( int i = 0; i < candidates.size(); i++ ) {
+			final RegisteredDomainType candidate = candidates.get( i );
+			if ( typeResolver.typesMatch( candidate.domainTypeToMatch, domainType ) ) {
+				collected.add( candidate.registration );
+			}
+		}
+	}
+
+	private Map<DotName, List<RegisteredDomainType>> resolveRegistrationsByDomainType() {
+		Map<DotName, List<RegisteredDomainType>> resolved = registrationsByDomainType;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = registrationsByDomainType;
+				if ( resolved == null ) {
+					resolved = new HashMap<>();
+					for ( int i = 0; i < registrations.size(); i++ ) {
+						final ConversionRegistration registration = registrations.get( i );
+						final Type domainTypeToMatch = registration.resolveDomainTypeToMatch( typeResolver );
+						resolved.computeIfAbsent( JandexTypeResolver.erasedName( domainTypeToMatch ), (name) -> new ArrayList<>() )
+								.add( new RegisteredDomainType( registration, domainTypeToMatch ) );
+					}
+					registrationsByDomainType = resolved;
+				}
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Find the auto-applied converters matching the given {@code domainType}.  The converters
+	 * are loaded to build their descriptors.
+	 *
+	 * @see ConverterHelper#typesMatch
+	 */
+	public List<ConverterDescriptor> findMatchingConverters(ResolvedType domainType) {
+		final List<ConverterDescriptor> existing = matchesByType.get( domainType );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final List<ConverterDescriptor> candidates = resolveCandidates( normalize( domainType.getErasedType() ) );
+		final List<ConverterDescriptor> matches;
+		if ( candidates.isEmpty() ) {
+			matches = Collections.emptyList();
+		}
+		else {
+			final List<ConverterDescriptor> collected = new ArrayList<>( candidates.size() );
+			for ( int i = 0; i < candidates.size(); i++ ) {
+				final ConverterDescriptor candidate = candidates.get( i );
+				if ( ConverterHelper.typesMatch( candidate.getDomainValueResolvedType(), domainType ) ) {
+					collected.add( candidate );
+				}
+			}
+			matches = collected.isEmpty() ? Collections.emptyList() : collected;
+		}
+
+		matchesByType.put( domainType, matches );
+		return matches;
+	}
+
+	private Map<Class<?>, List<ConverterDescriptor>> resolveConvertersByDomainType() {
+		Map<Class<?>, List<ConverterDescriptor>> resolved = convertersByDomainType;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = convertersByDomainType;
+				if ( resolved == null ) {
+					resolved = new HashMap<>();
+					for ( int i = 0; i < registrations.size(); i++ ) {
+						final ConverterDescriptor converterDescriptor = registrations.get( i ).makeConverterDescriptor( classmateContext );
+						final Class<?> domainType = normalize( converterDescriptor.getDomainValueResolvedType().getErasedType() );
+						resolved.computeIfAbsent( domainType, (type) -> new ArrayList<>() ).add( converterDescriptor );
+					}
+					convertersByDomainType = resolved;
+				}
+			}
+		}
+		return resolved;
+	}
+
+	private List<ConverterDescriptor> resolveCandidates(Class<?> type) {
+		final List<ConverterDescriptor> existing = candidatesByType.get( type );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Map<Class<?>, List<ConverterDescriptor>> convertersByDomainType = resolveConvertersByDomainType();
+		final List<ConverterDescriptor> candidates = new ArrayList<>();
+		final Set<Class<?>> visited = new HashSet<>();
+		collectCandidates( type, convertersByDomainType, visited, candidates );
+		// interfaces do not report Object as their super-type, but are still assignable to it
+		collectCandidates( Object.class, convertersByDomainType, visited, candidates );
+
+		final List<ConverterDescriptor> resolved = candidates.isEmpty() ? Collections.emptyList() : candidates;
+		candidatesByType.put( type, resolved );
+		return resolved;
+	}
+
+	private static void collectCandidates(
+			Class<?> type,
+			Map<Class<?>, List<ConverterDescriptor>> convertersByDomainType,
+			Set<Class<?>> visited,
+			List<ConverterDescriptor> candidates) {
+		if ( type == null || !visited.add( type ) ) {
+			return;
+		}
+
+		final List<ConverterDescriptor> registered = convertersByDomainType.get( type );
+		if ( registered != null ) {
+			candidates.addAll( registered );
+		}
+
+		collectCandidates( type.getSuperclass(), convertersByDomainType, visited, candidates );
+		final Class<?>[] interfaces = type.getInterfaces();
+		for ( int i = 0; i < interfaces.length; i++ ) {
+			collectCandidates( interfaces[i], convertersByDomainType, visited, candidates );
+		}
+	}
+
+	private static Class<?> normalize(Class<?> type) {
+		if ( type.isPrimitive() ) {
+			return PrimitiveWrapperHelper.getDescriptorByPrimitiveType( type ).getWrapperClass();
+		}
+		return type;
+	}
+
+	private static class RegisteredDomainType {
+		private final ConversionRegistration registration;
+		private final Type domainTypeToMatch;
+
+		private RegisteredDomainType(ConversionRegistration registration, Type domainTypeToMatch) {
+			this.registration = registration;
+			this.domainTypeToMatch = domainTypeToMatch;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.hibernate.boot.model.convert.spi.JpaAttributeConverterCreationContext
 import org.hibernate.boot.model.convert.spi.RegisteredConversion;
 import org.hibernate.models.Copied;
 import org.hibernate.models.orm.spi.ClassmateContext;
+import org.hibernate.models.orm.spi.JandexTypeResolver;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.resource.beans.spi.ManagedBean;
 import org.hibernate.type.descriptor.converter.internal.JpaAttributeConverterImpl;
@@ -32,6 +33,9 @@ import org.hibernate.type.descriptor.converter.spi.JpaAttributeConverter;
 import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
 import com.fasterxml.classmate.ResolvedType;
 import jakarta.persistence.AttributeConverter;
 
@@ -88,7 +92,10 @@ public class ConversionRegistration {
 	}
 
 	public ConverterDescriptor makeConverterDescriptor(ClassmateContext classmateContext) {
-		final Class<Object> explicitDomainType = this.explicitDomainType.toJavaClass();
+		// e.g. `@Converter(autoApply=true)` and XML registrations need not name the domain type
+		final Class<Object> explicitDomainType = this.explicitDomainType == null
+				? null
+				: this.explicitDomainType.toJavaClass();
 		final Class<? extends AttributeConverter<?,?>> converterType = this.converterType.toJavaClass();
 
 		final List<ResolvedType> resolvedParamTypes = ConverterHelper.resolveConverterClassParamTypes(
@@ -97,7 +104,7 @@ public class ConversionRegistration {
 		);
 		final ResolvedType relationalType = resolvedParamTypes.get( 1 );
 		final ResolvedType domainTypeToMatch;
-		if ( !void.class.equals( explicitDomainType ) ) {
+		if ( explicitDomainType != null && !void.class.equals( explicitDomainType ) ) {
 			domainTypeToMatch = classmateContext.getTypeResolver().resolve( explicitDomainType );
 		}
 		else {
@@ -107,6 +114,21 @@ public class ConversionRegistration {
 		return new ConverterDescriptorImpl( converterType, domainTypeToMatch, relationalType, autoApply );
 	}
 
+	/**
+	 * Resolve the domain type to match when auto-applying the converter from the Jandex
+	 * signatures, rather than through Classmate.  Only the names of the converter and the
+	 * explicit domain type are used; whether their {@link ClassDetails} were built without
+	 * loading them depends on how they were registered.
+	 *
+	 * @see JandexTypeResolver#typesMatch
+	 */
+	public Type resolveDomainTypeToMatch(JandexTypeResolver typeResolver) {
+		if ( explicitDomainType != null && !void.class.getName().equals( explicitDomainType.getName() ) ) {
+			return JandexTypeResolver.typeForName( explicitDomainType.getName() );
+		}
+		return typeResolver.resolveConverterParamTypes( DotName.createSimple( converterType.getName() ) ).get( 0 );
+	}
+
 	private static class ConverterDescriptorImpl implements ConverterDescriptor {
 		private final Class<? extends AttributeConverter<?, ?>> converterType;
 		private final ResolvedType domainTypeToMatch;
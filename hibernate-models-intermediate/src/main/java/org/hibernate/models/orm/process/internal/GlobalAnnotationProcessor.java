@@ -10,11 +10,18 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.orm.internal.usage.GenericGeneratorUsage;
+import org.hibernate.models.orm.internal.usage.OrmAnnotationAttribute;
+import org.hibernate.models.orm.internal.usage.SequenceGeneratorUsage;
+import org.hibernate.models.orm.internal.usage.TableGeneratorUsage;
 import org.hibernate.models.orm.spi.HibernateAnnotations;
 import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
 import org.hibernate.models.source.spi.AnnotationTarget;
 
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedStoredProcedureQuery;
+
 import static org.hibernate.models.orm.process.internal.TypeContributionProcessor.processTypeContributions;
 import static org.hibernate.models.orm.spi.HibernateAnnotations.GENERIC_GENERATOR;
 import static org.hibernate.models.orm.spi.HibernateAnnotations.UUID_GENERATOR;
@@ -29,6 +36,17 @@ import static org.hibernate.models.orm.spi.JpaAnnotations.TABLE_GENERATOR;
  * @author Steve Ebersole
  */
 public class GlobalAnnotationProcessor {
+	private static final OrmAnnotationAttribute<jakarta.persistence.NamedQuery, String> JPA_NAMED_QUERY_NAME
+			= new OrmAnnotationAttribute<>( JpaAnnotations.NAMED_QUERY, "name" );
+	private static final OrmAnnotationAttribute<org.hibernate.annotations.NamedQuery, String> HIBERNATE_NAMED_QUERY_NAME
+			= new OrmAnnotationAttribute<>( HibernateAnnotations.NAMED_QUERY, "name" );
+	private static final OrmAnnotationAttribute<NamedNativeQuery, String> JPA_NAMED_NATIVE_QUERY_NAME
+			= new OrmAnnotationAttribute<>( JpaAnnotations.NAMED_NATIVE_QUERY, "name" );
+	private static final OrmAnnotationAttribute<org.hibernate.annotations.NamedNativeQuery, String> HIBERNATE_NAMED_NATIVE_QUERY_NAME
+			= new OrmAnnotationAttribute<>( HibernateAnnotations.NAMED_NATIVE_QUERY, "name" );
+	private static final OrmAnnotationAttribute<NamedStoredProcedureQuery, String> JPA_NAMED_PROCEDURE_QUERY_NAME
+			= new OrmAnnotationAttribute<>( JpaAnnotations.NAMED_STORED_PROCEDURE_QUERY, "name" );
+
 	public interface Options {
 		boolean areGeneratorsGlobal();
 	}
@@ -76,10 +94,10 @@ public class GlobalAnnotationProcessor {
 	}
 
 	private void processSequenceGenerators(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( SEQUENCE_GENERATOR, (usage) -> {
-			final String generatorName = usage.extractAttributeValue( "name" );
+		annotationTarget.forEachAnnotation( SEQUENCE_GENERATOR, resultCollector, (position, usage, collector) -> {
+			final String generatorName = SequenceGeneratorUsage.NAME.getValue( usage );
 			assert generatorName != null;
-			resultCollector.collectGlobalIdGeneratorRegistration(
+			collector.collectGlobalIdGeneratorRegistration(
 					generatorName,
 					IdGeneratorRegistration.Kind.SEQUENCE,
 					usage
@@ -88,10 +106,10 @@ public class GlobalAnnotationProcessor {
 	}
 
 	private void processTableGenerators(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( TABLE_GENERATOR, (usage) -> {
-			final String generatorName = usage.extractAttributeValue( "name" );
+		annotationTarget.forEachAnnotation( TABLE_GENERATOR, resultCollector, (position, usage, collector) -> {
+			final String generatorName = TableGeneratorUsage.NAME.getValue( usage );
 			assert generatorName != null;
-			resultCollector.collectGlobalIdGeneratorRegistration(
+			collector.collectGlobalIdGeneratorRegistration(
 					generatorName,
 					IdGeneratorRegistration.Kind.TABLE,
 					usage
@@ -100,10 +118,10 @@ public class GlobalAnnotationProcessor {
 	}
 
 	private void processGenericGenerators(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( GENERIC_GENERATOR, (usage) -> {
-			final String generatorName = usage.extractAttributeValue( "name" );
+		annotationTarget.forEachAnnotation( GENERIC_GENERATOR, resultCollector, (position, usage, collector) -> {
+			final String generatorName = GenericGeneratorUsage.NAME.getValue( usage );
 			assert generatorName != null;
-			resultCollector.collectGlobalIdGeneratorRegistration(
+			collector.collectGlobalIdGeneratorRegistration(
 					generatorName,
 					IdGeneratorRegistration.Kind.GENERIC,
 					usage
@@ -118,18 +136,18 @@ public class GlobalAnnotationProcessor {
 	}
 
 	private void processNamedQuery(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_QUERY, (usage) -> {
-			resultCollector.collectNamedQuery( new NamedQuery(
-					usage.extractAttributeValue( "name" ),
+		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_QUERY, resultCollector, (position, usage, collector) -> {
+			collector.collectNamedQuery( new NamedQuery(
+					JPA_NAMED_QUERY_NAME.getValue( usage ),
 					NamedQuery.Kind.HQL,
 					true,
 					usage
 			) );
 		} );
 
-		annotationTarget.forEachAnnotation( HibernateAnnotations.NAMED_QUERY, (usage) -> {
-			resultCollector.collectNamedQuery( new NamedQuery(
-					usage.extractAttributeValue( "name" ),
+		annotationTarget.forEachAnnotation( HibernateAnnotations.NAMED_QUERY, resultCollector, (position, usage, collector) -> {
+			collector.collectNamedQuery( new NamedQuery(
+					HIBERNATE_NAMED_QUERY_NAME.getValue( usage ),
 					NamedQuery.Kind.HQL,
 					false,
 					usage
@@ -138,18 +156,18 @@ public class GlobalAnnotationProcessor {
 	}
 
 	private void processNamedNativeQuery(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_NATIVE_QUERY, (usage) -> {
-			resultCollector.collectNamedQuery( new NamedQuery(
-					usage.extractAttributeValue( "name" ),
+		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_NATIVE_QUERY, resultCollector, (position, usage, collector) -> {
+			collector.collectNamedQuery( new NamedQuery(
+					JPA_NAMED_NATIVE_QUERY_NAME.getValue( usage ),
 					NamedQuery.Kind.NATIVE,
 					true,
 					usage
 			) );
 		} );
 
-		annotationTarget.forEachAnnotation( HibernateAnnotations.NAMED_NATIVE_QUERY, (usage) -> {
-			resultCollector.collectNamedQuery( new NamedQuery(
-					usage.extractAttributeValue( "name" ),
+		annotationTarget.forEachAnnotation( HibernateAnnotations.NAMED_NATIVE_QUERY, resultCollector, (position, usage, collector) -> {
+			collector.collectNamedQuery( new NamedQuery(
+					HIBERNATE_NAMED_NATIVE_QUERY_NAME.getValue( usage ),
 					NamedQuery.Kind.NATIVE,
 					false,
 					usage
@@ -159,9 +177,9 @@ public class GlobalAnnotationProcessor {
 
 
 	private void processNamedProcedureQuery(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_STORED_PROCEDURE_QUERY, (usage) -> {
-			resultCollector.collectNamedQuery( new NamedQuery(
-					usage.extractAttributeValue( "name" ),
+		annotationTarget.forEachAnnotation( JpaAnnotations.NAMED_STORED_PROCEDURE_QUERY, resultCollector, (position, usage, collector) -> {
+			collector.collectNamedQuery( new NamedQuery(
+					JPA_NAMED_PROCEDURE_QUERY_NAME.getValue( usage ),
 					NamedQuery.Kind.CALLABLE,
 					true,
 					usage
@@ -16,6 +16,7 @@ import java.util.Set;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.models.orm.process.spi.ProcessResult;
 import org.hibernate.models.orm.spi.EntityHierarchy;
+import org.hibernate.models.orm.spi.OrmModelBuildingContext;
 import org.hibernate.models.source.ModelsException;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
@@ -189,13 +190,20 @@ public class ProcessResultCollector {
 		}
 	}
 
-	public ProcessResult createResult(Set<EntityHierarchy> entityHierarchies) {
+	public ProcessResult createResult(Set<EntityHierarchy> entityHierarchies, OrmModelBuildingContext modelContext) {
+		final List<ConversionRegistration> converterRegistrations = this.converterRegistrations == null
+				? emptyList()
+				: this.converterRegistrations;
+		final List<ClassDetails> autoAppliedConverters = this.autoAppliedConverters == null
+				? emptyList()
+				: this.autoAppliedConverters;
 		return new ProcessResultImpl(
 				entityHierarchies,
 				javaTypeRegistrations == null ? emptyList() : javaTypeRegistrations,
 				jdbcTypeRegistrations == null ? emptyList() : jdbcTypeRegistrations,
-				converterRegistrations == null ? emptyList() : converterRegistrations,
-				autoAppliedConverters == null ? emptyList() : autoAppliedConverters,
+				converterRegistrations,
+				autoAppliedConverters,
+				AutoApplyConverterRegistry.from( converterRegistrations, autoAppliedConverters, modelContext ),
 				userTypeRegistrations == null ? emptyList() : userTypeRegistrations,
 				compositeUserTypeRegistrations == null ? emptyList() : compositeUserTypeRegistrations,
 				collectionTypeRegistrations == null ? emptyList() : collectionTypeRegistrations,
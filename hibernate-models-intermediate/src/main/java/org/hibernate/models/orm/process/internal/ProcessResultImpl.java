@@ -24,6 +24,7 @@ public class ProcessResultImpl implements ProcessResult {
 	private final List<JdbcTypeRegistration> jdbcTypeRegistrations;
 	private final List<ConversionRegistration> converterRegistrations;
 	private final List<ClassDetails> autoAppliedConverters;
+	private final AutoApplyConverterRegistry autoApplyConverterRegistry;
 	private final List<UserTypeRegistration> userTypeRegistrations;
 	private final List<CompositeUserTypeRegistration> compositeUserTypeRegistrations;
 	private final List<CollectionTypeRegistration> collectionTypeRegistrations;
@@ -39,6 +40,7 @@ public class ProcessResultImpl implements ProcessResult {
 			List<JdbcTypeRegistration> jdbcTypeRegistrations,
 			List<ConversionRegistration> converterRegistrations,
 			List<ClassDetails> autoAppliedConverters,
+			AutoApplyConverterRegistry autoApplyConverterRegistry,
 			List<UserTypeRegistration> userTypeRegistrations,
 			List<CompositeUserTypeRegistration> compositeUserTypeRegistrations,
 			List<CollectionTypeRegistration> collectionTypeRegistrations,
@@ -52,6 +54,7 @@ public class ProcessResultImpl implements ProcessResult {
 		this.jdbcTypeRegistrations = jdbcTypeRegistrations;
 		this.converterRegistrations = converterRegistrations;
 		this.autoAppliedConverters = autoAppliedConverters;
+		this.autoApplyConverterRegistry = autoApplyConverterRegistry;
 		this.userTypeRegistrations = userTypeRegistrations;
 		this.compositeUserTypeRegistrations = compositeUserTypeRegistrations;
 		this.collectionTypeRegistrations = collectionTypeRegistrations;
@@ -87,6 +90,11 @@ public class ProcessResultImpl implements ProcessResult {
 		return autoAppliedConverters;
 	}
 
+	@Override
+	public AutoApplyConverterRegistry getAutoApplyConverterRegistry() {
+		return autoApplyConverterRegistry;
+	}
+
 	@Override
 	public List<UserTypeRegistration> getUserTypeRegistrations() {
 		return userTypeRegistrations;
@@ -23,12 +23,18 @@ import org.hibernate.boot.jaxb.mapping.JaxbJdbcTypeRegistration;
 import org.hibernate.boot.jaxb.mapping.JaxbUserTypeRegistration;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.orm.internal.usage.ConverterRegistrationUsage;
+import org.hibernate.models.orm.internal.usage.ConverterUsage;
+import org.hibernate.models.orm.internal.usage.JavaTypeRegistrationUsage;
+import org.hibernate.models.orm.internal.usage.JdbcTypeRegistrationUsage;
 import org.hibernate.models.source.spi.AnnotationAttributeValue;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 
+import jakarta.persistence.Converter;
+
 import static org.hibernate.models.orm.spi.HibernateAnnotations.COLLECTION_TYPE_REG;
 import static org.hibernate.models.orm.spi.HibernateAnnotations.COMPOSITE_TYPE_REG;
 import static org.hibernate.models.orm.spi.HibernateAnnotations.CONVERTER_REG;
@@ -57,15 +63,16 @@ public class TypeContributionProcessor {
 			AnnotationTarget annotationTarget,
 			ProcessResultCollector resultCollector,
 			ClassDetailsRegistry classDetailsRegistry) {
-		final TypeContributionProcessor processor = new TypeContributionProcessor( resultCollector, classDetailsRegistry );
-		processor.processJavaTypeRegistrations( annotationTarget );
-		processor.processJdbcTypeRegistrations( annotationTarget );
-		processor.processConverterRegistrations( annotationTarget );
-		processor.processAutoApplyConverters( annotationTarget );
-		processor.processUserTypeRegistrations( annotationTarget );
-		processor.processCompositeUserTypeRegistrations( annotationTarget );
-		processor.processCollectionTypeRegistrations( annotationTarget );
-		processor.processEmbeddableInstantiatorRegistrations( annotationTarget );
+		// called for every class - the consumers below receive the collector as context
+		// rather than capturing it so that nothing is allocated per class
+		processJavaTypeRegistrations( annotationTarget, resultCollector );
+		processJdbcTypeRegistrations( annotationTarget, resultCollector );
+		processConverterRegistrations( annotationTarget, resultCollector );
+		processAutoApplyConverters( annotationTarget, resultCollector );
+		processUserTypeRegistrations( annotationTarget, resultCollector );
+		processCompositeUserTypeRegistrations( annotationTarget, resultCollector );
+		processCollectionTypeRegistrations( annotationTarget, resultCollector );
+		processEmbeddableInstantiatorRegistrations( annotationTarget, resultCollector );
 	}
 
 	public static void processTypeContributions(
@@ -91,10 +98,10 @@ public class TypeContributionProcessor {
 		this.classDetailsRegistry = classDetailsRegistry;
 	}
 
-	private void processJavaTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( JAVA_TYPE_REG, (usage) -> resultCollector.collectJavaTypeRegistration(
-				usage.getAttributeValue( "javaType" ).asClass(),
-				usage.getAttributeValue( "descriptorClass" ).asClass()
+	private static void processJavaTypeRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( JAVA_TYPE_REG, resultCollector, (position, usage, collector) -> collector.collectJavaTypeRegistration(
+				JavaTypeRegistrationUsage.JAVA_TYPE.getValue( usage ),
+				JavaTypeRegistrationUsage.DESCRIPTOR_CLASS.getValue( usage )
 		) );
 	}
 
@@ -109,14 +116,12 @@ public class TypeContributionProcessor {
 		) );
 	}
 
-	private void processJdbcTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( JDBC_TYPE_REG, (usage) -> {
-			final AnnotationAttributeValue<Integer> registrationCodeValue = usage.getAttributeValue( "registrationCode" );
-			final Integer registrationCode = registrationCodeValue.isImplicit()
+	private static void processJdbcTypeRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( JDBC_TYPE_REG, resultCollector, (position, usage, collector) -> {
+			final Integer registrationCode = JdbcTypeRegistrationUsage.REGISTRATION_CODE.isImplicit( usage )
 					? null
-					: registrationCodeValue.getValue();
-
-			resultCollector.collectJdbcTypeRegistration( registrationCode, usage.getAttributeValue( VALUE ).asClass() );
+					: JdbcTypeRegistrationUsage.REGISTRATION_CODE.getInt( usage );
+			collector.collectJdbcTypeRegistration( registrationCode, JdbcTypeRegistrationUsage.VALUE.getValue( usage ) );
 		} );
 	}
 
@@ -131,29 +136,28 @@ public class TypeContributionProcessor {
 		) );
 	}
 
-	private void processConverterRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( CONVERTER_REG, (usage) -> {
-			final ClassDetails domainType = usage.getAttributeValue( "domainType" ).asClass();
-			final ClassDetails converterType = usage.getAttributeValue( "converter" ).asClass();
-			final boolean autoApply = usage.extractAttributeValue( "autoApply", true );
-			resultCollector.collectConverterRegistration( new ConversionRegistration( domainType, converterType, autoApply ) );
+	private static void processConverterRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( CONVERTER_REG, resultCollector, (position, usage, collector) -> {
+			final ClassDetails domainType = ConverterRegistrationUsage.DOMAIN_TYPE.getValue( usage );
+			final ClassDetails converterType = ConverterRegistrationUsage.CONVERTER.getValue( usage );
+			final boolean autoApply = ConverterRegistrationUsage.AUTO_APPLY.getBoolean( usage, true );
+			collector.collectConverterRegistration( new ConversionRegistration( domainType, converterType, autoApply ) );
 		} );
 	}
 
-	private void processAutoApplyConverters(AnnotationTarget annotationTarget) {
+	private static void processAutoApplyConverters(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
 		if ( annotationTarget.getKind() != AnnotationTarget.Kind.CLASS ) {
 			// only classes can be converters we care about
 			return;
 		}
 
-		annotationTarget.forEachAnnotation( CONVERTER, (usage) -> {
-			final boolean autoApply = usage.extractAttributeValue( "autoApply" );
-			if ( !autoApply ) {
-				// we only care about auto-applied conversions here
-				return;
-			}
-			resultCollector.collectAutoAppliedConverter( (ClassDetails) annotationTarget );
-		} );
+		// `@Converter` is not repeatable
+		final AnnotationUsage<Converter> usage = annotationTarget.getAnnotation( CONVERTER );
+		if ( usage == null || !ConverterUsage.AUTO_APPLY.getBoolean( usage ) ) {
+			// we only care about auto-applied conversions here
+			return;
+		}
+		resultCollector.collectAutoAppliedConverter( (ClassDetails) annotationTarget );
 	}
 
 	private void processConverterRegistrations(List<JaxbConverterRegistration> registrations) {
@@ -183,8 +187,8 @@ public class TypeContributionProcessor {
 		} );
 	}
 
-	private void processEmbeddableInstantiatorRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( EMBEDDABLE_INSTANTIATOR_REG, (usage) -> resultCollector.collectEmbeddableInstantiatorRegistration(
+	private static void processEmbeddableInstantiatorRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( EMBEDDABLE_INSTANTIATOR_REG, resultCollector, (position, usage, collector) -> collector.collectEmbeddableInstantiatorRegistration(
 				usage.extractAttributeValue( "embeddableClass" ),
 				usage.extractAttributeValue( "instantiator" )
 		) );
@@ -201,8 +205,8 @@ public class TypeContributionProcessor {
 		) );
 	}
 
-	private void processUserTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( TYPE_REG, (usage) -> resultCollector.collectUserTypeRegistration(
+	private static void processUserTypeRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( TYPE_REG, resultCollector, (position, usage, collector) -> collector.collectUserTypeRegistration(
 				usage.extractAttributeValue( "basicClass" ),
 				usage.extractAttributeValue( "userType" )
 		) );
@@ -220,8 +224,8 @@ public class TypeContributionProcessor {
 		} );
 	}
 
-	private void processCompositeUserTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( COMPOSITE_TYPE_REG, (usage) -> resultCollector.collectCompositeUserTypeRegistration(
+	private static void processCompositeUserTypeRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( COMPOSITE_TYPE_REG, resultCollector, (position, usage, collector) -> collector.collectCompositeUserTypeRegistration(
 				usage.extractAttributeValue( "embeddableClass" ),
 				usage.extractAttributeValue( "userType" )
 		) );
@@ -238,15 +242,15 @@ public class TypeContributionProcessor {
 		) );
 	}
 
-	private void processCollectionTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotation( COLLECTION_TYPE_REG, (usage) -> resultCollector.collectCollectionTypeRegistration(
+	private static void processCollectionTypeRegistrations(AnnotationTarget annotationTarget, ProcessResultCollector resultCollector) {
+		annotationTarget.forEachAnnotation( COLLECTION_TYPE_REG, resultCollector, (position, usage, collector) -> collector.collectCollectionTypeRegistration(
 				usage.extractAttributeValue( "classification" ),
 				usage.extractAttributeValue( "type" ),
 				extractParameterMap( usage.getAttributeValue( "parameters" ) )
 		) );
 	}
 
-	private Map<String,String> extractParameterMap(AnnotationAttributeValue<List<AnnotationUsage<Parameter>>> value) {
+	private static Map<String,String> extractParameterMap(AnnotationAttributeValue<List<AnnotationUsage<Parameter>>> value) {
 		final Map<String,String> result = new HashMap<>();
 		final List<AnnotationUsage<Parameter>> parameters = value.getValue();
 		for ( AnnotationUsage<Parameter> parameter : parameters ) {
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.models.orm.process.internal.AutoApplyConverterRegistry;
 import org.hibernate.models.orm.process.internal.CollectionTypeRegistration;
 import org.hibernate.models.orm.process.internal.CompositeUserTypeRegistration;
 import org.hibernate.models.orm.process.internal.ConversionRegistration;
@@ -38,6 +39,12 @@ public interface ProcessResult {
 
 	List<ClassDetails> getAutoAppliedConverters();
 
+	/**
+	 * The auto-applied {@linkplain #getConverterRegistrations() registrations} and
+	 * {@linkplain #getAutoAppliedConverters() converters}, indexed for matching against domain types
+	 */
+	AutoApplyConverterRegistry getAutoApplyConverterRegistry();
+
 	List<UserTypeRegistration> getUserTypeRegistrations();
 
 	List<CompositeUserTypeRegistration> getCompositeUserTypeRegistrations();
@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.models.orm.internal.OrmAnnotationCatalog;
 import org.hibernate.models.orm.internal.OrmModelBuildingContextImpl;
 import org.hibernate.models.orm.internal.SourceModelImpl;
 import org.hibernate.models.orm.process.internal.GlobalAnnotationProcessor;
@@ -19,14 +20,18 @@ import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.JpaAnnotations;
 import org.hibernate.models.orm.spi.MappedSuperclassTypeMetadata;
 import org.hibernate.models.orm.spi.OrmModelBuildingContext;
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
 import org.hibernate.models.source.internal.explicit.AnnotationDescriptorImpl;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.internal.standard.ClassDetailsImpl;
 import org.hibernate.models.source.internal.standard.PackageDetailsImpl;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.PackageDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.IndexView;
@@ -50,7 +55,7 @@ public class Processor {
 			ManagedResources managedResources,
 			Options options,
 			SourceModelBuildingContext sourceModelBuildingContext) {
-		fillRegistries( sourceModelBuildingContext );
+		fillRegistries( managedResources, sourceModelBuildingContext );
 
 		final OrmModelBuildingContextImpl ormModelBuildingContext = new OrmModelBuildingContextImpl(
 				new SourceModelImpl(
@@ -58,10 +63,15 @@ public class Processor {
 						sourceModelBuildingContext.getClassDetailsRegistry()
 				),
 				sourceModelBuildingContext.getClassLoadingAccess(),
-				sourceModelBuildingContext.getJandexIndex()
+				sourceModelBuildingContext::getJandexIndex
 		);
 
-		return process( managedResources, options, ormModelBuildingContext );
+		try {
+			return process( managedResources, options, ormModelBuildingContext );
+		}
+		finally {
+			sourceModelBuildingContext.release();
+		}
 	}
 
 	public static ProcessResult process(
@@ -108,13 +118,15 @@ public class Processor {
 				mappingBuildingContext
 		);
 
-		return processResultCollector.createResult( entityHierarchies );
+		return processResultCollector.createResult( entityHierarchies, mappingBuildingContext );
 	}
 
-	private static void fillRegistries(SourceModelBuildingContext buildingContext) {
+	private static void fillRegistries(ManagedResources managedResources, SourceModelBuildingContext buildingContext) {
 		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
 		final AnnotationDescriptorRegistry annotationDescriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
 		final IndexView jandexIndex = buildingContext.getJandexIndex();
+		// annotations (and their attribute types) outside the index are read just once while processing
+		final SinglyIndexedClasses singlyIndexedClasses = new SinglyIndexedClasses();
 
 		for ( ClassInfo knownClass : jandexIndex.getKnownClasses() ) {
 			final String className = knownClass.name().toString();
@@ -127,16 +139,30 @@ public class Processor {
 			}
 
 			if ( knownClass.isAnnotation() ) {
-				// it is always safe to load the annotation classes - we will never be enhancing them
+				// JPA and Hibernate annotations already have a (lazy) descriptor in the catalog
 				//noinspection rawtypes
-				final Class annotationClass = buildingContext
-						.getClassLoadingAccess()
-						.classForName( className );
-				//noinspection unchecked
-				annotationDescriptorRegistry.resolveDescriptor(
-						annotationClass,
-						(t) -> AnnotationDescriptorImpl.buildDescriptor( annotationClass, annotationDescriptorRegistry )
-				);
+				final AnnotationDescriptor ormDescriptor = OrmAnnotationCatalog.findDescriptor( knownClass.name() );
+				if ( ormDescriptor != null ) {
+					//noinspection unchecked
+					annotationDescriptorRegistry.resolveDescriptor( ormDescriptor.getAnnotationType(), (t) -> ormDescriptor );
+				}
+				else {
+					// it is always safe to load the annotation classes - we will never be enhancing them
+					//noinspection rawtypes
+					final Class annotationClass = buildingContext
+							.getClassLoadingAccess()
+							.classForName( className );
+					//noinspection unchecked
+					annotationDescriptorRegistry.resolveDescriptor(
+							annotationClass,
+							(t) -> AnnotationDescriptorImpl.buildDescriptor(
+									annotationClass,
+									annotationDescriptorRegistry,
+									jandexIndex,
+									singlyIndexedClasses
+							)
+					);
+				}
 			}
 
 			classDetailsRegistry.resolveClassDetails(
@@ -144,6 +170,16 @@ public class Processor {
 					() -> new ClassDetailsImpl( knownClass, buildingContext )
 			);
 		}
+
+		// loaded classes are generally not indexed - we already have the Class,
+		// so model them reflectively rather than reading their bytecode
+		final List<Class<?>> loadedClasses = managedResources.getLoadedClasses();
+		for ( int i = 0; i < loadedClasses.size(); i++ ) {
+			final Class<?> loadedClass = loadedClasses.get( i );
+			if ( jandexIndex.getClassByName( loadedClass ) == null ) {
+				JdkBuilders.resolveClassDetails( loadedClass, buildingContext );
+			}
+		}
 	}
 
 	private static void processOnlyListed(
@@ -222,6 +258,7 @@ public class Processor {
 		final ClassDetailsRegistry classDetailsRegistry = mappingBuildingContext
 				.getSourceModel()
 				.getClassDetailsRegistry();
+		final TypeHierarchyIndex typeHierarchyIndex = classDetailsRegistry.getTypeHierarchyIndex();
 		classDetailsRegistry.forEachClassDetails( (classDetails) -> {
 			if ( classInclusions != null && !classInclusions.shouldInclude( classDetails ) ) {
 				// skip this class
@@ -235,7 +272,7 @@ public class Processor {
 				processIdentifiableType( classDetails, mappingBuildingContext );
 			}
 			else if ( classDetails.getAnnotation( JpaAnnotations.ENTITY ) != null ) {
-				if ( isRoot( classDetails ) ) {
+				if ( isRoot( classDetails, typeHierarchyIndex ) ) {
 					rootEntities.add( classDetails );
 				}
 				processIdentifiableType( classDetails, mappingBuildingContext );
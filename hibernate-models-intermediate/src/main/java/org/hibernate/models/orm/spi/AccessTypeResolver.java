@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.spi;
+
+import org.hibernate.models.source.spi.ClassDetails;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+
+/**
+ * Access to the {@linkplain AccessType access type} details of managed classes
+ *
+ * @author Steve Ebersole
+ */
+public interface AccessTypeResolver {
+	/**
+	 * The access type explicitly defined on the class using {@link Access @Access}, or {@code null}
+	 */
+	AccessType getExplicitAccessType(ClassDetails classDetails);
+
+	/**
+	 * The access type implied by the placement of {@code @Id} or {@code @EmbeddedId} declared on the
+	 * class, or {@code null} if the class declares neither
+	 */
+	AccessType getImplicitAccessType(ClassDetails classDetails);
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.spi;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.models.source.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Access to the resolved {@linkplain AttributeMetadata attributes} of managed types which
+ * are shared - e.g. a mapped-superclass extended by many root entities or an embeddable
+ * referenced from many embedded attributes.
+ *
+ * @author Steve Ebersole
+ */
+public interface AttributeMetadataResolver {
+	/**
+	 * Get the attributes for the given {@code classDetails} and {@code accessType}, resolving
+	 * them through the {@code resolver} if not already known
+	 *
+	 * @return The attributes; the list is shared and so is not modifiable
+	 */
+	List<AttributeMetadata> resolveAttributes(
+			ClassDetails classDetails,
+			AccessType accessType,
+			Supplier<List<AttributeMetadata>> resolver);
+}
@@ -11,7 +11,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.boot.CacheRegionDefinition;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.internal.util.StringHelper;
-import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.orm.internal.usage.CacheUsage;
 import org.hibernate.models.source.spi.AnnotationAttributeValue;
 import org.hibernate.models.source.spi.AnnotationUsage;
 
@@ -47,17 +47,16 @@ public class Caching {
 			cacheLazyProperties = true;
 		}
 		else {
-			region = AnnotationUsageHelper.extractValue( cacheAnnotation, "region", implicitRegionName );
-			accessType = interpretAccessType( cacheAnnotation.getAttributeValue( "usage" ), implicitCacheAccessType );
-			cacheLazyProperties = AnnotationUsageHelper.extractValue(
-					cacheAnnotation,
-					"includeLazy",
-					() -> {
-						final String include = cacheAnnotation.getAttributeValue( "include" ).getValue( String.class );
-						assert "all".equals( include ) || "non-lazy".equals( include );
-						return include.equals( "all" );
-					}
-			);
+			region = CacheUsage.REGION.getValue( cacheAnnotation, implicitRegionName );
+			accessType = interpretAccessType( CacheUsage.USAGE.getAttributeValue( cacheAnnotation ), implicitCacheAccessType );
+			if ( CacheUsage.INCLUDE_LAZY.isImplicit( cacheAnnotation ) ) {
+				final String include = CacheUsage.INCLUDE.getValue( cacheAnnotation );
+				assert "all".equals( include ) || "non-lazy".equals( include );
+				cacheLazyProperties = include.equals( "all" );
+			}
+			else {
+				cacheLazyProperties = CacheUsage.INCLUDE_LAZY.getBoolean( cacheAnnotation );
+			}
 		}
 	}
 
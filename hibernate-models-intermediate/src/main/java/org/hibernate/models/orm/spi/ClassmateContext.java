@@ -6,12 +6,28 @@
  */
 package org.hibernate.models.orm.spi;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import org.hibernate.models.Copied;
 
 import com.fasterxml.classmate.MemberResolver;
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.classmate.members.ResolvedField;
+import com.fasterxml.classmate.members.ResolvedMethod;
 
 /**
+ * @implNote Diverges from the hibernate-core original, which only holds the resolvers - this
+ * copy also memoizes {@linkplain #resolveMembers member} and
+ * {@linkplain #resolveConverterParamTypes converter} resolution.  Keep that in mind when
+ * switching to the original.
+ *
  * @author Steve Ebersole
  */
 @Copied(org.hibernate.boot.internal.ClassmateContext.class)
@@ -19,6 +35,10 @@ public class ClassmateContext {
 	private TypeResolver typeResolver = new TypeResolver();
 	private MemberResolver memberResolver = new MemberResolver( typeResolver );
 
+	// memoized resolutions, released along with the resolvers
+	private Map<Class<?>, ResolvedMembers> resolvedMembersByType = new ConcurrentHashMap<>();
+	private Map<Class<?>, List<ResolvedType>> converterParamTypesByConverter = new ConcurrentHashMap<>();
+
 	public TypeResolver getTypeResolver() {
 		if ( typeResolver == null ) {
 			throw new IllegalStateException( "Classmate context has been released" );
@@ -33,8 +53,91 @@ public class ClassmateContext {
 		return memberResolver;
 	}
 
+	/**
+	 * Resolve the members of the given {@code declaringType}, indexed by name.  The
+	 * resolution is performed once per type.
+	 */
+	public ResolvedMembers resolveMembers(Class<?> declaringType) {
+		if ( resolvedMembersByType == null ) {
+			throw new IllegalStateException( "Classmate context has been released" );
+		}
+
+		final ResolvedMembers existing = resolvedMembersByType.get( declaringType );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final ResolvedType declaringTypeResolved = getTypeResolver().resolve( declaringType );
+		final ResolvedTypeWithMembers declaringTypeWithMembers = getMemberResolver().resolve(
+				declaringTypeResolved,
+				null,
+				null
+		);
+		final ResolvedMembers resolved = new ResolvedMembers( declaringTypeWithMembers );
+		final ResolvedMembers raced = resolvedMembersByType.putIfAbsent( declaringType, resolved );
+		return raced == null ? resolved : raced;
+	}
+
+	/**
+	 * Resolve the {@code AttributeConverter} parameter types of the given {@code converterClass}
+	 * using the given {@code resolver}.  The resolution is performed once per converter.
+	 */
+	public List<ResolvedType> resolveConverterParamTypes(
+			Class<?> converterClass,
+			Function<Class<?>, List<ResolvedType>> resolver) {
+		if ( converterParamTypesByConverter == null ) {
+			throw new IllegalStateException( "Classmate context has been released" );
+		}
+		return converterParamTypesByConverter.computeIfAbsent( converterClass, resolver );
+	}
+
 	public void release() {
 		typeResolver = null;
 		memberResolver = null;
+		resolvedMembersByType = null;
+		converterParamTypesByConverter = null;
+	}
+
+	/**
+	 * The resolved fields and methods of a type, indexed by name
+	 */
+	public static class ResolvedMembers {
+		private final Map<String, ResolvedField> fieldsByName;
+		private final Map<String, ResolvedMethod> methodsByName;
+
+		private ResolvedMembers(ResolvedTypeWithMembers typeWithMembers) {
+			this.fieldsByName = indexFields( typeWithMembers.getMemberFields() );
+			this.methodsByName = indexMethods( typeWithMembers.getMemberMethods() );
+		}
+
+		private static Map<String, ResolvedField> indexFields(ResolvedField[] fields) {
+			if ( fields.length == 0 ) {
+				return Collections.emptyMap();
+			}
+			final Map<String, ResolvedField> fieldsByName = new HashMap<>( fields.length * 2 );
+			for ( int i = 0; i < fields.length; i++ ) {
+				fieldsByName.putIfAbsent( fields[i].getName(), fields[i] );
+			}
+			return fieldsByName;
+		}
+
+		private static Map<String, ResolvedMethod> indexMethods(ResolvedMethod[] methods) {
+			if ( methods.length == 0 ) {
+				return Collections.emptyMap();
+			}
+			final Map<String, ResolvedMethod> methodsByName = new HashMap<>( methods.length * 2 );
+			for ( int i = 0; i < methods.length; i++ ) {
+				methodsByName.putIfAbsent( methods[i].getName(), methods[i] );
+			}
+			return methodsByName;
+		}
+
+		public ResolvedField findField(String name) {
+			return fieldsByName.get( name );
+		}
+
+		public ResolvedMethod findMethod(String name) {
+			return methodsByName.get( name );
+		}
 	}
 }
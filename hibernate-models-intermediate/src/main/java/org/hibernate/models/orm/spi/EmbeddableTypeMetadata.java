@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.spi;
+
+import org.hibernate.boot.model.source.spi.AttributePath;
+import org.hibernate.boot.model.source.spi.AttributeRole;
+
+/**
+ * Intermediate representation of an {@linkplain jakarta.persistence.metamodel.EmbeddableType embeddable}
+ * as referenced from a particular embedded attribute.
+ * <p/>
+ * The structure of an embeddable (its attributes) is the same for every reference using
+ * the same access type and is shared between them; only the role and path bases are
+ * specific to the reference.
+ *
+ * @author Steve Ebersole
+ */
+public interface EmbeddableTypeMetadata extends ManagedTypeMetadata {
+	/**
+	 * The base for the roles of attributes of the embeddable, as referenced here
+	 */
+	AttributeRole getAttributeRoleBase();
+
+	/**
+	 * The base for the paths of attributes of the embeddable, as referenced here
+	 */
+	AttributePath getAttributePathBase();
+}
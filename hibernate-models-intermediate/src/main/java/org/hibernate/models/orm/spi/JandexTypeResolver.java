@@ -0,0 +1,492 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.spi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.AnnotationException;
+import org.hibernate.models.source.ModelsException;
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
+
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.jandex.WildcardType;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Resolves generic type information - the type arguments of generic super-types, e.g. those of
+ * {@code AttributeConverter} - from the Jandex signatures of classes, without loading any of the
+ * classes involved.
+ * <p/>
+ * For each class, the type arguments of all of its generic super-types are resolved once, in terms
+ * of the class's own type parameters, and cached.  JDK types (e.g. {@code List}, {@code Map}) not
+ * part of the Jandex index are read from their class files on their own; other super-types unknown
+ * to the Jandex index are not walked.
+ *
+ * @author Steve Ebersole
+ */
+public class JandexTypeResolver {
+	public static final DotName OBJECT = DotName.createSimple( Object.class.getName() );
+	public static final DotName ATTRIBUTE_CONVERTER = DotName.createSimple( AttributeConverter.class.getName() );
+
+	private static final Type OBJECT_TYPE = ClassType.create( OBJECT );
+
+	private static final DotName BOOLEAN = DotName.createSimple( Boolean.class.getName() );
+	private static final DotName BYTE = DotName.createSimple( Byte.class.getName() );
+	private static final DotName CHARACTER = DotName.createSimple( Character.class.getName() );
+	private static final DotName SHORT = DotName.createSimple( Short.class.getName() );
+	private static final DotName INTEGER = DotName.createSimple( Integer.class.getName() );
+	private static final DotName LONG = DotName.createSimple( Long.class.getName() );
+	private static final DotName FLOAT = DotName.createSimple( Float.class.getName() );
+	private static final DotName DOUBLE = DotName.createSimple( Double.class.getName() );
+
+	private static final Map<String, Type> PRIMITIVES = Map.of(
+			"boolean", PrimitiveType.BOOLEAN,
+			"byte", PrimitiveType.BYTE,
+			"char", PrimitiveType.CHAR,
+			"short", PrimitiveType.SHORT,
+			"int", PrimitiveType.INT,
+			"long", PrimitiveType.LONG,
+			"float", PrimitiveType.FLOAT,
+			"double", PrimitiveType.DOUBLE
+	);
+
+	/**
+	 * The Jandex type for the given class name, as reported by {@link Class#getName()} - accounting
+	 * for primitives and arrays (e.g. {@code [B} or {@code [Ljava.lang.String;})
+	 */
+	public static Type typeForName(String className) {
+		if ( className.startsWith( "[" ) ) {
+			int dimensions = 0;
+			while ( className.charAt( dimensions ) == '[' ) {
+				dimensions++;
+			}
+			return ArrayType.create( typeForDescriptor( className, dimensions ), dimensions );
+		}
+
+		final Type primitive = PRIMITIVES.get( className );
+		return primitive != null ? primitive : ClassType.create( DotName.createSimple( className ) );
+	}
+
+	private static Type typeForDescriptor(String className, int position) {
+		switch ( className.charAt( position ) ) {
+			case 'Z': {
+				return PrimitiveType.BOOLEAN;
+			}
+			case 'B': {
+				return PrimitiveType.BYTE;
+			}
+			case 'C': {
+				return PrimitiveType.CHAR;
+			}
+			case 'S': {
+				return PrimitiveType.SHORT;
+			}
+			case 'I': {
+				return PrimitiveType.INT;
+			}
+			case 'J': {
+				return PrimitiveType.LONG;
+			}
+			case 'F': {
+				return PrimitiveType.FLOAT;
+			}
+			case 'D': {
+				return PrimitiveType.DOUBLE;
+			}
+			case 'L': {
+				return ClassType.create( DotName.createSimple( className.substring( position + 1, className.length() - 1 ) ) );
+			}
+			default: {
+				throw new ModelsException( "Unexpected array class name - " + className );
+			}
+		}
+	}
+
+	private final Supplier<IndexView> jandexIndexAccess;
+
+	// class -> generic super-type -> type arguments, in terms of the class's type parameters
+	private final Map<DotName, Map<DotName, List<Type>>> superTypeArgumentsByClass = new ConcurrentHashMap<>();
+	// JDK class files, indexed on their own
+	private final SinglyIndexedClasses singlyIndexedClasses = new SinglyIndexedClasses();
+
+	public JandexTypeResolver(IndexView jandexIndex) {
+		this( () -> jandexIndex );
+	}
+
+	/**
+	 * @param jandexIndexAccess Access to the Jandex index, which may grow as classes are indexed on demand
+	 */
+	public JandexTypeResolver(Supplier<IndexView> jandexIndexAccess) {
+		this.jandexIndexAccess = jandexIndexAccess;
+	}
+
+	/**
+	 * The name of the erasure of the given type, as {@linkplain #typesMatch matched} - wildcards and
+	 * type variables by their upper bound and primitives by their wrapper
+	 */
+	public static DotName erasedName(Type type) {
+		return normalize( upperBound( type ) ).name();
+	}
+
+	/**
+	 * Resolve the type arguments of {@code superTypeName} as seen from {@code type}.  E.g.
+	 * {@code [String, Integer]} for {@code AttributeConverter} as seen from
+	 * {@code MyConverter implements AttributeConverter<String,Integer>}.
+	 *
+	 * @return The resolved arguments, empty if {@code type} uses {@code superTypeName} raw, or
+	 * {@code null} if {@code type} is not known to extend or implement {@code superTypeName}
+	 */
+	public List<Type> resolveTypeArguments(Type type, DotName superTypeName) {
+		if ( type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE ) {
+			return null;
+		}
+
+		final List<Type> typeArguments = type.kind() == Type.Kind.PARAMETERIZED_TYPE
+				? type.asParameterizedType().arguments()
+				: Collections.emptyList();
+		if ( type.name().equals( superTypeName ) ) {
+			return typeArguments;
+		}
+
+		final List<Type> superTypeArguments = resolveSuperTypeArguments( type.name() ).get( superTypeName );
+		if ( superTypeArguments == null || superTypeArguments.isEmpty() || typeArguments.isEmpty() ) {
+			return superTypeArguments;
+		}
+
+		final Map<String, Type> bindings = bindTypeParameters( resolveClassInfo( type.name() ), typeArguments );
+		return substitute( superTypeArguments, bindings );
+	}
+
+	/**
+	 * Form of {@link #resolveTypeArguments(Type, DotName)} for a class
+	 */
+	public List<Type> resolveTypeArguments(DotName className, DotName superTypeName) {
+		return resolveTypeArguments( ClassType.create( className ), superTypeName );
+	}
+
+	/**
+	 * The names of all super-types of the given class - super-classes and interfaces, direct or not
+	 *
+	 * @return The names, empty if the class is unknown
+	 */
+	public Set<DotName> resolveSuperTypeNames(DotName className) {
+		return resolveSuperTypeArguments( className ).keySet();
+	}
+
+	/**
+	 * Resolve the {@code AttributeConverter} type arguments - the domain type and the relational
+	 * type, in that order - of the given converter class
+	 */
+	public List<Type> resolveConverterParamTypes(DotName converterClassName) {
+		final List<Type> converterParamTypes = resolveTypeArguments( converterClassName, ATTRIBUTE_CONVERTER );
+		if ( converterParamTypes == null || converterParamTypes.isEmpty() ) {
+			throw new AnnotationException(
+					"Could not extract type argument from attribute converter class '" + converterClassName + "'"
+			);
+		}
+		else if ( converterParamTypes.size() != 2 ) {
+			throw new AnnotationException(
+					"Unexpected type argument for attribute converter class '"
+							+ converterClassName
+							+ "' (expected 2 type arguments, but found " + converterParamTypes.size() + ")"
+			);
+		}
+		return converterParamTypes;
+	}
+
+	/**
+	 * Determine whether 2 types match, without loading either.  Intended for determining whether
+	 * to auto apply a converter.  Equivalent of
+	 * {@link org.hibernate.boot.model.convert.internal.ConverterHelper#typesMatch} for Jandex types.
+	 * Wildcards and type variables are matched by their upper bound, as Classmate resolves them, and
+	 * primitives by their wrapper.
+	 *
+	 * @param converterDefinedType The type defined via the converter's parameterized type signature.
+	 * @param checkType The type from the domain model (basic attribute type, Map key type, Collection element type)
+	 */
+	public boolean typesMatch(Type converterDefinedType, Type checkType) {
+		final Type normalizedConverterDefinedType = normalize( upperBound( converterDefinedType ) );
+		final Type normalizedCheckType = normalize( upperBound( checkType ) );
+
+		if ( normalizedConverterDefinedType.name().equals( OBJECT ) && normalizedConverterDefinedType.kind() == Type.Kind.CLASS ) {
+			return normalizedCheckType.kind() != Type.Kind.VOID;
+		}
+
+		if ( normalizedConverterDefinedType.kind() == Type.Kind.ARRAY || normalizedCheckType.kind() == Type.Kind.ARRAY ) {
+			return arraysMatch( normalizedConverterDefinedType, normalizedCheckType );
+		}
+
+		final List<Type> checkTypeArguments = resolveTypeArguments( normalizedCheckType, normalizedConverterDefinedType.name() );
+		if ( checkTypeArguments == null ) {
+			return false;
+		}
+
+		// if the converter did not define any nested type parameters, the check above is enough for a match
+		if ( normalizedConverterDefinedType.kind() != Type.Kind.PARAMETERIZED_TYPE ) {
+			return true;
+		}
+
+		final List<Type> converterTypeArguments = normalizedConverterDefinedType.asParameterizedType().arguments();
+		if ( converterTypeArguments.size() != checkTypeArguments.size() ) {
+			// includes a raw domain type - a List<String> would not auto-match a List(<Object>)
+			return false;
+		}
+
+		for ( int i = 0; i < converterTypeArguments.size(); i++ ) {
+			if ( !typesMatch( converterTypeArguments.get( i ), checkTypeArguments.get( i ) ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Arrays match arrays of the same dimensions, whose element types have the same erasure -
+	 * a {@code byte[]} does not match a {@code Byte[]}
+	 */
+	private boolean arraysMatch(Type converterDefinedType, Type checkType) {
+		if ( converterDefinedType.kind() != Type.Kind.ARRAY || checkType.kind() != Type.Kind.ARRAY ) {
+			return false;
+		}
+		if ( arrayDimensions( converterDefinedType ) != arrayDimensions( checkType ) ) {
+			return false;
+		}
+
+		final Type converterElementType = upperBound( arrayElementType( converterDefinedType ) );
+		final Type checkElementType = upperBound( arrayElementType( checkType ) );
+		if ( !converterElementType.name().equals( checkElementType.name() ) ) {
+			return false;
+		}
+
+		// e.g. List<String>[]
+		return converterElementType.kind() != Type.Kind.PARAMETERIZED_TYPE
+				|| typesMatch( converterElementType, checkElementType );
+	}
+
+	private static int arrayDimensions(Type arrayType) {
+		int dimensions = 0;
+		Type current = arrayType;
+		while ( current.kind() == Type.Kind.ARRAY ) {
+			dimensions += current.asArrayType().dimensions();
+			current = current.asArrayType().component();
+		}
+		return dimensions;
+	}
+
+	private static Type arrayElementType(Type arrayType) {
+		Type current = arrayType;
+		while ( current.kind() == Type.Kind.ARRAY ) {
+			current = current.asArrayType().component();
+		}
+		return current;
+	}
+
+	private Map<DotName, List<Type>> resolveSuperTypeArguments(DotName className) {
+		final Map<DotName, List<Type>> existing = superTypeArgumentsByClass.get( className );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final ClassInfo classInfo = resolveClassInfo( className );
+		if ( classInfo == null ) {
+			// not remembered - the class may still be indexed on demand later
+			return Collections.emptyMap();
+		}
+
+		final Map<DotName, List<Type>> resolved = new HashMap<>();
+		if ( classInfo.superClassType() != null ) {
+			collectSuperTypeArguments( classInfo.superClassType(), resolved );
+		}
+		final List<Type> interfaceTypes = classInfo.interfaceTypes();
+		for ( int i = 0; i < interfaceTypes.size(); i++ ) {
+			collectSuperTypeArguments( interfaceTypes.get( i ), resolved );
+		}
+
+		final Map<DotName, List<Type>> raced = superTypeArgumentsByClass.putIfAbsent( className, resolved );
+		return raced == null ? resolved : raced;
+	}
+
+	private void collectSuperTypeArguments(Type superType, Map<DotName, List<Type>> collected) {
+		final List<Type> superTypeArguments = superType.kind() == Type.Kind.PARAMETERIZED_TYPE
+				? superType.asParameterizedType().arguments()
+				: Collections.emptyList();
+		collected.putIfAbsent( superType.name(), superTypeArguments );
+
+		final Map<DotName, List<Type>> inherited = resolveSuperTypeArguments( superType.name() );
+		if ( inherited.isEmpty() ) {
+			return;
+		}
+
+		final Map<String, Type> bindings = superTypeArguments.isEmpty()
+				? Collections.emptyMap()
+				: bindTypeParameters( resolveClassInfo( superType.name() ), superTypeArguments );
+		for ( Map.Entry<DotName, List<Type>> entry : inherited.entrySet() ) {
+			if ( !collected.containsKey( entry.getKey() ) ) {
+				collected.put( entry.getKey(), substitute( entry.getValue(), bindings ) );
+			}
+		}
+	}
+
+	/**
+	 * The class from the Jandex index.  JDK types are rarely part of the index, so for those
+	 * the class file is indexed on its own.
+	 */
+	private ClassInfo resolveClassInfo(DotName className) {
+		final IndexView jandexIndex = jandexIndexAccess.get();
+		final ClassInfo indexed = jandexIndex == null ? null : jandexIndex.getClassByName( className );
+		if ( indexed != null || !className.toString().startsWith( "java." ) ) {
+			return indexed;
+		}
+
+		try {
+			return singlyIndexedClasses.indexClass( className, null );
+		}
+		catch (ModelsException e) {
+			return null;
+		}
+	}
+
+	private static Map<String, Type> bindTypeParameters(ClassInfo classInfo, List<Type> typeArguments) {
+		if ( classInfo == null ) {
+			return Collections.emptyMap();
+		}
+
+		final List<TypeVariable> typeParameters = classInfo.typeParameters();
+		if ( typeParameters.size() != typeArguments.size() ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Type> bindings = new HashMap<>( typeParameters.size() * 2 );
+		for ( int i = 0; i < typeParameters.size(); i++ ) {
+			bindings.put( typeParameters.get( i ).identifier(), typeArguments.get( i ) );
+		}
+		return bindings;
+	}
+
+	private static List<Type> substitute(List<Type> types, Map<String, Type> bindings) {
+		if ( bindings.isEmpty() ) {
+			return types;
+		}
+
+		final Type[] substituted = new Type[types.size()];
+		for ( int i = 0; i < types.size(); i++ ) {
+			substituted[i] = substitute( types.get( i ), bindings );
+		}
+		return List.of( substituted );
+	}
+
+	private static Type substitute(Type type, Map<String, Type> bindings) {
+		switch ( type.kind() ) {
+			case TYPE_VARIABLE: {
+				final Type bound = bindings.get( type.asTypeVariable().identifier() );
+				return bound == null ? type : bound;
+			}
+			case UNRESOLVED_TYPE_VARIABLE: {
+				final Type bound = bindings.get( type.asUnresolvedTypeVariable().identifier() );
+				return bound == null ? type : bound;
+			}
+			case TYPE_VARIABLE_REFERENCE: {
+				final Type bound = bindings.get( type.asTypeVariableReference().identifier() );
+				return bound == null ? type : bound;
+			}
+			case PARAMETERIZED_TYPE: {
+				final ParameterizedType parameterizedType = type.asParameterizedType();
+				final List<Type> arguments = substitute( parameterizedType.arguments(), bindings );
+				return ParameterizedType.create(
+						parameterizedType.name(),
+						arguments.toArray( new Type[0] ),
+						parameterizedType.owner()
+				);
+			}
+			case ARRAY: {
+				final ArrayType arrayType = type.asArrayType();
+				return ArrayType.create( substitute( arrayType.component(), bindings ), arrayType.dimensions() );
+			}
+			case WILDCARD_TYPE: {
+				final WildcardType wildcardType = type.asWildcardType();
+				return wildcardType.superBound() == null
+						? WildcardType.createUpperBound( substitute( wildcardType.extendsBound(), bindings ) )
+						: WildcardType.createLowerBound( substitute( wildcardType.superBound(), bindings ) );
+			}
+			default: {
+				return type;
+			}
+		}
+	}
+
+	/**
+	 * The upper bound of a wildcard or type variable - {@code Object} if it has none (or
+	 * it cannot be determined); any other type as-is
+	 */
+	private static Type upperBound(Type type) {
+		switch ( type.kind() ) {
+			case WILDCARD_TYPE: {
+				return upperBound( type.asWildcardType().extendsBound() );
+			}
+			case TYPE_VARIABLE: {
+				final List<Type> bounds = type.asTypeVariable().bounds();
+				return bounds.isEmpty() ? OBJECT_TYPE : upperBound( bounds.get( 0 ) );
+			}
+			case UNRESOLVED_TYPE_VARIABLE:
+			case TYPE_VARIABLE_REFERENCE: {
+				return OBJECT_TYPE;
+			}
+			default: {
+				return type;
+			}
+		}
+	}
+
+	private static Type normalize(Type type) {
+		return type.kind() == Type.Kind.PRIMITIVE ? ClassType.create( wrapperName( type ) ) : type;
+	}
+
+	private static DotName wrapperName(Type primitiveType) {
+		switch ( primitiveType.asPrimitiveType().primitive() ) {
+			case BOOLEAN: {
+				return BOOLEAN;
+			}
+			case BYTE: {
+				return BYTE;
+			}
+			case CHAR: {
+				return CHARACTER;
+			}
+			case SHORT: {
+				return SHORT;
+			}
+			case INT: {
+				return INTEGER;
+			}
+			case LONG: {
+				return LONG;
+			}
+			case FLOAT: {
+				return FLOAT;
+			}
+			default: {
+				return DOUBLE;
+			}
+		}
+	}
+}
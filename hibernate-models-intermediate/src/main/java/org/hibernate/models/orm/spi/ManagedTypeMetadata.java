@@ -31,19 +31,41 @@ public interface ManagedTypeMetadata {
 
 	/**
 	 * Get the number of declared attributes
+	 *
+	 * @see #getAttributes()
 	 */
 	int getNumberOfAttributes();
 
 	/**
-	 * Get the declared attributes
+	 * Get the declared attributes.
+	 * <p/>
+	 * The attributes are resolved when first accessed through any of the attribute methods, not
+	 * when the managed type is built - so that is also when problems with their mappings are
+	 * reported.  Until resolved successfully, each access reports the problem again.
+	 *
+	 * @throws org.hibernate.models.orm.AccessTypePlacementException If {@linkplain jakarta.persistence.Access @Access}
+	 * is misplaced on one of the members
+	 * @throws org.hibernate.models.orm.MultipleAttributeNaturesException If one of the members indicates
+	 * more than one {@linkplain AttributeMetadata.AttributeNature nature}
 	 */
 	Collection<AttributeMetadata> getAttributes();
 
 	/**
 	 * Visit each declared attributes
+	 *
+	 * @see #getAttributes()
 	 */
 	void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer);
 
+	/**
+	 * The embeddable referenced by one of this type's {@linkplain AttributeMetadata.AttributeNature#EMBEDDED embedded}
+	 * attributes.  Each embedded attribute has its own view of the embeddable, but the attributes of the embeddable
+	 * are shared by all references to it.
+	 *
+	 * @throws IllegalArgumentException If the attribute is not embedded
+	 */
+	EmbeddableTypeMetadata getEmbeddable(AttributeMetadata attribute);
+
 	/**
 	 * Find the usages of the given annotation type.
 	 * <p/>
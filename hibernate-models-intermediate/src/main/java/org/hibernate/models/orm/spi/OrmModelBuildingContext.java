@@ -21,4 +21,19 @@ public interface OrmModelBuildingContext {
 	IndexView getJandexIndex();
 
 	ClassmateContext getClassmateContext();
+
+	/**
+	 * Cache of attributes resolved for managed types shared between hierarchies and embedded references
+	 */
+	AttributeMetadataResolver getAttributeMetadataResolver();
+
+	/**
+	 * Access type details of managed classes
+	 */
+	AccessTypeResolver getAccessTypeResolver();
+
+	/**
+	 * Resolution of generic type information from the Jandex index, without loading classes
+	 */
+	JandexTypeResolver getJandexTypeResolver();
 }
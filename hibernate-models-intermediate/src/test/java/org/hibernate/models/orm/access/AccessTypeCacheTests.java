@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.access;
+
+import org.hibernate.models.orm.internal.AccessTypeCache;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.IndexView;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.TestHelper.createSourceBuildingContext;
+
+/**
+ * Tests for {@link AccessTypeCache}
+ *
+ * @author Steve Ebersole
+ */
+public class AccessTypeCacheTests {
+	@Test
+	void testIndexedClasses() {
+		final SourceModelBuildingContext buildingContext = createSourceBuildingContext(
+				FieldId.class,
+				PropertyId.class,
+				ExplicitAccess.class,
+				NoId.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final AccessTypeCache accessTypeCache = new AccessTypeCache( buildingContext.getJandexIndex() );
+
+		final ClassDetails fieldId = classDetailsRegistry.resolveClassDetails( FieldId.class.getName() );
+		assertThat( accessTypeCache.getExplicitAccessType( fieldId ) ).isNull();
+		assertThat( accessTypeCache.getImplicitAccessType( fieldId ) ).isEqualTo( AccessType.FIELD );
+
+		final ClassDetails propertyId = classDetailsRegistry.resolveClassDetails( PropertyId.class.getName() );
+		assertThat( accessTypeCache.getExplicitAccessType( propertyId ) ).isNull();
+		assertThat( accessTypeCache.getImplicitAccessType( propertyId ) ).isEqualTo( AccessType.PROPERTY );
+
+		final ClassDetails explicitAccess = classDetailsRegistry.resolveClassDetails( ExplicitAccess.class.getName() );
+		assertThat( accessTypeCache.getExplicitAccessType( explicitAccess ) ).isEqualTo( AccessType.PROPERTY );
+		assertThat( accessTypeCache.getImplicitAccessType( explicitAccess ) ).isEqualTo( AccessType.FIELD );
+
+		final ClassDetails noId = classDetailsRegistry.resolveClassDetails( NoId.class.getName() );
+		assertThat( accessTypeCache.getExplicitAccessType( noId ) ).isNull();
+		assertThat( accessTypeCache.getImplicitAccessType( noId ) ).isNull();
+	}
+
+	@Test
+	void testClassesUnknownToJandex() {
+		final SourceModelBuildingContext buildingContext = createSourceBuildingContext();
+		final AccessTypeCache accessTypeCache = new AccessTypeCache( buildingContext.getJandexIndex() );
+
+		// not part of the index, so the placement is determined from the members
+		final ClassDetails fieldId = JdkBuilders.resolveClassDetails( FieldId.class, buildingContext );
+		assertThat( buildingContext.getJandexIndex().getClassByName( FieldId.class ) ).isNull();
+		assertThat( accessTypeCache.getImplicitAccessType( fieldId ) ).isEqualTo( AccessType.FIELD );
+
+		final ClassDetails embeddedId = JdkBuilders.resolveClassDetails( PropertyEmbeddedId.class, buildingContext );
+		assertThat( accessTypeCache.getImplicitAccessType( embeddedId ) ).isEqualTo( AccessType.PROPERTY );
+
+		final ClassDetails explicitAccess = JdkBuilders.resolveClassDetails( ExplicitAccess.class, buildingContext );
+		assertThat( accessTypeCache.getExplicitAccessType( explicitAccess ) ).isEqualTo( AccessType.PROPERTY );
+
+		// without any index at all
+		final AccessTypeCache noIndexCache = new AccessTypeCache( (IndexView) null );
+		assertThat( noIndexCache.getImplicitAccessType( fieldId ) ).isEqualTo( AccessType.FIELD );
+	}
+
+	@SuppressWarnings("unused")
+	public static class FieldId {
+		@Id
+		private Integer id;
+	}
+
+	@SuppressWarnings("unused")
+	public static class PropertyId {
+		private Integer id;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class PropertyEmbeddedId {
+		private Object id;
+
+		@EmbeddedId
+		public Object getId() {
+			return id;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	@Access( AccessType.PROPERTY )
+	public static class ExplicitAccess {
+		@Id
+		private Integer id;
+	}
+
+	@SuppressWarnings("unused")
+	public static class NoId {
+		private Integer id;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.annotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.orm.internal.OrmAnnotationCatalog;
+import org.hibernate.models.orm.internal.OrmAnnotationDescriptor;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.orm.spi.JpaAnnotations;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+
+import org.jboss.jandex.DotName;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class OrmAnnotationCatalogTests {
+	@Test
+	void testOrdinalsAreStable() {
+		// touch the Hibernate annotations first - the JPA annotations still come first
+		final OrmAnnotationDescriptor<?> any = (OrmAnnotationDescriptor<?>) HibernateAnnotations.ANY;
+		final OrmAnnotationDescriptor<?> access = (OrmAnnotationDescriptor<?>) JpaAnnotations.ACCESS;
+		final OrmAnnotationDescriptor<?> version = (OrmAnnotationDescriptor<?>) JpaAnnotations.VERSION;
+
+		assertThat( access.getOrdinal() ).isEqualTo( 0 );
+		assertThat( any.getOrdinal() ).isEqualTo( version.getOrdinal() + 1 );
+
+		final List<AnnotationDescriptor<?>> visited = new ArrayList<>();
+		OrmAnnotationCatalog.forEachDescriptor( visited::add );
+		for ( int i = 0; i < visited.size(); i++ ) {
+			assertThat( ( (OrmAnnotationDescriptor<?>) visited.get( i ) ).getOrdinal() ).isEqualTo( i );
+		}
+
+		assertThat( OrmAnnotationCatalog.findDescriptor( any.getDotName() ) ).isSameAs( any );
+		assertThat( OrmAnnotationCatalog.findDescriptor( DotName.createSimple( Test.class.getName() ) ) ).isNull();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.annotations;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.ValueGenerationType;
+import org.hibernate.generator.internal.CurrentTimestampGeneration;
+import org.hibernate.models.orm.spi.HibernateAnnotations;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.TestHelper.createSourceBuildingContext;
+
+/**
+ * Meta-annotations of the JPA and Hibernate annotations, as registered by the primer
+ *
+ * @author Steve Ebersole
+ */
+public class OrmMetaAnnotationTests {
+	@Test
+	void testValueGenerationType() {
+		final SourceModelBuildingContext buildingContext = createSourceBuildingContext( TimestampedEntity.class );
+		final AnnotationDescriptor<CreationTimestamp> creationTimestamp = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( CreationTimestamp.class );
+		assertThat( creationTimestamp ).isSameAs( HibernateAnnotations.CREATION_TIMESTAMP );
+		assertThat( creationTimestamp.getMetaAnnotations() ).containsKey( ValueGenerationType.class );
+
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( TimestampedEntity.class.getName() );
+		final FieldDetails createdField = findField( classDetails.getFields(), "created" );
+		assertThat( createdField.getAnnotation( HibernateAnnotations.VALUE_GENERATION_TYPE ) ).isNull();
+
+		final AnnotationUsage<ValueGenerationType> valueGeneration = createdField.getEffectiveAnnotation( HibernateAnnotations.VALUE_GENERATION_TYPE );
+		assertThat( valueGeneration ).isNotNull();
+		assertThat( valueGeneration.getAttributeValue( "generatedBy" ).asClass().getClassName() )
+				.isEqualTo( CurrentTimestampGeneration.class.getName() );
+
+		// not implied by annotations which are not meta-annotated with it
+		final FieldDetails idField = findField( classDetails.getFields(), "id" );
+		assertThat( idField.getEffectiveAnnotation( HibernateAnnotations.VALUE_GENERATION_TYPE ) ).isNull();
+	}
+
+	private static FieldDetails findField(List<FieldDetails> fields, String name) {
+		for ( int i = 0; i < fields.size(); i++ ) {
+			if ( fields.get( i ).getName().equals( name ) ) {
+				return fields.get( i );
+			}
+		}
+		throw new IllegalArgumentException( "No such field - " + name );
+	}
+
+	@Entity(name="TimestampedEntity")
+	public static class TimestampedEntity {
+		@Id
+		private Integer id;
+		@CreationTimestamp
+		private Instant created;
+	}
+}
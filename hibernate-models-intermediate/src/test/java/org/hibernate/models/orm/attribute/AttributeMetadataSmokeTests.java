@@ -24,7 +24,10 @@ import org.hibernate.annotations.TenantId;
 import org.hibernate.annotations.TimeZoneColumn;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.models.orm.AccessTypePlacementException;
+import org.hibernate.models.orm.MultipleAttributeNaturesException;
 import org.hibernate.models.orm.TestHelper;
+import org.hibernate.models.orm.spi.AttributeMetadata;
+import org.hibernate.models.orm.spi.EmbeddableTypeMetadata;
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.EntityTypeMetadata;
 import org.hibernate.models.source.spi.ClassDetails;
@@ -42,6 +45,7 @@ import jakarta.persistence.AccessType;
 import jakarta.persistence.Basic;
 import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
@@ -60,6 +64,7 @@ import jakarta.persistence.Version;
 
 import static jakarta.persistence.AccessType.PROPERTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.models.orm.TestHelper.buildHierarchies;
 import static org.hibernate.models.orm.TestHelper.createSourceBuildingContext;
 import static org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature.ANY;
@@ -91,13 +96,32 @@ public class AttributeMetadataSmokeTests {
 	@NotImplementedYet(strict = false)
 	void testAccessOnSetter() {
 		try {
-			buildHierarchies( ExplicitAccessOnSetterEntity.class );
+			// attributes are only resolved (and validated) when asked for
+			buildHierarchies( ExplicitAccessOnSetterEntity.class )
+					.iterator()
+					.next()
+					.getRoot()
+					.getAttributes();
 			fail( "Expecting error about annotations on setter" );
 		}
 		catch (AccessTypePlacementException expected) {
 		}
 	}
 
+	@Test
+	void testAttributesResolvedOnDemand() {
+		// building the hierarchy does not look at the attributes ...
+		final EntityTypeMetadata entity = buildHierarchies( ConflictingNatures.class )
+				.iterator()
+				.next()
+				.getRoot();
+		assertThat( entity.getAccessType() ).isEqualTo( AccessType.FIELD );
+
+		// ... so problems with them are reported on first access, and again on any later one
+		assertThatThrownBy( entity::getAttributes ).isInstanceOf( MultipleAttributeNaturesException.class );
+		assertThatThrownBy( entity::getNumberOfAttributes ).isInstanceOf( MultipleAttributeNaturesException.class );
+	}
+
 	@Test
 	void testMixedAccess() {
 		final EntityTypeMetadata mismatch = buildHierarchies( MixedAccess.class )
@@ -235,6 +259,69 @@ public class AttributeMetadataSmokeTests {
 		} );
 	}
 
+	@Test
+	void testEmbeddables() {
+		final EntityTypeMetadata entity = buildHierarchies( WithEmbeddeds.class, Address.class )
+				.iterator()
+				.next()
+				.getRoot();
+		assertThat( entity.getAttributes() ).hasSize( 3 );
+
+		AttributeMetadata homeAttribute = null;
+		AttributeMetadata workAttribute = null;
+		for ( AttributeMetadata attribute : entity.getAttributes() ) {
+			if ( "home".equals( attribute.getName() ) ) {
+				homeAttribute = attribute;
+			}
+			else if ( "work".equals( attribute.getName() ) ) {
+				workAttribute = attribute;
+			}
+		}
+		assertThat( homeAttribute.getNature() ).isEqualTo( EMBEDDED );
+		assertThat( workAttribute.getNature() ).isEqualTo( EMBEDDED );
+
+		// each embedded attribute has its own view of the embeddable ...
+		final EmbeddableTypeMetadata home = entity.getEmbeddable( homeAttribute );
+		final EmbeddableTypeMetadata work = entity.getEmbeddable( workAttribute );
+		assertThat( entity.getEmbeddable( homeAttribute ) ).isSameAs( home );
+		assertThat( work ).isNotSameAs( home );
+		assertThat( home.getAttributePathBase().getFullPath() ).isEqualTo( "home" );
+		assertThat( work.getAttributePathBase().getFullPath() ).isEqualTo( "work" );
+		assertThat( home.getAttributeRoleBase().getFullPath() ).isEqualTo( WithEmbeddeds.class.getName() + ".home" );
+
+		// ... sharing its attributes
+		assertThat( home.getClassDetails() ).isSameAs( work.getClassDetails() );
+		assertThat( home.getAccessType() ).isEqualTo( AccessType.FIELD );
+		assertThat( home.getAttributes() ).hasSize( 2 );
+		assertThat( home.getAttributes() ).isSameAs( work.getAttributes() );
+	}
+
+	@Entity( name = "WithEmbeddeds" )
+	@Table( name = "WithEmbeddeds" )
+	public static class WithEmbeddeds {
+		@Id
+		private Integer id;
+		@Embedded
+		private Address home;
+		private Address work;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+	}
+
+	@Entity( name = "ConflictingNatures" )
+	@Table( name = "ConflictingNatures" )
+	public static class ConflictingNatures {
+		@Id
+		private Integer id;
+		@Basic
+		@ManyToOne
+		private ConflictingNatures conflicting;
+	}
+
 	@Entity( name = "Transiency" )
 	@Table( name = "Transiency" )
 	public static class Transiency {
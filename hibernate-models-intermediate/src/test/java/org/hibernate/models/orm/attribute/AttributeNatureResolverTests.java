@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.attribute;
+
+import java.util.List;
+
+import org.hibernate.annotations.Nationalized;
+import org.hibernate.models.orm.MultipleAttributeNaturesException;
+import org.hibernate.models.orm.internal.AttributeNatureResolver;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.TestHelper.createSourceBuildingContext;
+import static org.hibernate.models.orm.internal.AttributeNatureResolver.determineAttributeNature;
+import static org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature.BASIC;
+import static org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature.EMBEDDED;
+import static org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature.PLURAL;
+import static org.hibernate.models.orm.spi.AttributeMetadata.AttributeNature.TO_ONE;
+
+/**
+ * Tests for {@link AttributeNatureResolver}
+ *
+ * @author Steve Ebersole
+ */
+public class AttributeNatureResolverTests {
+	@Test
+	void testNatures() {
+		final SourceModelBuildingContext buildingContext = createSourceBuildingContext(
+				Natures.class,
+				Address.class
+		);
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( Natures.class.getName() );
+		final List<FieldDetails> fields = classDetails.getFields();
+
+		// no nature-bearing annotations at all
+		assertThat( determineAttributeNature( findField( fields, "implicit" ) ) ).isEqualTo( BASIC );
+		// implied natures count when the attribute is not plural
+		assertThat( determineAttributeNature( findField( fields, "implied" ) ) ).isEqualTo( BASIC );
+		assertThat( determineAttributeNature( findField( fields, "manyToOne" ) ) ).isEqualTo( TO_ONE );
+
+		// annotations implying a nature apply to the elements of plural attributes
+		assertThat( determineAttributeNature( findField( fields, "temporals" ) ) ).isEqualTo( PLURAL );
+		assertThat( determineAttributeNature( findField( fields, "nationalized" ) ) ).isEqualTo( PLURAL );
+
+		// the type being embeddable indicates EMBEDDED, whether @Embedded is present or not
+		assertThat( determineAttributeNature( findField( fields, "embeddedType" ) ) ).isEqualTo( EMBEDDED );
+		assertThat( determineAttributeNature( findField( fields, "embedded" ) ) ).isEqualTo( EMBEDDED );
+
+		assertThatThrownBy( () -> determineAttributeNature( findField( fields, "conflicting" ) ) )
+				.isInstanceOf( MultipleAttributeNaturesException.class )
+				.hasMessageContaining( "conflicting" )
+				.hasMessageContaining( BASIC.name() )
+				.hasMessageContaining( TO_ONE.name() );
+		assertThatThrownBy( () -> determineAttributeNature( findField( fields, "embeddedAndImplied" ) ) )
+				.isInstanceOf( MultipleAttributeNaturesException.class )
+				.hasMessageContaining( BASIC.name() )
+				.hasMessageContaining( EMBEDDED.name() );
+	}
+
+	private static FieldDetails findField(List<FieldDetails> fields, String name) {
+		for ( int i = 0; i < fields.size(); i++ ) {
+			if ( fields.get( i ).getName().equals( name ) ) {
+				return fields.get( i );
+			}
+		}
+		throw new IllegalArgumentException( "No field named " + name );
+	}
+
+	@SuppressWarnings("unused")
+	public static class Natures {
+		private String implicit;
+
+		@Lob
+		private String implied;
+
+		@ManyToOne
+		private Natures manyToOne;
+
+		@ElementCollection
+		@Temporal( TemporalType.DATE )
+		private List<java.util.Date> temporals;
+
+		@OneToMany
+		@Nationalized
+		private List<Natures> nationalized;
+
+		private Address embeddedType;
+
+		@Embedded
+		private Address embedded;
+
+		@Basic
+		@ManyToOne
+		private Natures conflicting;
+
+		@Lob
+		private Address embeddedAndImplied;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+	}
+}
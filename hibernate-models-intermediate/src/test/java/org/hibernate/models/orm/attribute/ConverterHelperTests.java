@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.attribute;
+
+import java.lang.reflect.Member;
+import java.util.List;
+
+import org.hibernate.boot.model.convert.internal.ConverterHelper;
+import org.hibernate.models.orm.spi.ClassmateContext;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.members.ResolvedMember;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.TestHelper.createSourceBuildingContext;
+
+/**
+ * Tests for the Classmate resolutions memoized by {@link ClassmateContext}
+ * and used from {@link ConverterHelper}
+ *
+ * @author Steve Ebersole
+ */
+public class ConverterHelperTests {
+	@Test
+	void testResolveMember() {
+		final SourceModelBuildingContext buildingContext = createSourceBuildingContext( ConvertedEntity.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( ConvertedEntity.class.getName() );
+		final FieldDetails tagsField = findField( classDetails.getFields(), "tags" );
+		final MethodDetails tagsGetter = findMethod( classDetails.getMethods(), "getTags" );
+
+		final ClassmateContext classmateContext = new ClassmateContext();
+
+		final ResolvedMember<? extends Member> resolvedField = ConverterHelper.resolveMember( classDetails, tagsField, classmateContext );
+		assertThat( resolvedField.getName() ).isEqualTo( "tags" );
+		assertThat( resolvedField.getType().getErasedType() ).isEqualTo( List.class );
+		assertThat( resolvedField.getType().getTypeParameters().get( 0 ).getErasedType() ).isEqualTo( String.class );
+
+		final ResolvedMember<? extends Member> resolvedGetter = ConverterHelper.resolveMember( classDetails, tagsGetter, classmateContext );
+		assertThat( resolvedGetter.getName() ).isEqualTo( "getTags" );
+
+		// the declaring type is only resolved once, so repeated resolution returns the cached instances
+		assertThat( classmateContext.resolveMembers( ConvertedEntity.class ) ).isSameAs( classmateContext.resolveMembers( ConvertedEntity.class ) );
+		assertThat( ConverterHelper.resolveMember( classDetails, tagsField, classmateContext ) ).isSameAs( resolvedField );
+		assertThat( ConverterHelper.resolveMember( classDetails, tagsGetter, classmateContext ) ).isSameAs( resolvedGetter );
+
+		classmateContext.release();
+		assertThatThrownBy( () -> ConverterHelper.resolveMember( classDetails, tagsField, classmateContext ) )
+				.isInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	void testResolveConverterParamTypes() {
+		final ClassmateContext classmateContext = new ClassmateContext();
+
+		final List<ResolvedType> paramTypes = ConverterHelper.resolveConverterClassParamTypes( ListConverter.class, classmateContext );
+		assertThat( paramTypes ).hasSize( 2 );
+		assertThat( paramTypes.get( 0 ).getErasedType() ).isEqualTo( List.class );
+		assertThat( paramTypes.get( 1 ).getErasedType() ).isEqualTo( String.class );
+
+		// the converter is only resolved once, so repeated resolution returns the cached instance
+		assertThat( ConverterHelper.resolveConverterClassParamTypes( ListConverter.class, classmateContext ) ).isSameAs( paramTypes );
+
+		classmateContext.release();
+		assertThatThrownBy( () -> ConverterHelper.resolveConverterClassParamTypes( ListConverter.class, classmateContext ) )
+				.isInstanceOf( IllegalStateException.class );
+	}
+
+	private static FieldDetails findField(List<FieldDetails> fields, String name) {
+		for ( int i = 0; i < fields.size(); i++ ) {
+			if ( fields.get( i ).getName().equals( name ) ) {
+				return fields.get( i );
+			}
+		}
+		throw new IllegalArgumentException( "No such field - " + name );
+	}
+
+	private static MethodDetails findMethod(List<MethodDetails> methods, String name) {
+		for ( int i = 0; i < methods.size(); i++ ) {
+			if ( methods.get( i ).getName().equals( name ) ) {
+				return methods.get( i );
+			}
+		}
+		throw new IllegalArgumentException( "No such method - " + name );
+	}
+
+	@Entity(name="ConvertedEntity")
+	public static class ConvertedEntity {
+		@Id
+		private Integer id;
+		@Convert(converter = ListConverter.class)
+		private List<String> tags;
+
+		public List<String> getTags() {
+			return tags;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.attribute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.models.orm.spi.JandexTypeResolver;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+
+import jakarta.persistence.AttributeConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.spi.JandexTypeResolver.typeForName;
+
+/**
+ * Tests for {@link JandexTypeResolver}.  Only the test classes are indexed - the JDK
+ * types involved are resolved from their class files on their own.
+ *
+ * @author Steve Ebersole
+ */
+public class JandexTypeResolverTests {
+	@Test
+	void testConverterParamTypes() {
+		final Index index = buildIndex( BaseConverter.class, UuidConverter.class, ListConverter.class, NumbersConverter.class );
+		final JandexTypeResolver typeResolver = new JandexTypeResolver( index );
+
+		// resolved through the generic super-type
+		final List<Type> uuidParamTypes = typeResolver.resolveConverterParamTypes( DotName.createSimple( UuidConverter.class.getName() ) );
+		assertThat( uuidParamTypes ).hasSize( 2 );
+		assertThat( uuidParamTypes.get( 0 ).name().toString() ).isEqualTo( UUID.class.getName() );
+		assertThat( uuidParamTypes.get( 1 ).name().toString() ).isEqualTo( String.class.getName() );
+		assertThat( typeResolver.typesMatch( uuidParamTypes.get( 0 ), typeForName( UUID.class.getName() ) ) ).isTrue();
+		assertThat( typeResolver.typesMatch( uuidParamTypes.get( 0 ), typeForName( String.class.getName() ) ) ).isFalse();
+
+		final Type stringList = listOf( String.class );
+		final List<Type> listParamTypes = typeResolver.resolveConverterParamTypes( DotName.createSimple( ListConverter.class.getName() ) );
+		assertThat( listParamTypes.get( 0 ) ).isEqualTo( stringList );
+		assertThat( typeResolver.typesMatch( listParamTypes.get( 0 ), stringList ) ).isTrue();
+		assertThat( typeResolver.typesMatch( listParamTypes.get( 0 ), parameterized( ArrayList.class, String.class ) ) ).isTrue();
+		assertThat( typeResolver.typesMatch( listParamTypes.get( 0 ), listOf( Integer.class ) ) ).isFalse();
+		assertThat( typeResolver.typesMatch( listParamTypes.get( 0 ), parameterized( Set.class, String.class ) ) ).isFalse();
+		assertThat( typeResolver.typesMatch( listParamTypes.get( 0 ), typeForName( List.class.getName() ) ) ).isFalse();
+
+		// List<? extends Number> matches by the bound
+		final List<Type> numbersParamTypes = typeResolver.resolveConverterParamTypes( DotName.createSimple( NumbersConverter.class.getName() ) );
+		assertThat( typeResolver.typesMatch( numbersParamTypes.get( 0 ), listOf( Integer.class ) ) ).isTrue();
+		assertThat( typeResolver.typesMatch( numbersParamTypes.get( 0 ), stringList ) ).isFalse();
+	}
+
+	@Test
+	void testArrays() {
+		final Index index = buildIndex( ByteArrayConverter.class, StringArrayConverter.class );
+		final JandexTypeResolver typeResolver = new JandexTypeResolver( index );
+
+		final Type byteArray = typeForName( byte[].class.getName() );
+		assertThat( byteArray.kind() ).isEqualTo( Type.Kind.ARRAY );
+		assertThat( byteArray.asArrayType().dimensions() ).isEqualTo( 1 );
+		assertThat( byteArray.asArrayType().component() ).isEqualTo( typeForName( "byte" ) );
+
+		final Type stringArray = typeForName( String[].class.getName() );
+		assertThat( stringArray.kind() ).isEqualTo( Type.Kind.ARRAY );
+		assertThat( stringArray.asArrayType().component() ).isEqualTo( typeForName( String.class.getName() ) );
+
+		final Type byteArrayParamType = typeResolver.resolveConverterParamTypes( DotName.createSimple( ByteArrayConverter.class.getName() ) ).get( 0 );
+		assertThat( typeResolver.typesMatch( byteArrayParamType, byteArray ) ).isTrue();
+		// the component types and dimensions must match
+		assertThat( typeResolver.typesMatch( byteArrayParamType, typeForName( Byte[].class.getName() ) ) ).isFalse();
+		assertThat( typeResolver.typesMatch( byteArrayParamType, typeForName( byte[][].class.getName() ) ) ).isFalse();
+		assertThat( typeResolver.typesMatch( byteArrayParamType, typeForName( "byte" ) ) ).isFalse();
+
+		final Type stringArrayParamType = typeResolver.resolveConverterParamTypes( DotName.createSimple( StringArrayConverter.class.getName() ) ).get( 0 );
+		assertThat( typeResolver.typesMatch( stringArrayParamType, stringArray ) ).isTrue();
+		assertThat( typeResolver.typesMatch( stringArrayParamType, byteArray ) ).isFalse();
+		assertThat( typeResolver.typesMatch( stringArrayParamType, typeForName( String.class.getName() ) ) ).isFalse();
+		assertThat( typeResolver.typesMatch( typeForName( String.class.getName() ), stringArray ) ).isFalse();
+		// anything matches Object
+		assertThat( typeResolver.typesMatch( typeForName( Object.class.getName() ), stringArray ) ).isTrue();
+	}
+
+	private static Type listOf(Class<?> elementType) {
+		return parameterized( List.class, elementType );
+	}
+
+	private static Type parameterized(Class<?> type, Class<?> argument) {
+		return ParameterizedType.create(
+				DotName.createSimple( type.getName() ),
+				new Type[] { typeForName( argument.getName() ) },
+				null
+		);
+	}
+
+	private static Index buildIndex(Class<?>... classes) {
+		final Indexer indexer = new Indexer();
+		for ( Class<?> modelClass : classes ) {
+			try {
+				indexer.indexClass( modelClass );
+			}
+			catch (IOException e) {
+				throw new RuntimeException( e );
+			}
+		}
+		return indexer.complete();
+	}
+
+	public abstract static class BaseConverter<T> implements AttributeConverter<T, String> {
+		@Override
+		public String convertToDatabaseColumn(T attribute) {
+			return null;
+		}
+
+		@Override
+		public T convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class UuidConverter extends BaseConverter<UUID> {
+	}
+
+	public static class NumbersConverter implements AttributeConverter<List<? extends Number>, String> {
+		@Override
+		public String convertToDatabaseColumn(List<? extends Number> attribute) {
+			return null;
+		}
+
+		@Override
+		public List<? extends Number> convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class ByteArrayConverter implements AttributeConverter<byte[], String> {
+		@Override
+		public String convertToDatabaseColumn(byte[] attribute) {
+			return null;
+		}
+
+		@Override
+		public byte[] convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class StringArrayConverter implements AttributeConverter<String[], String> {
+		@Override
+		public String convertToDatabaseColumn(String[] attribute) {
+			return null;
+		}
+
+		@Override
+		public String[] convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.attribute;
+
+import java.util.List;
+
+import org.hibernate.models.orm.AccessTypePlacementException;
+import org.hibernate.models.orm.internal.OrmModelBuildingContextImpl;
+import org.hibernate.models.orm.internal.StandardPersistentAttributeMemberResolver;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.MemberDetails;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.Transient;
+
+import static jakarta.persistence.AccessType.FIELD;
+import static jakarta.persistence.AccessType.PROPERTY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.TestHelper.createBuildingContext;
+
+/**
+ * Tests for {@link StandardPersistentAttributeMemberResolver}
+ *
+ * @author Steve Ebersole
+ */
+public class PersistentAttributeMemberResolverTests {
+	@Test
+	void testFieldAccess() {
+		final OrmModelBuildingContextImpl buildingContext = createBuildingContext( FieldAccessed.class );
+		final ClassDetails classDetails = resolveClassDetails( buildingContext, FieldAccessed.class );
+
+		final List<MemberDetails> members = StandardPersistentAttributeMemberResolver.INSTANCE.resolveAttributesMembers(
+				classDetails,
+				FIELD,
+				buildingContext
+		);
+
+		// explicitly accessed members come first and win over the class-level member of the same name
+		assertThat( members ).hasSize( 3 );
+		assertThat( members.get( 0 ).isField() ).isFalse();
+		assertThat( members.get( 0 ).resolveAttributeName() ).isEqualTo( "name" );
+		assertThat( members.subList( 1, 3 ) ).allMatch( MemberDetails::isField );
+		assertThat( members.subList( 1, 3 ) )
+				.extracting( MemberDetails::resolveAttributeName )
+				.containsExactlyInAnyOrder( "id", "description" );
+	}
+
+	@Test
+	void testPropertyAccess() {
+		final OrmModelBuildingContextImpl buildingContext = createBuildingContext( PropertyAccessed.class );
+		final ClassDetails classDetails = resolveClassDetails( buildingContext, PropertyAccessed.class );
+
+		final List<MemberDetails> members = StandardPersistentAttributeMemberResolver.INSTANCE.resolveAttributesMembers(
+				classDetails,
+				PROPERTY,
+				buildingContext
+		);
+
+		// transient members are skipped, even when explicitly accessed
+		assertThat( members ).hasSize( 4 );
+		assertThat( members.get( 0 ).isField() ).isTrue();
+		assertThat( members.get( 0 ).resolveAttributeName() ).isEqualTo( "code" );
+		assertThat( members.subList( 1, 4 ) ).noneMatch( MemberDetails::isField );
+		assertThat( members.subList( 1, 4 ) )
+				.extracting( MemberDetails::resolveAttributeName )
+				.containsExactlyInAnyOrder( "id", "name", "active" );
+	}
+
+	@Test
+	void testMisplacedAccess() {
+		final OrmModelBuildingContextImpl buildingContext = createBuildingContext( MisplacedAccess.class );
+		final ClassDetails classDetails = resolveClassDetails( buildingContext, MisplacedAccess.class );
+
+		assertThatThrownBy( () -> StandardPersistentAttributeMemberResolver.INSTANCE.resolveAttributesMembers(
+				classDetails,
+				FIELD,
+				buildingContext
+		) ).isInstanceOf( AccessTypePlacementException.class );
+	}
+
+	private static ClassDetails resolveClassDetails(OrmModelBuildingContextImpl buildingContext, Class<?> javaClass) {
+		return buildingContext.getSourceModel().getClassDetailsRegistry().resolveClassDetails( javaClass.getName() );
+	}
+
+	@SuppressWarnings("unused")
+	public static class FieldAccessed {
+		private Integer id;
+		private String name;
+		@Transient
+		private String hidden;
+		private String description;
+
+		@Access( PROPERTY )
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class PropertyAccessed {
+		@Access( FIELD )
+		private String code;
+		@Access( FIELD )
+		@Transient
+		private String ignored;
+
+		public Integer getId() {
+			return null;
+		}
+
+		public String getName() {
+			return null;
+		}
+
+		public boolean isActive() {
+			return false;
+		}
+
+		@Transient
+		public String getHidden() {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	public static class MisplacedAccess {
+		private Integer id;
+
+		@Access( FIELD )
+		public String getName() {
+			return null;
+		}
+	}
+}
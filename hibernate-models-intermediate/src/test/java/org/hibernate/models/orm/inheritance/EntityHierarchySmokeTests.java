@@ -6,10 +6,12 @@
  */
 package org.hibernate.models.orm.inheritance;
 
+import java.util.Iterator;
 import java.util.Set;
 
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.source.spi.ClassDetails;
 
 import org.hibernate.testing.orm.junit.ServiceRegistry;
@@ -94,6 +96,50 @@ public class EntityHierarchySmokeTests {
 		assertThat( hierarchy.getRoot().getNumberOfAttributes() ).isEqualTo( 2 );
 	}
 
+	@Test
+	void testSharedMappedSuperAttributes() {
+		final Set<EntityHierarchy> entityHierarchies = buildHierarchies(
+				SharedMappedSuper.class,
+				FirstSharingRoot.class,
+				SecondSharingRoot.class
+		);
+
+		assertThat( entityHierarchies ).hasSize( 2 );
+		final Iterator<EntityHierarchy> hierarchies = entityHierarchies.iterator();
+		final IdentifiableTypeMetadata firstSuper = hierarchies.next().getRoot().getSuperType();
+		final IdentifiableTypeMetadata secondSuper = hierarchies.next().getRoot().getSuperType();
+
+		// each hierarchy has its own view of the mapped-superclass ...
+		assertThat( firstSuper ).isNotSameAs( secondSuper );
+		assertThat( firstSuper.getClassDetails() ).isSameAs( secondSuper.getClassDetails() );
+
+		// ... but its attributes are only resolved once
+		assertThat( firstSuper.getNumberOfAttributes() ).isEqualTo( 2 );
+		assertThat( firstSuper.getAttributes() ).isSameAs( secondSuper.getAttributes() );
+	}
+
+	@Access( AccessType.FIELD )
+	@MappedSuperclass
+	public static class SharedMappedSuper {
+		@Basic
+		private String createdBy;
+		private String updatedBy;
+	}
+
+	@Entity( name = "FirstSharingRoot" )
+	@Table( name = "FirstSharingRoot" )
+	public static class FirstSharingRoot extends SharedMappedSuper {
+		@Id
+		private Integer id;
+	}
+
+	@Entity( name = "SecondSharingRoot" )
+	@Table( name = "SecondSharingRoot" )
+	public static class SecondSharingRoot extends SharedMappedSuper {
+		@Id
+		private Integer id;
+	}
+
 	@Inheritance( strategy = JOINED )
 	@Access( AccessType.FIELD )
 	@MappedSuperclass
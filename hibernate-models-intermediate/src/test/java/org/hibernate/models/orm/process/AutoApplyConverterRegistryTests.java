@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.models.orm.internal.OrmModelBuildingContextImpl;
+import org.hibernate.models.orm.process.internal.AutoApplyConverterRegistry;
+import org.hibernate.models.orm.process.internal.ConversionRegistration;
+import org.hibernate.models.orm.spi.ClassmateContext;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.type.CharBooleanConverter;
+import org.hibernate.type.YesNoConverter;
+import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.classmate.ResolvedType;
+import jakarta.persistence.AttributeConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.TestHelper.createBuildingContext;
+import static org.hibernate.models.orm.spi.JandexTypeResolver.typeForName;
+
+/**
+ * Tests for {@link AutoApplyConverterRegistry}
+ *
+ * @author Steve Ebersole
+ */
+public class AutoApplyConverterRegistryTests {
+	@Test
+	void testFindMatchingRegistrations() {
+		final AutoApplyConverterRegistry registry = buildRegistry();
+
+		final List<ConversionRegistration> stringRegistrations = registry.findMatchingRegistrations( typeForName( String.class.getName() ) );
+		assertThat( stringRegistrations ).hasSize( 1 );
+		assertThat( stringRegistrations.get( 0 ).getConverterType().getName() ).isEqualTo( MyStringConverter.class.getName() );
+		// memoized per type
+		assertThat( registry.findMatchingRegistrations( typeForName( String.class.getName() ) ) ).isSameAs( stringRegistrations );
+
+		final List<ConversionRegistration> uuidRegistrations = registry.findMatchingRegistrations( typeForName( UUID.class.getName() ) );
+		assertThat( uuidRegistrations ).hasSize( 1 );
+		assertThat( uuidRegistrations.get( 0 ).getConverterType().getName() ).isEqualTo( MyUuidConverter.class.getName() );
+
+		// primitives match their wrapper
+		final List<ConversionRegistration> booleanRegistrations = registry.findMatchingRegistrations( typeForName( "boolean" ) );
+		assertThat( booleanRegistrations ).hasSize( 1 );
+		assertThat( booleanRegistrations.get( 0 ).getConverterType().getName() ).isEqualTo( YesNoConverter.class.getName() );
+
+		// registered against a super-type
+		final List<ConversionRegistration> integerRegistrations = registry.findMatchingRegistrations( typeForName( Integer.class.getName() ) );
+		assertThat( integerRegistrations ).hasSize( 1 );
+		assertThat( integerRegistrations.get( 0 ).getConverterType().getName() ).isEqualTo( MyNumberConverter.class.getName() );
+
+		// generic parameters are checked for the candidates
+		assertThat( registry.findMatchingRegistrations( parameterized( ArrayList.class, String.class ) ) ).hasSize( 1 );
+		assertThat( registry.findMatchingRegistrations( parameterized( List.class, Integer.class ) ) ).isEmpty();
+
+		// not auto-applied
+		assertThat( registry.findMatchingRegistrations( typeForName( Character.class.getName() ) ) ).isEmpty();
+	}
+
+	@Test
+	void testFindMatchingConverters() {
+		final AutoApplyConverterRegistry registry = buildRegistry();
+		final ClassmateContext classmateContext = new ClassmateContext();
+
+		final ResolvedType stringType = classmateContext.getTypeResolver().resolve( String.class );
+		final List<ConverterDescriptor> stringConverters = registry.findMatchingConverters( stringType );
+		assertThat( stringConverters ).hasSize( 1 );
+		assertThat( stringConverters.get( 0 ).getAttributeConverterClass() ).isEqualTo( MyStringConverter.class );
+		// memoized per type
+		assertThat( registry.findMatchingConverters( stringType ) ).isSameAs( stringConverters );
+
+		final List<ConverterDescriptor> uuidConverters = registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( UUID.class ) );
+		assertThat( uuidConverters ).hasSize( 1 );
+		assertThat( uuidConverters.get( 0 ).getAttributeConverterClass() ).isEqualTo( MyUuidConverter.class );
+
+		final List<ConverterDescriptor> booleanConverters = registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( boolean.class ) );
+		assertThat( booleanConverters ).hasSize( 1 );
+		assertThat( booleanConverters.get( 0 ).getAttributeConverterClass() ).isEqualTo( YesNoConverter.class );
+
+		final List<ConverterDescriptor> integerConverters = registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( Integer.class ) );
+		assertThat( integerConverters ).hasSize( 1 );
+		assertThat( integerConverters.get( 0 ).getAttributeConverterClass() ).isEqualTo( MyNumberConverter.class );
+
+		assertThat( registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( ArrayList.class, String.class ) ) ).hasSize( 1 );
+		assertThat( registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( List.class, Integer.class ) ) ).isEmpty();
+		assertThat( registry.findMatchingConverters( classmateContext.getTypeResolver().resolve( Character.class ) ) ).isEmpty();
+	}
+
+	private static AutoApplyConverterRegistry buildRegistry() {
+		final OrmModelBuildingContextImpl modelContext = createBuildingContext(
+				MyStringConverter.class,
+				MyUuidConverter.class,
+				MyNumberConverter.class,
+				MyListConverter.class,
+				MyCharacterConverter.class,
+				YesNoConverter.class,
+				CharBooleanConverter.class,
+				BasicValueConverter.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = modelContext.getSourceModel().getClassDetailsRegistry();
+
+		final List<ConversionRegistration> registrations = List.of(
+				new ConversionRegistration(
+						classDetailsRegistry.resolveClassDetails( UUID.class.getName() ),
+						classDetailsRegistry.resolveClassDetails( MyUuidConverter.class.getName() ),
+						true
+				),
+				new ConversionRegistration(
+						classDetailsRegistry.resolveClassDetails( boolean.class.getName() ),
+						classDetailsRegistry.resolveClassDetails( YesNoConverter.class.getName() ),
+						true
+				),
+				new ConversionRegistration(
+						null,
+						classDetailsRegistry.resolveClassDetails( MyCharacterConverter.class.getName() ),
+						false
+				)
+		);
+
+		return AutoApplyConverterRegistry.from(
+				registrations,
+				List.of(
+						classDetailsRegistry.resolveClassDetails( MyStringConverter.class.getName() ),
+						classDetailsRegistry.resolveClassDetails( MyNumberConverter.class.getName() ),
+						classDetailsRegistry.resolveClassDetails( MyListConverter.class.getName() )
+				),
+				modelContext
+		);
+	}
+
+	private static Type parameterized(Class<?> type, Class<?> argument) {
+		return ParameterizedType.create(
+				DotName.createSimple( type.getName() ),
+				new Type[] { typeForName( argument.getName() ) },
+				null
+		);
+	}
+
+	public static class MyStringConverter implements AttributeConverter<String,String> {
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return null;
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class MyUuidConverter implements AttributeConverter<UUID,String> {
+		@Override
+		public String convertToDatabaseColumn(UUID attribute) {
+			return null;
+		}
+
+		@Override
+		public UUID convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class MyNumberConverter implements AttributeConverter<Number,String> {
+		@Override
+		public String convertToDatabaseColumn(Number attribute) {
+			return null;
+		}
+
+		@Override
+		public Number convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class MyListConverter implements AttributeConverter<List<String>,String> {
+		@Override
+		public String convertToDatabaseColumn(List<String> attribute) {
+			return null;
+		}
+
+		@Override
+		public List<String> convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+
+	public static class MyCharacterConverter implements AttributeConverter<Character,String> {
+		@Override
+		public String convertToDatabaseColumn(Character attribute) {
+			return null;
+		}
+
+		@Override
+		public Character convertToEntityAttribute(String dbData) {
+			return null;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.models.orm.process;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.annotations.ConverterRegistration;
@@ -14,6 +15,8 @@ import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.JavaTypeRegistration;
 import org.hibernate.boot.model.jandex.JandexIndexer;
 import org.hibernate.id.IncrementGenerator;
+import org.hibernate.models.orm.process.internal.AutoApplyConverterRegistry;
+import org.hibernate.models.orm.process.internal.ConversionRegistration;
 import org.hibernate.models.orm.process.internal.IdGeneratorRegistration;
 import org.hibernate.models.orm.process.internal.ManagedResourcesImpl;
 import org.hibernate.models.orm.process.spi.ManagedResources;
@@ -21,6 +24,7 @@ import org.hibernate.models.orm.process.spi.ProcessResult;
 import org.hibernate.models.orm.process.spi.Processor;
 import org.hibernate.models.orm.spi.EntityHierarchy;
 import org.hibernate.models.orm.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.spi.JandexTypeResolver;
 import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
 import org.hibernate.models.source.internal.jandex.JandexIndexerHelper;
 import org.hibernate.type.descriptor.java.StringJavaType;
@@ -145,6 +149,14 @@ public class ProcessorTests {
 		assertThat( processResult.getAutoAppliedConverters() ).hasSize( 1 );
 		assertThat( processResult.getConverterRegistrations() ).hasSize( 2 );
 
+		// all 3 are auto-applied; matched from the Jandex signatures alone
+		final AutoApplyConverterRegistry autoApplyConverters = processResult.getAutoApplyConverterRegistry();
+		assertThat( autoApplyConverters.getRegistrations() ).hasSize( 3 );
+		final List<ConversionRegistration> stringRegistrations = autoApplyConverters.findMatchingRegistrations( JandexTypeResolver.typeForName( String.class.getName() ) );
+		assertThat( stringRegistrations ).hasSize( 1 );
+		assertThat( stringRegistrations.get( 0 ).getConverterType().getName() ).isEqualTo( MyStringConverter.class.getName() );
+		assertThat( autoApplyConverters.findMatchingRegistrations( JandexTypeResolver.typeForName( "boolean" ) ) ).hasSize( 1 );
+
 		assertThat( processResult.getJpaNamedQueries() ).hasSize( 3 );
 		assertThat( processResult.getJpaNamedQueries() ).containsKeys( "jpaHql", "jpaNative", "jpaCallable" );
 
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.hibernate.models.source.AnnotationAccessException;
+
+/**
+ * Cached accessors for the attributes of an annotation type, used to read attribute
+ * values from {@linkplain Annotation runtime annotation} instances.
+ * <p/>
+ * The attribute methods are looked up once per annotation type and converted into
+ * {@linkplain MethodHandle method handles}, avoiding repeated reflective lookups against
+ * the JDK proxy class and the overhead of {@link Method#invoke}.
+ * <p/>
+ * Accessors are cached against the annotation type using a {@link ClassValue}, so they
+ * are shared by every descriptor of that annotation type and do not prevent the
+ * annotation class from being unloaded.
+ *
+ * @author Steve Ebersole
+ */
+public class AnnotationAttributeAccessors {
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Annotation.class );
+
+	private static final ClassValue<AnnotationAttributeAccessors> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected AnnotationAttributeAccessors computeValue(Class<?> type) {
+			//noinspection unchecked
+			return new AnnotationAttributeAccessors( (Class<? extends Annotation>) type );
+		}
+	};
+
+	/**
+	 * Get the (cached) accessors for the given annotation type
+	 */
+	public static AnnotationAttributeAccessors forAnnotationType(Class<? extends Annotation> annotationType) {
+		return ACCESSORS.get( annotationType );
+	}
+
+	private final Class<? extends Annotation> annotationType;
+	private final Map<String, AttributeAccessor> accessorMap;
+
+	private AnnotationAttributeAccessors(Class<? extends Annotation> annotationType) {
+		this.annotationType = annotationType;
+
+		final Method[] methods = annotationType.getDeclaredMethods();
+		this.accessorMap = new HashMap<>();
+		for ( int i = 0; i < methods.length; i++ ) {
+			final Method method = methods[i];
+			accessorMap.put( method.getName(), new AttributeAccessor( method ) );
+		}
+	}
+
+	/**
+	 * Extract the value of the named attribute from the given {@code annotation}
+	 *
+	 * @throws AnnotationAccessException If the annotation has no such attribute or the value cannot be read
+	 */
+	public <T> T extractValue(Annotation annotation, String attributeName) {
+		//noinspection unchecked
+		return (T) getAccessor( attributeName ).extractValue( annotation );
+	}
+
+	/**
+	 * The default value of the named attribute, or {@code null} if it has none
+	 *
+	 * @throws AnnotationAccessException If the annotation has no such attribute
+	 */
+	public Object getDefaultValue(String attributeName) {
+		return getAccessor( attributeName ).defaultValue;
+	}
+
+	/**
+	 * Whether the given {@code value} matches the default value of the named attribute
+	 */
+	public boolean isDefaultValue(String attributeName, Object value) {
+		final Object defaultValue = getDefaultValue( attributeName );
+		return defaultValue != null && Objects.deepEquals( value, defaultValue );
+	}
+
+	private AttributeAccessor getAccessor(String attributeName) {
+		final AttributeAccessor accessor = accessorMap.get( attributeName );
+		if ( accessor == null ) {
+			throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + attributeName );
+		}
+		return accessor;
+	}
+
+	private static class AttributeAccessor {
+		private final Method method;
+		private final MethodHandle handle;
+		private final Object defaultValue;
+
+		private AttributeAccessor(Method method) {
+			this.method = method;
+			this.handle = resolveHandle( method );
+			this.defaultValue = method.getDefaultValue();
+		}
+
+		private static MethodHandle resolveHandle(Method method) {
+			// non-public annotation types (e.g. nested in test classes) need the access check suppressed
+			method.trySetAccessible();
+			try {
+				return MethodHandles.lookup().unreflect( method ).asType( ACCESSOR_TYPE );
+			}
+			catch (IllegalAccessException e) {
+				// fall back to reflection
+				return null;
+			}
+		}
+
+		private Object extractValue(Annotation annotation) {
+			try {
+				if ( handle != null ) {
+					return handle.invokeExact( annotation );
+				}
+				return method.invoke( annotation );
+			}
+			catch (Throwable t) {
+				throw new AnnotationAccessException(
+						String.format(
+								Locale.ROOT,
+								"Unable to extract attribute value : %s.%s",
+								method.getDeclaringClass().getName(),
+								method.getName()
+						),
+						t
+				);
+			}
+		}
+	}
+}
@@ -16,6 +16,8 @@ import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
+import org.jboss.jandex.DotName;
+
 /**
  * Access to AnnotationDescriptor instances based on a number of look-ups
  *
@@ -23,16 +25,28 @@ import org.hibernate.models.source.spi.SourceModelBuildingContext;
  */
 public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorRegistry {
 	private final SourceModelBuildingContext context;
+	private final SinglyIndexedClasses singlyIndexedClasses;
 
 	private final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap = new ConcurrentHashMap<>();
+	private final Map<DotName, AnnotationDescriptor<?>> descriptorsByName = new ConcurrentHashMap<>();
 	private final Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap = new ConcurrentHashMap<>();
 
 	public AnnotationDescriptorRegistryImpl(SourceModelBuildingContext context) {
+		this( context, null );
+	}
+
+	/**
+	 * @param singlyIndexedClasses Cache for the class files of annotations built here which
+	 * are not part of the index, may be {@code null}
+	 */
+	public AnnotationDescriptorRegistryImpl(SourceModelBuildingContext context, SinglyIndexedClasses singlyIndexedClasses) {
 		this.context = context;
+		this.singlyIndexedClasses = singlyIndexedClasses;
 	}
 
 	public void register(AnnotationDescriptor<?> descriptor) {
 		descriptorMap.put( descriptor.getAnnotationType(), descriptor );
+		descriptorsByName.put( AnnotationHelper.toDotName( descriptor.getAnnotationType() ), descriptor );
 		if ( descriptor.getRepeatableContainer() != null ) {
 			// the descriptor is repeatable - register it under its container
 			repeatableByContainerMap.put( descriptor.getRepeatableContainer(), descriptor );
@@ -44,6 +58,20 @@ public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorReg
 		return resolveDescriptor( javaType, this::buildAdHocAnnotationDescriptor );
 	}
 
+	@Override
+	public AnnotationDescriptor<?> getDescriptor(DotName annotationName) {
+		final AnnotationDescriptor<?> existing = descriptorsByName.get( annotationName );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		// only load the annotation class the first time the name is seen
+		final Class<? extends Annotation> javaType = context.getClassLoadingAccess().classForName( annotationName.toString() );
+		final AnnotationDescriptor<?> descriptor = getDescriptor( javaType );
+		descriptorsByName.put( annotationName, descriptor );
+		return descriptor;
+	}
+
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
 			Class<A> javaType,
@@ -70,7 +98,7 @@ public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorReg
 			containerDescriptor = null;
 		}
 
-		return new AnnotationDescriptorImpl<>( javaType, containerDescriptor, context );
+		return new AnnotationDescriptorImpl<>( javaType, containerDescriptor, singlyIndexedClasses, context );
 	}
 
 	/**
@@ -6,47 +6,60 @@
  */
 package org.hibernate.models.source.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Target;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.Collections;
 import java.util.EnumSet;
-import java.util.Locale;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-import org.hibernate.models.source.AnnotationAccessException;
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.source.ModelsException;
+import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.AnnotationTarget;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
 /**
  * Helper for dealing with actual {@link Annotation} references
  *
  * @author Steve Ebersole
  */
 public class AnnotationHelper {
+	private static final DotName INHERITED = DotName.createSimple( Inherited.class.getName() );
+	private static final DotName TARGET = DotName.createSimple( Target.class.getName() );
+
+	private static final ClassValue<DotName> ANNOTATION_NAMES = new ClassValue<>() {
+		@Override
+		protected DotName computeValue(Class<?> type) {
+			return DotName.createSimple( type.getName() );
+		}
+	};
+
 	private AnnotationHelper() {
 		// disallow direct instantiation
 	}
 
 	/**
 	 * Extract a "raw" value directly from an {@linkplain Annotation annotation}
+	 *
+	 * @see AnnotationAttributeAccessors
 	 */
 	public static <A extends Annotation, T> T extractRawAttributeValue(A annotation, String attributeName) {
-		try {
-			final Method method = annotation.getClass().getDeclaredMethod( attributeName );
-			//noinspection unchecked
-			return (T) method.invoke( annotation );
-		}
-		catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-			throw new AnnotationAccessException(
-					String.format(
-							Locale.ROOT,
-							"Unable to extract attribute value : %s.%s",
-							annotation.annotationType().getName(),
-							attributeName
-					),
-					e
-			);
-		}
+		return AnnotationAttributeAccessors
+				.forAnnotationType( annotation.annotationType() )
+				.extractValue( annotation, attributeName );
 	}
 
 	public static <A extends Annotation> boolean isInherited(Class<A> annotationType) {
@@ -56,4 +69,123 @@ public class AnnotationHelper {
 	public static <A extends Annotation> EnumSet<AnnotationTarget.Kind> extractTargets(Class<A> annotationType) {
 		return AnnotationTarget.Kind.from( annotationType.getAnnotation( Target.class ) );
 	}
+
+	/**
+	 * Whether the annotation type is marked {@linkplain Inherited @Inherited}, read from its bytecode
+	 */
+	public static boolean isInherited(ClassInfo annotationClassInfo) {
+		return annotationClassInfo.declaredAnnotation( INHERITED ) != null;
+	}
+
+	/**
+	 * The {@linkplain Target targets} allowed for the annotation type, read from its bytecode
+	 */
+	public static EnumSet<AnnotationTarget.Kind> extractTargets(ClassInfo annotationClassInfo) {
+		final AnnotationInstance target = annotationClassInfo.declaredAnnotation( TARGET );
+		if ( target == null ) {
+			return EnumSet.allOf( AnnotationTarget.Kind.class );
+		}
+
+		final String[] elementTypeNames = target.value().asEnumArray();
+		final ElementType[] elementTypes = new ElementType[elementTypeNames.length];
+		for ( int i = 0; i < elementTypeNames.length; i++ ) {
+			elementTypes[i] = ElementType.valueOf( elementTypeNames[i] );
+		}
+		return AnnotationTarget.Kind.from( elementTypes );
+	}
+
+	/**
+	 * The Jandex name of the annotation type, created once per type
+	 */
+	public static DotName toDotName(Class<? extends Annotation> annotationType) {
+		return ANNOTATION_NAMES.get( annotationType );
+	}
+
+	/**
+	 * Map each attribute name to its position within {@code attributeDescriptors}
+	 *
+	 * @see org.hibernate.models.source.spi.AnnotationDescriptor#getAttributeOrdinal
+	 */
+	public static Map<String, Integer> indexAttributes(List<AnnotationAttributeDescriptor> attributeDescriptors) {
+		if ( attributeDescriptors.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, Integer> ordinals = new HashMap<>( (int) ( attributeDescriptors.size() / .75f ) + 1 );
+		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
+			ordinals.put( attributeDescriptors.get( i ).getAttributeName(), i );
+		}
+		return ordinals;
+	}
+
+	/**
+	 * Resolve the Jandex {@link ClassInfo} for an annotation type.  Looks first in the
+	 * given {@code jandexIndex} (if one); otherwise the annotation's class file is indexed
+	 * on its own.
+	 */
+	public static ClassInfo resolveAnnotationClassInfo(
+			Class<? extends Annotation> annotationType,
+			IndexView jandexIndex) {
+		return resolveAnnotationClassInfo( annotationType, jandexIndex, null );
+	}
+
+	/**
+	 * Resolve the Jandex {@link ClassInfo} for an annotation type.  Looks first in the
+	 * given {@code jandexIndex} (if one); otherwise the annotation's class file is indexed
+	 * on its own, through {@code singlyIndexedClasses} (if one).
+	 */
+	public static ClassInfo resolveAnnotationClassInfo(
+			Class<? extends Annotation> annotationType,
+			IndexView jandexIndex,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		if ( jandexIndex != null ) {
+			final ClassInfo indexed = jandexIndex.getClassByName( annotationType );
+			if ( indexed != null ) {
+				return indexed;
+			}
+		}
+
+		return SinglyIndexedClasses.indexClass(
+				toDotName( annotationType ),
+				annotationType.getClassLoader(),
+				singlyIndexedClasses
+		);
+	}
+
+	/**
+	 * Load the named class through the given {@code classLoader} - typically that of an
+	 * annotation type, to resolve the types its attributes reference
+	 */
+	public static <T> Class<T> loadClass(String className, ClassLoader classLoader) {
+		try {
+			//noinspection unchecked
+			return (Class<T>) Class.forName( className, false, classLoader );
+		}
+		catch (ClassNotFoundException e) {
+			throw new UnknownClassException( "Unable to load class - " + className, e );
+		}
+	}
+
+	/**
+	 * Index a single class file, located through the given {@code classLoader}.  The result
+	 * is not cached - see {@link SinglyIndexedClasses} for that.
+	 */
+	public static ClassInfo indexClass(DotName className, ClassLoader classLoader) {
+		final String resourceName = StringHelper.classNameToResourceName( className.toString() );
+		final URL resource = classLoader == null
+				? ClassLoader.getSystemResource( resourceName )
+				: classLoader.getResource( resourceName );
+		if ( resource == null ) {
+			throw new ModelsException( "Unable to locate class file - " + className );
+		}
+
+		final Indexer indexer = new Indexer();
+		try (InputStream inputStream = resource.openStream()) {
+			indexer.index( inputStream );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to index class - " + className, e );
+		}
+		return indexer.complete().getClassByName( className );
+	}
 }
@@ -9,14 +9,17 @@ package org.hibernate.models.source.internal;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.internal.IndexedBiConsumer;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.AnnotationAttributeValue;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
 
 
@@ -44,6 +47,39 @@ public class AnnotationUsageHelper {
 		return (AnnotationUsage<A>) usageMap.get( type.getAnnotationType() );
 	}
 
+	/**
+	 * Find the usage of the given {@code type} implied, as a {@linkplain AnnotationDescriptor#getMetaAnnotations()
+	 * meta-annotation}, by one of the usages from the {@code usageMap}
+	 */
+	public static <A extends Annotation> AnnotationUsage<A> findMetaAnnotation(
+			AnnotationDescriptor<A> type,
+			Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap) {
+		if ( usageMap.isEmpty() || !isPossibleMetaAnnotation( type ) ) {
+			return null;
+		}
+
+		for ( AnnotationUsage<?> usage : usageMap.values() ) {
+			final AnnotationUsage<?> metaUsage = usage.getAnnotationDescriptor()
+					.getMetaAnnotations()
+					.get( type.getAnnotationType() );
+			if ( metaUsage != null ) {
+				//noinspection unchecked
+				return (AnnotationUsage<A>) metaUsage;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Whether the given {@code type} can be used on annotation types at all
+	 */
+	private static boolean isPossibleMetaAnnotation(AnnotationDescriptor<?> type) {
+		final EnumSet<AnnotationTarget.Kind> allowableTargets = type.getAllowableTargets();
+		return allowableTargets.contains( AnnotationTarget.Kind.ANNOTATION )
+				|| allowableTargets.contains( AnnotationTarget.Kind.CLASS );
+	}
+
 	public static <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type, Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap) {
 		// e.g. `@NamedQuery`
 		final AnnotationUsage<A> usage = getAnnotation( type, usageMap );
@@ -73,6 +109,46 @@ public class AnnotationUsageHelper {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Visit the usages of the given {@code type} from the {@code usageMap} in place, in the same order
+	 * as {@link #getRepeatedAnnotations} would return them, without collecting them.
+	 *
+	 * @param startPosition The position to report for the first usage visited
+	 *
+	 * @return The position following the last usage visited
+	 */
+	public static <A extends Annotation, C> int forEachRepeatedAnnotation(
+			AnnotationDescriptor<A> type,
+			Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap,
+			int startPosition,
+			C context,
+			IndexedBiConsumer<AnnotationUsage<A>, C> consumer) {
+		int position = startPosition;
+
+		// e.g. `@NamedQueries`
+		final AnnotationDescriptor<?> containerType = type.getRepeatableContainer();
+		if ( containerType != null ) {
+			final AnnotationUsage<?> containerUsage = usageMap.get( containerType.getAnnotationType() );
+			if ( containerUsage != null ) {
+				final AnnotationAttributeValue<List<AnnotationUsage<A>>> attributeValue = containerUsage.getAttributeValue( "value" );
+				final List<AnnotationUsage<A>> repetitions = attributeValue == null ? null : attributeValue.getValue();
+				if ( repetitions != null ) {
+					for ( int i = 0; i < repetitions.size(); i++ ) {
+						consumer.accept( position++, repetitions.get( i ), context );
+					}
+				}
+			}
+		}
+
+		// e.g. `@NamedQuery`
+		final AnnotationUsage<A> usage = getAnnotation( type, usageMap );
+		if ( usage != null ) {
+			consumer.accept( position++, usage, context );
+		}
+
+		return position;
+	}
+
 	public static <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
 			AnnotationDescriptor<A> type,
 			String matchValue,
@@ -107,6 +183,49 @@ public class AnnotationUsageHelper {
 		return null;
 	}
 
+	/**
+	 * The usages of the given {@code type} from the {@code usageMap} which {@link #getNamedAnnotation}
+	 * considers - the direct usage if there is one, otherwise the repetitions within the container.
+	 */
+	public static <A extends Annotation> List<AnnotationUsage<A>> getNamedAnnotationCandidates(
+			AnnotationDescriptor<A> type,
+			Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap) {
+		final AnnotationUsage<A> annotationUsage = getAnnotation( type, usageMap );
+		if ( annotationUsage != null ) {
+			return Collections.singletonList( annotationUsage );
+		}
+
+		final AnnotationDescriptor<?> containerType = type.getRepeatableContainer();
+		if ( containerType != null ) {
+			final AnnotationUsage<?> containerUsage = usageMap.get( containerType.getAnnotationType() );
+			if ( containerUsage != null ) {
+				final AnnotationAttributeValue<List<AnnotationUsage<A>>> attributeValue = containerUsage.getAttributeValue( "value" );
+				if ( attributeValue != null && attributeValue.getValue() != null ) {
+					return attributeValue.getValue();
+				}
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Scan the {@code candidates} for the first whose {@code attributeToMatch} attribute value
+	 * matches the given {@code matchValue}
+	 */
+	public static <A extends Annotation> AnnotationUsage<A> findNamedAnnotation(
+			List<AnnotationUsage<A>> candidates,
+			String matchValue,
+			String attributeToMatch) {
+		for ( int i = 0; i < candidates.size(); i++ ) {
+			final AnnotationUsage<A> candidate = candidates.get( i );
+			if ( nameMatches( candidate, matchValue, attributeToMatch ) ) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
 	private static boolean nameMatches(AnnotationUsage<?> annotationUsage, String matchValue, String attributeToMatch) {
 		final AnnotationAttributeValue<String> attributeValue = annotationUsage.getAttributeValue( attributeToMatch );
 		return attributeValue != null && matchValue.equals( attributeValue.getValue() );
@@ -19,6 +19,9 @@ import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.PackageDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
+
+import org.jboss.jandex.DotName;
 
 /**
  * Standard ClassDetailsRegistry implementation
@@ -30,11 +33,16 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 	private final SourceModelBuildingContext context;
 
 	private final Map<String, ClassDetails> classDetailsMap = new ConcurrentHashMap<>();
+	// same registrations keyed by Jandex name, for lookups coming directly from the index
+	private final Map<DotName, ClassDetails> classDetailsByDotNameMap = new ConcurrentHashMap<>();
 	// sub-type ClassDetails per super
 	private final Map<String, List<ClassDetails>> subTypeClassDetailsMap = new ConcurrentHashMap<>();
 	// for packages containing a package-info.class file
 	private final Map<String, PackageDetails> packageDetailsMap = new ConcurrentHashMap<>();
 
+	// built lazily, once - later registrations are handled without it
+	private volatile TypeHierarchyIndex typeHierarchyIndex;
+
 	public ClassDetailsRegistryImpl(SourceModelBuildingContext context) {
 		this( ClassDetailsBuilderImpl.DEFAULT_BUILDER, context );
 	}
@@ -59,6 +67,18 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 		return named;
 	}
 
+	@Override public ClassDetails findClassDetails(DotName name) {
+		return classDetailsByDotNameMap.get( name );
+	}
+
+	@Override public ClassDetails getClassDetails(DotName name) {
+		final ClassDetails named = classDetailsByDotNameMap.get( name );
+		if ( named == null ) {
+			return getClassDetails( name.toString() );
+		}
+		return named;
+	}
+
 	@Override public void forEachClassDetails(ClassDetailsConsumer consumer) {
 		for ( Map.Entry<String, ClassDetails> entry : classDetailsMap.entrySet() ) {
 			consumer.consume( entry.getValue() );
@@ -79,18 +99,35 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 		}
 	}
 
+	@Override public TypeHierarchyIndex getTypeHierarchyIndex() {
+		TypeHierarchyIndex index = typeHierarchyIndex;
+		if ( index == null ) {
+			synchronized ( this ) {
+				index = typeHierarchyIndex;
+				if ( index == null ) {
+					index = new TypeHierarchyIndexImpl( new ArrayList<>( classDetailsMap.values() ), this );
+					typeHierarchyIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	@Override public void addClassDetails(ClassDetails classDetails) {
 		addClassDetails( classDetails.getClassName(), classDetails );
 	}
 
 	@Override public void addClassDetails(String name, ClassDetails classDetails) {
 		classDetailsMap.put( name, classDetails );
+		classDetailsByDotNameMap.put( DotName.createSimple( name ), classDetails );
 
-		if ( classDetails.getSuperType() != null ) {
-			List<ClassDetails> subTypes = subTypeClassDetailsMap.get( classDetails.getSuperType().getName() );
+		// use the super-type name rather than the super-type itself to avoid forcing its resolution
+		final String superTypeName = classDetails.getSuperTypeName();
+		if ( superTypeName != null ) {
+			List<ClassDetails> subTypes = subTypeClassDetailsMap.get( superTypeName );
 			if ( subTypes == null ) {
 				subTypes = new ArrayList<>();
-				subTypeClassDetailsMap.put( classDetails.getSuperType().getName(), subTypes );
+				subTypeClassDetailsMap.put( superTypeName, subTypes );
 			}
 			subTypes.add( classDetails );
 		}
@@ -126,6 +163,21 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 		return created;
 	}
 
+	@Override public ClassDetails resolveClassDetails(DotName name) {
+		return resolveClassDetails( name, fallbackClassDetailsBuilder );
+	}
+
+	@Override public ClassDetails resolveClassDetails(
+			DotName name,
+			ClassDetailsBuilder creator) {
+		final ClassDetails existing = classDetailsByDotNameMap.get( name );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		return resolveClassDetails( name.toString(), creator );
+	}
+
 	@Override
 	public PackageDetails resolvePackageDetails(String packageName, PackageDetailsCreator creator) {
 		final PackageDetails existing = packageDetailsMap.get( packageName );
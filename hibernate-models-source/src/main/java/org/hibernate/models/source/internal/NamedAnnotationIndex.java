@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+
+/**
+ * Hash index used to resolve {@linkplain org.hibernate.models.source.spi.AnnotationTarget#getNamedAnnotation named}
+ * annotation usages - e.g. a {@code @NamedQuery} by its name - without scanning and comparing every usage.
+ * <p/>
+ * The candidates of a given annotation type are collected the first time they are needed,
+ * from the owner's {@link CandidateSource}, and the index for a match attribute the first
+ * time it is asked for.  Owners whose usages change after the fact are expected to
+ * {@linkplain #invalidate invalidate} the index.
+ * <p/>
+ * Most targets have no more than one or two candidates of a type, which are cheaper to scan
+ * than to hash - so only types with more than {@value #SCAN_THRESHOLD} candidates are indexed.
+ *
+ * @author Steve Ebersole
+ */
+public class NamedAnnotationIndex {
+	/**
+	 * Source of the usages to index for a given annotation type
+	 */
+	@FunctionalInterface
+	public interface CandidateSource {
+		<A extends Annotation> List<AnnotationUsage<A>> getCandidates(AnnotationDescriptor<A> type);
+	}
+
+	/**
+	 * Up to this many candidates are scanned rather than indexed
+	 */
+	public static final int SCAN_THRESHOLD = 4;
+
+	private final CandidateSource candidateSource;
+
+	// annotation type -> its candidates, and their indexes by match attribute
+	private final Map<AnnotationDescriptor<?>, Candidates<?>> candidatesByType = new ConcurrentHashMap<>();
+
+	public NamedAnnotationIndex(CandidateSource candidateSource) {
+		this.candidateSource = candidateSource;
+	}
+
+	/**
+	 * Find the usage of the given {@code type} whose {@code attributeToMatch} attribute value
+	 * matches the given {@code matchValue}.  Where more than one usage matches, the first
+	 * candidate wins.
+	 */
+	public <A extends Annotation> AnnotationUsage<A> find(
+			AnnotationDescriptor<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		if ( matchValue == null ) {
+			return null;
+		}
+
+		//noinspection unchecked
+		Candidates<A> candidates = (Candidates<A>) candidatesByType.get( type );
+		if ( candidates == null ) {
+			candidates = new Candidates<>( candidateSource.getCandidates( type ) );
+			//noinspection unchecked
+			final Candidates<A> raced = (Candidates<A>) candidatesByType.putIfAbsent( type, candidates );
+			if ( raced != null ) {
+				candidates = raced;
+			}
+		}
+		return candidates.find( matchValue, attributeToMatch );
+	}
+
+	/**
+	 * The candidates of one annotation type - scanned when there are just a few, otherwise hashed
+	 * by the value of each match attribute asked for
+	 */
+	private static class Candidates<A extends Annotation> {
+		private final List<AnnotationUsage<A>> usages;
+		private final Map<String, Map<Object, AnnotationUsage<A>>> indexesByAttribute;
+
+		private Candidates(List<AnnotationUsage<A>> usages) {
+			this.usages = usages == null ? Collections.emptyList() : usages;
+			this.indexesByAttribute = this.usages.size() <= SCAN_THRESHOLD ? null : new ConcurrentHashMap<>( 2 );
+		}
+
+		private AnnotationUsage<A> find(String matchValue, String attributeToMatch) {
+			if ( indexesByAttribute == null ) {
+				// not worth indexing
+				return AnnotationUsageHelper.findNamedAnnotation( usages, matchValue, attributeToMatch );
+			}
+
+			Map<Object, AnnotationUsage<A>> usagesByValue = indexesByAttribute.get( attributeToMatch );
+			if ( usagesByValue == null ) {
+				usagesByValue = buildIndex( usages, attributeToMatch );
+				indexesByAttribute.put( attributeToMatch, usagesByValue );
+			}
+			return usagesByValue.get( matchValue );
+		}
+	}
+
+	private static <A extends Annotation> Map<Object, AnnotationUsage<A>> buildIndex(
+			List<AnnotationUsage<A>> candidates,
+			String attributeToMatch) {
+		final Map<Object, AnnotationUsage<A>> usagesByValue = new HashMap<>();
+		for ( int i = 0; i < candidates.size(); i++ ) {
+			final AnnotationUsage<A> candidate = candidates.get( i );
+			final AnnotationAttributeValue<?> attributeValue = candidate.getAttributeValue( attributeToMatch );
+			if ( attributeValue == null || attributeValue.getValue() == null ) {
+				continue;
+			}
+			usagesByValue.putIfAbsent( attributeValue.getValue(), candidate );
+		}
+		return usagesByValue;
+	}
+
+	/**
+	 * Discard the index for the given annotation {@code type}, e.g. because new usages were added
+	 */
+	public void invalidate(AnnotationDescriptor<?> type) {
+		candidatesByType.remove( type );
+	}
+
+	/**
+	 * Discard all indexes
+	 */
+	public void clear() {
+		candidatesByType.clear();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+
+/**
+ * Cache of class files {@linkplain AnnotationHelper#indexClass indexed on their own} - annotations
+ * and attribute types which are not part of the Jandex index.  Scoped to a building context, so
+ * each such class file is read at most once per build and released along with the context.
+ * <p/>
+ * Classes are cached by name only - within a single build, a name is assumed to always
+ * resolve to the same class file.
+ *
+ * @author Steve Ebersole
+ */
+public class SinglyIndexedClasses {
+	private final Map<DotName, ClassInfo> indexedClasses = new ConcurrentHashMap<>();
+
+	/**
+	 * Index the named class file, located through the given {@code classLoader}, unless
+	 * it was already indexed
+	 */
+	public ClassInfo indexClass(DotName className, ClassLoader classLoader) {
+		final ClassInfo existing = indexedClasses.get( className );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final ClassInfo indexed = AnnotationHelper.indexClass( className, classLoader );
+		final ClassInfo raced = indexedClasses.putIfAbsent( className, indexed );
+		return raced == null ? indexed : raced;
+	}
+
+	public void clear() {
+		indexedClasses.clear();
+	}
+
+	/**
+	 * Index the named class, through {@code singlyIndexedClasses} if one
+	 */
+	public static ClassInfo indexClass(
+			DotName className,
+			ClassLoader classLoader,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		return singlyIndexedClasses == null
+				? AnnotationHelper.indexClass( className, classLoader )
+				: singlyIndexedClasses.indexClass( className, classLoader );
+	}
+}
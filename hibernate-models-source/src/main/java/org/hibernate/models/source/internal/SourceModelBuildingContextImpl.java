@@ -32,14 +32,18 @@ import java.util.SortedSet;
 import java.util.function.Consumer;
 
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.internal.StringPool;
 import org.hibernate.models.source.ModelsException;
 import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.internal.standard.ClassDetailsBuilderImpl;
 import org.hibernate.models.source.internal.standard.ClassDetailsImpl;
+import org.hibernate.models.source.internal.standard.LazyIndexingClassDetailsBuilder;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.RegistryPrimer;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
@@ -57,11 +61,15 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 	private final ClassLoading classLoadingAccess;
 
 	private final IndexView jandexIndex;
+	private final LazyIndexingClassDetailsBuilder lazyIndexingBuilder;
+	private volatile StringPool stringPool = new StringPool();
+	private final SinglyIndexedClasses singlyIndexedClasses = new SinglyIndexedClasses();
 
 	private final AnnotationDescriptorRegistryImpl descriptorRegistry;
 	private final ClassDetailsRegistry classDetailsRegistry;
 
 	private final Map<AnnotationDescriptor<?>,List<AnnotationUsage<?>>> annotationUsageMap = new HashMap<>();
+	private final NamedAnnotationIndex namedAnnotationIndex = new NamedAnnotationIndex( this::getNamedAnnotationCandidates );
 
 	public SourceModelBuildingContextImpl(ClassLoading classLoadingAccess, IndexView jandexIndex) {
 		this( classLoadingAccess, jandexIndex, null );
@@ -71,11 +79,27 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 			ClassLoading classLoadingAccess,
 			IndexView jandexIndex,
 			RegistryPrimer registryPrimer) {
+		this( classLoadingAccess, jandexIndex, ClassDetailsBuilderImpl.DEFAULT_BUILDER, registryPrimer );
+	}
+
+	/**
+	 * @param classDetailsBuilder Used to build ClassDetails for classes not yet registered.
+	 * Pass a {@link LazyIndexingClassDetailsBuilder} to allow {@code jandexIndex} to contain
+	 * just the managed classes.
+	 */
+	public SourceModelBuildingContextImpl(
+			ClassLoading classLoadingAccess,
+			IndexView jandexIndex,
+			ClassDetailsBuilder classDetailsBuilder,
+			RegistryPrimer registryPrimer) {
 		this.classLoadingAccess = classLoadingAccess;
 		this.jandexIndex = jandexIndex;
+		this.lazyIndexingBuilder = classDetailsBuilder instanceof LazyIndexingClassDetailsBuilder
+				? (LazyIndexingClassDetailsBuilder) classDetailsBuilder
+				: null;
 
-		this.descriptorRegistry = new AnnotationDescriptorRegistryImpl( this );
-		this.classDetailsRegistry = new ClassDetailsRegistryImpl( this );
+		this.descriptorRegistry = new AnnotationDescriptorRegistryImpl( this, singlyIndexedClasses );
+		this.classDetailsRegistry = new ClassDetailsRegistryImpl( classDetailsBuilder, this );
 
 		primeRegistries();
 
@@ -124,10 +148,7 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 	private void primeClassDetails(Class<?> javaType) {
 		// Since we have a Class reference already, it is safe to directly use
 		// the reflection
-		classDetailsRegistry.resolveClassDetails(
-				javaType.getName(),
-				ClassDetailsBuilderImpl::buildClassDetailsStatic
-		);
+		JdkBuilders.resolveClassDetails( javaType, this );
 	}
 
 	@Override
@@ -147,7 +168,24 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 
 	@Override
 	public IndexView getJandexIndex() {
-		return jandexIndex;
+		// include the classes indexed on demand, if any
+		return lazyIndexingBuilder == null ? jandexIndex : lazyIndexingBuilder.extendIndex( jandexIndex );
+	}
+
+	@Override
+	public String internString(String value) {
+		final StringPool pool = stringPool;
+		return pool == null ? value : pool.intern( value );
+	}
+
+	@Override
+	public void release() {
+		final StringPool pool = stringPool;
+		stringPool = null;
+		if ( pool != null ) {
+			pool.clear();
+		}
+		singlyIndexedClasses.clear();
 	}
 
 	@Override
@@ -185,6 +223,19 @@ public class SourceModelBuildingContextImpl implements SourceModelBuildingContex
 		}
 
 		registeredUsages.add( usage );
+		namedAnnotationIndex.invalidate( incomingUsageDescriptor );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
+			AnnotationDescriptor<A> annotationDescriptor,
+			String matchName,
+			String attributeToMatch) {
+		return namedAnnotationIndex.find( annotationDescriptor, matchName, attributeToMatch );
+	}
+
+	private <A extends Annotation> List<AnnotationUsage<A>> getNamedAnnotationCandidates(AnnotationDescriptor<A> annotationDescriptor) {
+		return getAllUsages( annotationDescriptor );
 	}
 
 	@Override
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
+
+/**
+ * Standard TypeHierarchyIndex implementation.
+ * <p/>
+ * The indexed types are the registered classes plus all of their super-types.  The class
+ * hierarchy is numbered in pre-order, so that the sub-tree of each type is a contiguous
+ * range - a class extends another if its number falls within the other's range.
+ * <p/>
+ * Interfaces are not resolved up front.  The interfaces implemented by a type are only
+ * collected the first time that type is checked against an interface, and types which
+ * add no interfaces share their super-type's set.  Direct sub-types come from the
+ * registry, which tracks them as classes are registered.
+ *
+ * @author Steve Ebersole
+ */
+public class TypeHierarchyIndexImpl implements TypeHierarchyIndex {
+	private final ClassDetailsRegistry classDetailsRegistry;
+
+	// all following arrays are in pre-order - super-types before their sub-types
+	private final ClassDetails[] types;
+	private final int[] superTypeOrdinals;
+	private final int[] subTreeEnds;
+
+	private final Map<ClassDetails, Integer> ordinals;
+
+	private final Map<ClassDetails, Set<ClassDetails>> interfaceClosures = new ConcurrentHashMap<>();
+	private final Map<AnnotationDescriptor<?>, ClassDetails[]> rootTypesByMarker = new ConcurrentHashMap<>();
+
+	public TypeHierarchyIndexImpl(Collection<ClassDetails> registeredTypes, ClassDetailsRegistry classDetailsRegistry) {
+		this.classDetailsRegistry = classDetailsRegistry;
+
+		// collect the registered types along with all of their super-types
+		final Map<ClassDetails, Integer> collectedOrdinals = new IdentityHashMap<>();
+		final List<ClassDetails> collected = new ArrayList<>( registeredTypes.size() );
+		final List<ClassDetails> pending = new ArrayList<>( registeredTypes );
+		while ( !pending.isEmpty() ) {
+			final ClassDetails type = pending.remove( pending.size() - 1 );
+			if ( type == null || collectedOrdinals.containsKey( type ) ) {
+				continue;
+			}
+			collectedOrdinals.put( type, collected.size() );
+			collected.add( type );
+			pending.add( type.getSuperType() );
+		}
+
+		final int count = collected.size();
+
+		// link each type to its super-type and direct sub-types
+		final int[] collectedSuperOrdinals = new int[count];
+		final List<List<Integer>> collectedSubTypes = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			collectedSubTypes.add( null );
+		}
+		for ( int i = 0; i < count; i++ ) {
+			final ClassDetails superType = collected.get( i ).getSuperType();
+			final Integer superOrdinal = superType == null ? null : collectedOrdinals.get( superType );
+			collectedSuperOrdinals[i] = superOrdinal == null ? -1 : superOrdinal;
+			if ( superOrdinal != null ) {
+				List<Integer> subTypes = collectedSubTypes.get( superOrdinal );
+				if ( subTypes == null ) {
+					subTypes = new ArrayList<>();
+					collectedSubTypes.set( superOrdinal, subTypes );
+				}
+				subTypes.add( i );
+			}
+		}
+
+		// number the class hierarchy in pre-order
+		final int[] preOrder = new int[count];
+		final int[] collectedSubTreeEnds = new int[count];
+		int next = 0;
+		for ( int i = 0; i < count; i++ ) {
+			if ( collectedSuperOrdinals[i] == -1 ) {
+				next = number( i, next, preOrder, collectedSubTreeEnds, collectedSubTypes );
+			}
+		}
+
+		// and finally lay everything out in that order
+		this.types = new ClassDetails[count];
+		this.superTypeOrdinals = new int[count];
+		this.subTreeEnds = new int[count];
+		this.ordinals = new IdentityHashMap<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			final int ordinal = preOrder[i];
+			types[ordinal] = collected.get( i );
+			superTypeOrdinals[ordinal] = collectedSuperOrdinals[i] == -1 ? -1 : preOrder[collectedSuperOrdinals[i]];
+			subTreeEnds[ordinal] = collectedSubTreeEnds[i];
+			ordinals.put( types[ordinal], ordinal );
+		}
+	}
+
+	private static int number(
+			int collectedOrdinal,
+			int next,
+			int[] preOrder,
+			int[] subTreeEnds,
+			List<List<Integer>> subTypes) {
+		preOrder[collectedOrdinal] = next;
+		int position = next + 1;
+		final List<Integer> directSubTypes = subTypes.get( collectedOrdinal );
+		if ( directSubTypes != null ) {
+			for ( int i = 0; i < directSubTypes.size(); i++ ) {
+				position = number( directSubTypes.get( i ), position, preOrder, subTreeEnds, subTypes );
+			}
+		}
+		subTreeEnds[collectedOrdinal] = position;
+		return position;
+	}
+
+	private Set<ClassDetails> resolveInterfaceClosure(int ordinal) {
+		final ClassDetails type = types[ordinal];
+		final Set<ClassDetails> existing = interfaceClosures.get( type );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		final Set<ClassDetails> inherited = superTypeOrdinals[ordinal] == -1
+				? Collections.emptySet()
+				: resolveInterfaceClosure( superTypeOrdinals[ordinal] );
+
+		final List<ClassDetails> interfaces = type.getImplementedInterfaceTypes();
+		final Set<ClassDetails> closure;
+		if ( interfaces.isEmpty() ) {
+			closure = inherited;
+		}
+		else {
+			closure = Collections.newSetFromMap( new IdentityHashMap<>() );
+			closure.addAll( inherited );
+			collectInterfaces( interfaces, closure );
+		}
+
+		// benign race - concurrent misses collect equal sets
+		interfaceClosures.put( type, closure );
+		return closure;
+	}
+
+	private static void collectInterfaces(List<ClassDetails> interfaces, Set<ClassDetails> closure) {
+		for ( int i = 0; i < interfaces.size(); i++ ) {
+			final ClassDetails interfaceType = interfaces.get( i );
+			if ( closure.add( interfaceType ) ) {
+				collectInterfaces( interfaceType.getImplementedInterfaceTypes(), closure );
+			}
+		}
+	}
+
+	@Override
+	public boolean isIndexed(ClassDetails type) {
+		return ordinals.containsKey( type );
+	}
+
+	@Override
+	public boolean isImplementor(ClassDetails type, ClassDetails checkType) {
+		if ( type == checkType ) {
+			return true;
+		}
+
+		final Integer ordinal = ordinals.get( type );
+		if ( ordinal == null ) {
+			// registered after the index was built
+			return ClassDetailsHelper.isImplementor( checkType, type );
+		}
+
+		// all super-types of an indexed type are indexed too
+		final Integer checkOrdinal = ordinals.get( checkType );
+		if ( checkOrdinal != null && checkOrdinal <= ordinal && ordinal < subTreeEnds[checkOrdinal] ) {
+			return true;
+		}
+
+		// so otherwise it can only be one of its interfaces
+		return resolveInterfaceClosure( ordinal ).contains( checkType );
+	}
+
+	@Override
+	public List<ClassDetails> getDirectSubTypes(ClassDetails type) {
+		// the registry tracks these as classes are registered, so this covers later registrations too
+		final List<ClassDetails> directSubTypes = classDetailsRegistry.getDirectSubTypes( type.getName() );
+		return directSubTypes == null ? Collections.emptyList() : Collections.unmodifiableList( directSubTypes );
+	}
+	@Override
+	public ClassDetails findRootType(ClassDetails type, AnnotationDescriptor<?> marker) {
+		final Integer ordinal = ordinals.get( type );
+		if ( ordinal == null ) {
+			// registered after the index was built
+			ClassDetails rootType = null;
+			ClassDetails current = type;
+			while ( current != null ) {
+				if ( current.getAnnotation( marker ) != null ) {
+					rootType = current;
+				}
+				current = current.getSuperType();
+			}
+			return rootType;
+		}
+
+		ClassDetails[] rootTypes = rootTypesByMarker.get( marker );
+		if ( rootTypes == null ) {
+			rootTypes = resolveRootTypes( marker );
+			rootTypesByMarker.put( marker, rootTypes );
+		}
+		return rootTypes[ordinal];
+	}
+
+	private ClassDetails[] resolveRootTypes(AnnotationDescriptor<?> marker) {
+		// pre-order guarantees the super-type's root is known before its sub-types are visited
+		final ClassDetails[] rootTypes = new ClassDetails[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			final ClassDetails superRootType = superTypeOrdinals[i] == -1 ? null : rootTypes[superTypeOrdinals[i]];
+			if ( superRootType != null ) {
+				rootTypes[i] = superRootType;
+			}
+			else if ( types[i].getAnnotation( marker ) != null ) {
+				rootTypes[i] = types[i];
+			}
+		}
+		return rootTypes;
+	}
+
+	@Override
+	public void forEachType(ClassDetailsRegistry.ClassDetailsConsumer consumer) {
+		for ( int i = 0; i < types.length; i++ ) {
+			consumer.consume( types[i] );
+		}
+	}
+}
@@ -7,13 +7,15 @@
 package org.hibernate.models.source.internal.dynamic;
 
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.models.source.AnnotationAccessException;
 import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.source.internal.NamedAnnotationIndex;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
@@ -28,7 +30,9 @@ import static org.hibernate.models.source.spi.AnnotationAttributeDescriptor.VALU
  */
 public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotationTarget {
 	private final SourceModelBuildingContext buildingContext;
-	private final Map<Class<? extends Annotation>,AnnotationUsage<?>> usagesMap = new HashMap<>();
+	// NOTE : linked, so that usages are visited in the order they were applied
+	private final Map<Class<? extends Annotation>,AnnotationUsage<?>> usagesMap = new LinkedHashMap<>();
+	private NamedAnnotationIndex namedAnnotationIndex;
 
 	public AbstractDynamicAnnotationTarget(SourceModelBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
@@ -36,7 +40,7 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 
 	@Override
 	public <X extends Annotation> void apply(List<AnnotationUsage<X>> annotationUsages) {
-		// todo (models) : handle meta-annotations
+		// meta-annotations are resolved on lookup - see #getEffectiveAnnotation
 		annotationUsages.forEach( this::apply );
 	}
 
@@ -54,6 +58,10 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 		final Class<? extends Annotation> annotationJavaType = annotationDescriptor.getAnnotationType();
 
 		final AnnotationUsage<?> previous = usagesMap.put( annotationJavaType, annotationUsage );
+		// the applied usage may be a container, so its effect on the named lookups is not limited to its own type
+		if ( namedAnnotationIndex != null ) {
+			namedAnnotationIndex.clear();
+		}
 
 		if ( previous != null ) {
 			// todo (models) : ignore?  log?  exception?
@@ -111,6 +119,20 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 		return (AnnotationUsage<A>) usagesMap.get( type.getAnnotationType() );
 	}
 
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		return usagesMap.values();
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotation(AnnotationDescriptor<A> type) {
+		final AnnotationUsage<A> usage = getAnnotation( type );
+		if ( usage != null ) {
+			return usage;
+		}
+		return AnnotationUsageHelper.findMetaAnnotation( type, usagesMap );
+	}
+
 	@Override
 	public <A extends Annotation> AnnotationUsage<A> getAnnotation(Class<A> type) {
 		return getAnnotation(
@@ -127,7 +149,14 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 			throw new AnnotationAccessException( "Expecting repeatable annotation" );
 		}
 
-		return AnnotationUsageHelper.getNamedAnnotation( type, matchValue, attributeToMatch, usagesMap );
+		if ( namedAnnotationIndex == null ) {
+			namedAnnotationIndex = new NamedAnnotationIndex( this::getNamedAnnotationCandidates );
+		}
+		return namedAnnotationIndex.find( type, matchValue, attributeToMatch );
+	}
+
+	private <A extends Annotation> List<AnnotationUsage<A>> getNamedAnnotationCandidates(AnnotationDescriptor<A> type) {
+		return AnnotationUsageHelper.getNamedAnnotationCandidates( type, usagesMap );
 	}
 
 	@Override
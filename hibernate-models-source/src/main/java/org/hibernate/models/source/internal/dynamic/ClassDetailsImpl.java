@@ -12,8 +12,11 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.models.internal.IndexedConsumer;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberDetails;
+import org.hibernate.models.source.spi.MemberFilter;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -80,6 +83,18 @@ public class ClassDetailsImpl extends AbstractDynamicAnnotationTarget implements
 		fields.forEach( (Consumer) consumer );
 	}
 
+	@Override
+	public void forEachField(MemberFilter filter, Consumer<FieldDetails> consumer) {
+		// dynamic members are always "built"; just apply the filter
+		final RawDynamicMember rawMember = new RawDynamicMember();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			final FieldDetailsImpl field = fields.get( i );
+			if ( filter.matches( rawMember.member( field ) ) ) {
+				consumer.accept( field );
+			}
+		}
+	}
+
 	@Override
 	public List<MethodDetails> getMethods() {
 		//noinspection rawtypes,unchecked
@@ -92,6 +107,17 @@ public class ClassDetailsImpl extends AbstractDynamicAnnotationTarget implements
 		methods.forEach( (Consumer) consumer );
 	}
 
+	@Override
+	public void forEachMethod(MemberFilter filter, Consumer<MethodDetails> consumer) {
+		final RawDynamicMember rawMember = new RawDynamicMember();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetailsImpl method = methods.get( i );
+			if ( filter.matches( rawMember.member( method ) ) ) {
+				consumer.accept( method );
+			}
+		}
+	}
+
 	@Override
 	public <X> Class<X> toJavaClass() {
 		throw new UnsupportedOperationException();
@@ -104,4 +130,41 @@ public class ClassDetailsImpl extends AbstractDynamicAnnotationTarget implements
 	public void addMethod(MethodDetailsImpl method) {
 		methods.add( method );
 	}
+
+	/**
+	 * RawMember view over a dynamic member.  Dynamic members have no modifiers.
+	 */
+	private static class RawDynamicMember implements MemberFilter.RawMember {
+		private MemberDetails member;
+
+		private RawDynamicMember member(MemberDetails member) {
+			this.member = member;
+			return this;
+		}
+
+		@Override
+		public String getName() {
+			return member.getName();
+		}
+
+		@Override
+		public boolean isField() {
+			return member.isField();
+		}
+
+		@Override
+		public int getModifierFlags() {
+			return 0;
+		}
+
+		@Override
+		public boolean isPersistable() {
+			return member.isPersistable();
+		}
+
+		@Override
+		public boolean hasAnnotation(AnnotationDescriptor<?> type) {
+			return member.getAnnotation( type ) != null;
+		}
+	}
 }
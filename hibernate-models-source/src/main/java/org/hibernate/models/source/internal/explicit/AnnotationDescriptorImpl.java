@@ -8,42 +8,40 @@ package org.hibernate.models.source.internal.explicit;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 import org.hibernate.models.source.AnnotationAccessException;
 import org.hibernate.models.source.internal.AnnotationDescriptorRegistryImpl;
 import org.hibernate.models.source.internal.AnnotationHelper;
-import org.hibernate.models.source.internal.standard.annotations.ArrayValueDescriptor;
-import org.hibernate.models.source.internal.standard.annotations.EnumValueExtractor;
-import org.hibernate.models.source.internal.standard.annotations.ValueExtractor;
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.standard.LazyIndexingClassDetailsBuilder;
+import org.hibernate.models.source.internal.standard.annotations.AnnotationUsageBuilder;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
-import static org.hibernate.models.source.internal.standard.annotations.BooleanValueExtractor.BOOLEAN_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.ByteValueExtractor.BYTE_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.CharacterValueExtractor.CHARACTER_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.ClassValueExtractor.CLASS_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.DoubleValueExtractor.DOUBLE_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.FloatValueExtractor.FLOAT_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.IntegerValueExtractor.INTEGER_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.LongValueExtractor.LONG_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.PassthruValueExtractor.PASSTHRU_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.ShortValueExtractor.SHORT_EXTRACTOR;
-import static org.hibernate.models.source.internal.standard.annotations.StringValueExtractor.STRING_EXTRACTOR;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.source.internal.standard.annotations.AttributeDescriptorBuilder.extractAttributeDescriptors;
 
 /**
  * AnnotationDescriptor implementation where we do not care about annotations
  * defined on the annotation itself.  The {@link AnnotationTarget} contract here
- * behaves as if no annotations where found.
+ * behaves as if no annotations where found; only the {@linkplain #getMetaAnnotations()
+ * meta-annotations} are read, from the annotation's bytecode.
  * Generally speaking this would be used to model JPA and Hibernate annotations.
  *
  * @author Steve Ebersole
@@ -51,21 +49,38 @@ import static org.hibernate.models.source.internal.standard.annotations.StringVa
 public class AnnotationDescriptorImpl<A extends Annotation> implements AnnotationDescriptor<A> {
 	private final Class<A> annotationType;
 	private final List<AnnotationAttributeDescriptor> attributeDescriptors;
+	private final Map<String, Integer> attributeOrdinals;
 	private final AnnotationDescriptor<?> repeatableContainer;
 
 	private final boolean inherited;
 	private final EnumSet<Kind> allowableTargets;
 
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> metaAnnotations;
+
+	public AnnotationDescriptorImpl(
+			Class<A> annotationType,
+			List<AnnotationAttributeDescriptor> attributeDescriptors,
+			AnnotationDescriptor<?> repeatableContainer) {
+		this(
+				annotationType,
+				AnnotationHelper.resolveAnnotationClassInfo( annotationType, null ),
+				attributeDescriptors,
+				repeatableContainer
+		);
+	}
+
 	public AnnotationDescriptorImpl(
 			Class<A> annotationType,
+			ClassInfo annotationClassInfo,
 			List<AnnotationAttributeDescriptor> attributeDescriptors,
 			AnnotationDescriptor<?> repeatableContainer) {
 		this.annotationType = annotationType;
 		this.attributeDescriptors = attributeDescriptors;
+		this.attributeOrdinals = AnnotationHelper.indexAttributes( attributeDescriptors );
 		this.repeatableContainer = repeatableContainer;
 
-		this.inherited = AnnotationHelper.isInherited( annotationType );
-		this.allowableTargets = AnnotationHelper.extractTargets( annotationType );
+		this.inherited = AnnotationHelper.isInherited( annotationClassInfo );
+		this.allowableTargets = AnnotationHelper.extractTargets( annotationClassInfo );
 	}
 
 	@Override
@@ -101,13 +116,17 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 
 	@Override
 	public AnnotationAttributeDescriptor getAttribute(String name) {
-		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
-			final AnnotationAttributeDescriptor attributeDescriptor = attributeDescriptors.get( i );
-			if ( attributeDescriptor.getAttributeName().equals( name ) ) {
-				return attributeDescriptor;
-			}
+		final Integer ordinal = attributeOrdinals.get( name );
+		if ( ordinal == null ) {
+			throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
 		}
-		throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
+		return attributeDescriptors.get( ordinal );
+	}
+
+	@Override
+	public int getAttributeOrdinal(String name) {
+		final Integer ordinal = attributeOrdinals.get( name );
+		return ordinal == null ? -1 : ordinal;
 	}
 
 	/**
@@ -119,6 +138,35 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 		return repeatableContainer;
 	}
 
+	@Override
+	public Map<Class<? extends Annotation>, AnnotationUsage<?>> getMetaAnnotations() {
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> resolved = metaAnnotations;
+		if ( resolved == null ) {
+			resolved = AnnotationUsageBuilder.collectMetaAnnotations( this, MetaAnnotationContext::getDeclaredUsages );
+			metaAnnotations = resolved;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Explicit descriptors are not tied to a building context - those of the JPA and Hibernate
+	 * annotations are shared by all of them - so the usages declared on annotation types are
+	 * modeled within a context of their own, which indexes the class files as they are needed
+	 */
+	private static class MetaAnnotationContext {
+		private static final SourceModelBuildingContext BUILDING_CONTEXT = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				new Indexer().complete(),
+				new LazyIndexingClassDetailsBuilder(),
+				null
+		);
+
+		private static Map<Class<? extends Annotation>, AnnotationUsage<?>> getDeclaredUsages(AnnotationDescriptor<?> descriptor) {
+			final ClassInfo classInfo = AnnotationHelper.resolveAnnotationClassInfo( descriptor.getAnnotationType(), null );
+			return AnnotationUsageBuilder.buildUsagesMap( classInfo, descriptor, BUILDING_CONTEXT );
+		}
+	}
+
 	@Override
 	public <X extends Annotation> AnnotationUsage<X> getAnnotation(AnnotationDescriptor<X> type) {
 		// there are none
@@ -134,6 +182,12 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 	public <X extends Annotation> void forEachAnnotation(AnnotationDescriptor<X> type, Consumer<AnnotationUsage<X>> consumer) {
 	}
 
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		// there are none
+		return Collections.emptyList();
+	}
+
 	@Override
 	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotation(AnnotationDescriptor<X> type, String name, String attributeName) {
 		// there are none
@@ -171,6 +225,25 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 		);
 	}
 
+	/**
+	 * Build the descriptor from the annotation's bytecode, looking the annotation and its
+	 * attribute types up in the given {@code jandexIndex} first
+	 *
+	 * @param singlyIndexedClasses Cache for the class files not found in the index, may be {@code null}
+	 */
+	public static <A extends Annotation> AnnotationDescriptorImpl<A> buildDescriptor(
+			Class<A> annotationType,
+			AnnotationDescriptorRegistry descriptorRegistry,
+			IndexView jandexIndex,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		return buildDescriptor(
+				annotationType,
+				resolveRepeatableContainerDescriptor( annotationType, descriptorRegistry ),
+				jandexIndex,
+				singlyIndexedClasses
+		);
+	}
+
 	public static <A extends Annotation, C extends Annotation> AnnotationDescriptor<C> resolveRepeatableContainerDescriptor(
 			Class<A> annotationType,
 			AnnotationDescriptorRegistry descriptorRegistry) {
@@ -184,89 +257,48 @@ public class AnnotationDescriptorImpl<A extends Annotation> implements Annotatio
 		return containerDescriptor;
 	}
 
+	/**
+	 * Build the descriptor from the annotation's bytecode rather than through reflection
+	 */
 	public static <A extends Annotation> AnnotationDescriptorImpl<A> buildDescriptor(
 			Class<A> annotationType,
 			AnnotationDescriptor<?> repeatableContainer) {
-		final Method[] methods = annotationType.getDeclaredMethods();
-		final List<AnnotationAttributeDescriptor> attributeDescriptors = new ArrayList<>( methods.length );
-		for ( Method method : methods ) {
-			attributeDescriptors.add( createAttributeDescriptor( method ) );
-		}
-		return new AnnotationDescriptorImpl<>( annotationType, attributeDescriptors, repeatableContainer );
+		return buildDescriptor( annotationType, repeatableContainer, null );
 	}
 
-	private static AnnotationAttributeDescriptor createAttributeDescriptor(Method method) {
-		final Class<?> attributeType = method.getReturnType();
-
-		if ( attributeType.isArray() ) {
-			return buildArrayValuedAttributeDescriptor( method.getName(), attributeType );
-		}
-
-		return resolveValueExtractor( attributeType )
-				.createAttributeDescriptor( method.getName() );
+	/**
+	 * Build the descriptor from the annotation's bytecode rather than through reflection.
+	 * The annotation and its attribute types are looked up in the given {@code jandexIndex}
+	 * first, if one.
+	 */
+	public static <A extends Annotation> AnnotationDescriptorImpl<A> buildDescriptor(
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer,
+			IndexView jandexIndex) {
+		return buildDescriptor( annotationType, repeatableContainer, jandexIndex, null );
 	}
 
-	private static AnnotationAttributeDescriptor buildArrayValuedAttributeDescriptor(
-			String name,
-			Class<?> attributeType) {
-		return new ArrayValueDescriptor<>(
-				name,
-				resolveValueExtractor( attributeType.getComponentType() )
+	private static <A extends Annotation> AnnotationDescriptorImpl<A> buildDescriptor(
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer,
+			IndexView jandexIndex,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		final ClassInfo annotationClassInfo = AnnotationHelper.resolveAnnotationClassInfo(
+				annotationType,
+				jandexIndex,
+				singlyIndexedClasses
+		);
+		return new AnnotationDescriptorImpl<>(
+				annotationType,
+				annotationClassInfo,
+				extractAttributeDescriptors(
+						annotationClassInfo,
+						jandexIndex,
+						annotationType.getClassLoader(),
+						singlyIndexedClasses
+				),
+				repeatableContainer
 		);
-	}
-
-	@SuppressWarnings("unchecked")
-	private static <T> ValueExtractor<T> resolveValueExtractor(Class<T> attributeType) {
-		if ( attributeType.isEnum() ) {
-			//noinspection rawtypes
-			return new EnumValueExtractor<>( (Class) attributeType );
-		}
-
-		if ( attributeType == byte.class ) {
-			return (ValueExtractor<T>) BYTE_EXTRACTOR;
-		}
-
-		if ( attributeType == boolean.class ) {
-			return (ValueExtractor<T>) BOOLEAN_EXTRACTOR;
-		}
-
-		if ( attributeType == short.class ) {
-			return (ValueExtractor<T>) SHORT_EXTRACTOR;
-		}
-
-		if ( attributeType == int.class ) {
-			return (ValueExtractor<T>) INTEGER_EXTRACTOR;
-		}
-
-		if ( attributeType == long.class ) {
-			return (ValueExtractor<T>) LONG_EXTRACTOR;
-		}
-
-		if ( attributeType == float.class ) {
-			return (ValueExtractor<T>) FLOAT_EXTRACTOR;
-		}
-
-		if ( attributeType == double.class ) {
-			return (ValueExtractor<T>) DOUBLE_EXTRACTOR;
-		}
-
-		if ( attributeType == char.class ) {
-			return (ValueExtractor<T>) CHARACTER_EXTRACTOR;
-		}
-
-		if ( attributeType == String.class ) {
-			return (ValueExtractor<T>) STRING_EXTRACTOR;
-		}
-
-		if ( attributeType == Class.class ) {
-			return (ValueExtractor<T>) CLASS_EXTRACTOR;
-		}
-
-		if ( Annotation.class.isAssignableFrom( attributeType ) ) {
-			return (ValueExtractor<T>) new NestedValueExtractor<>( (Class<? extends Annotation>) attributeType );
-		}
-
-		return (ValueExtractor<T>) PASSTHRU_EXTRACTOR;
 	}
 
 	@Override
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+/**
+ * AnnotationTarget implementation based on the runtime annotations of
+ * an {@linkplain AnnotatedElement}
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractJdkAnnotationTarget implements AnnotationTarget {
+	private final SourceModelBuildingContext buildingContext;
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+
+	public AbstractJdkAnnotationTarget(SourceModelBuildingContext buildingContext) {
+		this.buildingContext = buildingContext;
+	}
+
+	/**
+	 * The reflective element from which to read the annotations from which to
+	 * build the {@linkplain #getUsagesMap() AnnotationUsage map}
+	 */
+	protected abstract AnnotatedElement getAnnotatedElement();
+
+	protected Map<Class<? extends Annotation>, AnnotationUsage<?>> getUsagesMap() {
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> map = usagesMap;
+		if ( map == null ) {
+			synchronized ( this ) {
+				map = usagesMap;
+				if ( map == null ) {
+					map = JdkBuilders.buildUsagesMap( getAnnotatedElement(), this, buildingContext );
+					usagesMap = map;
+				}
+			}
+		}
+		return map;
+	}
+
+	protected SourceModelBuildingContext getBuildingContext() {
+		return buildingContext;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getAnnotation(AnnotationDescriptor<A> type) {
+		return AnnotationUsageHelper.getAnnotation( type, getUsagesMap() );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getAnnotation(Class<A> type) {
+		return getAnnotation( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ) );
+	}
+
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		return getUsagesMap().values();
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotation(AnnotationDescriptor<A> type) {
+		final AnnotationUsage<A> usage = getAnnotation( type );
+		if ( usage != null ) {
+			return usage;
+		}
+		return AnnotationUsageHelper.findMetaAnnotation( type, getUsagesMap() );
+	}
+
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
+		return AnnotationUsageHelper.getRepeatedAnnotations( type, getUsagesMap() );
+	}
+
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(Class<A> type) {
+		return getRepeatedAnnotations( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ) );
+	}
+
+	@Override
+	public <A extends Annotation> void forEachAnnotation(AnnotationDescriptor<A> type, Consumer<AnnotationUsage<A>> consumer) {
+		final List<AnnotationUsage<A>> annotations = getRepeatedAnnotations( type );
+		if ( annotations == null ) {
+			return;
+		}
+		annotations.forEach( consumer );
+	}
+
+	@Override
+	public <A extends Annotation> void forEachAnnotation(Class<A> type, Consumer<AnnotationUsage<A>> consumer) {
+		forEachAnnotation( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ), consumer );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
+			AnnotationDescriptor<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		return AnnotationUsageHelper.getNamedAnnotation( type, matchValue, attributeToMatch, getUsagesMap() );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
+			Class<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		return getNamedAnnotation(
+				buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ),
+				matchValue,
+				attributeToMatch
+		);
+	}
+}
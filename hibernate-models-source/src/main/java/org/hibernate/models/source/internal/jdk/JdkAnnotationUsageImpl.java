@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.annotation.Annotation;
+
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+/**
+ * AnnotationUsage implementation based on a runtime {@link Annotation} instance.
+ * The attribute values are extracted on first access.
+ *
+ * @author Steve Ebersole
+ */
+public class JdkAnnotationUsageImpl<A extends Annotation> implements AnnotationUsage<A> {
+	private final A annotation;
+	private final AnnotationDescriptor<A> annotationDescriptor;
+	private final AnnotationTarget annotationTarget;
+	private final SourceModelBuildingContext buildingContext;
+
+	// in the order of the descriptor's attributes
+	private AnnotationAttributeValue<?>[] attributeValues;
+
+	public JdkAnnotationUsageImpl(
+			A annotation,
+			AnnotationDescriptor<A> annotationDescriptor,
+			AnnotationTarget annotationTarget,
+			SourceModelBuildingContext buildingContext) {
+		assert annotation != null : "Annotation was null";
+		assert annotationDescriptor != null : "AnnotationDescriptor was null - " + annotation;
+
+		this.annotation = annotation;
+		this.annotationDescriptor = annotationDescriptor;
+		this.annotationTarget = annotationTarget;
+		this.buildingContext = buildingContext;
+	}
+
+	private AnnotationAttributeValue<?>[] getAttributeValues() {
+		if ( attributeValues == null ) {
+			attributeValues = JdkBuilders.extractAttributeValues( annotation, annotationDescriptor, buildingContext );
+		}
+		return attributeValues;
+	}
+
+	@Override
+	public AnnotationDescriptor<A> getAnnotationDescriptor() {
+		return annotationDescriptor;
+	}
+
+	@Override
+	public AnnotationTarget getAnnotationTarget() {
+		return annotationTarget;
+	}
+
+	@Override
+	public <V> AnnotationAttributeValue<V> getAttributeValue(String name) {
+		final int ordinal = annotationDescriptor.getAttributeOrdinal( name );
+		if ( ordinal < 0 ) {
+			return null;
+		}
+		return getAttributeValue( ordinal );
+	}
+
+	@Override
+	public <V> AnnotationAttributeValue<V> getAttributeValue(AnnotationAttributeDescriptor attributeDescriptor) {
+		return getAttributeValue( attributeDescriptor.getAttributeName() );
+	}
+
+	@Override
+	public <V> AnnotationAttributeValue<V> getAttributeValue(int ordinal) {
+		//noinspection unchecked
+		return (AnnotationAttributeValue<V>) getAttributeValues()[ordinal];
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.source.internal.AnnotationAttributeAccessors;
+import org.hibernate.models.source.internal.standard.annotations.AnnotationUsageBuilder;
+import org.hibernate.models.source.internal.standard.annotations.AttributeValueImpl;
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationTarget;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.ClassLoading;
+
+/**
+ * Helper for building the reflection-based ClassDetails, AnnotationUsage, etc. references
+ *
+ * @author Steve Ebersole
+ */
+public class JdkBuilders {
+	private JdkBuilders() {
+		// disallow direct instantiation
+	}
+
+	/**
+	 * Build a (reflection-based) ClassDetails for the given {@code javaClass}
+	 */
+	public static ClassDetails buildClassDetailsStatic(Class<?> javaClass, SourceModelBuildingContext buildingContext) {
+		return new JdkClassDetails( javaClass, buildingContext );
+	}
+
+	/**
+	 * Resolve (find or create) the ClassDetails for an already loaded {@code javaClass}.
+	 * An existing registration is always used; otherwise a reflection-based ClassDetails
+	 * is created and registered.
+	 */
+	public static ClassDetails resolveClassDetails(Class<?> javaClass, SourceModelBuildingContext buildingContext) {
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		if ( javaClass.isPrimitive() ) {
+			// let the registry apply its handling of primitives
+			return classDetailsRegistry.resolveClassDetails( javaClass.getName() );
+		}
+
+		return classDetailsRegistry.resolveClassDetails(
+				javaClass.getName(),
+				() -> buildClassDetailsStatic( javaClass, buildingContext )
+		);
+	}
+
+	/**
+	 * Whether the named class is a JDK type.  Such classes are always safe to load
+	 * (they are never enhanced) and are, in all practicality, already loaded.
+	 */
+	public static boolean isJdkType(String className) {
+		return className.startsWith( "java." );
+	}
+
+	/**
+	 * Resolve the Class for the named JDK type, or {@code null} if the
+	 * name does not refer to a (loadable) JDK type.
+	 *
+	 * @see #isJdkType
+	 */
+	public static Class<?> resolveJdkType(String className, ClassLoading classLoading) {
+		if ( !isJdkType( className ) ) {
+			return null;
+		}
+
+		try {
+			return classLoading.classForName( className );
+		}
+		catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Create the AnnotationUsages map for a given target
+	 */
+	public static Map<Class<? extends Annotation>, AnnotationUsage<?>> buildUsagesMap(
+			AnnotatedElement annotatedElement,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		final Annotation[] annotations = annotatedElement.getDeclaredAnnotations();
+		if ( annotations.length == 0 ) {
+			return Collections.emptyMap();
+		}
+
+		final AnnotationDescriptorRegistry annotationDescriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
+		// NOTE : linked, so that usages are visited in declaration order
+		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new LinkedHashMap<>();
+		for ( int i = 0; i < annotations.length; i++ ) {
+			final Annotation annotation = annotations[i];
+			final Class<? extends Annotation> annotationType = annotation.annotationType();
+			if ( annotationType == Documented.class
+					|| annotationType == Inherited.class
+					|| annotationType == Repeatable.class
+					|| annotationType == Retention.class
+					|| annotationType == Target.class ) {
+				continue;
+			}
+
+			result.put(
+					annotationType,
+					makeUsage( annotation, annotationDescriptorRegistry.getDescriptor( annotationType ), target, buildingContext )
+			);
+		}
+		return result;
+	}
+
+	public static <A extends Annotation> AnnotationUsage<A> makeUsage(
+			Annotation annotation,
+			AnnotationDescriptor<A> annotationDescriptor,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		//noinspection unchecked
+		return new JdkAnnotationUsageImpl<>( (A) annotation, annotationDescriptor, target, buildingContext );
+	}
+
+	/**
+	 * Extracts values from a runtime annotation creating AnnotationAttributeValue references.
+	 * An attribute is considered implicit when its value matches the attribute's default.
+	 * The values are returned in the order of the {@linkplain AnnotationDescriptor#getAttributes() attributes}.
+	 */
+	public static <A extends Annotation> AnnotationAttributeValue<?>[] extractAttributeValues(
+			A annotation,
+			AnnotationDescriptor<A> annotationDescriptor,
+			SourceModelBuildingContext buildingContext) {
+		final List<AnnotationAttributeDescriptor> attributes = annotationDescriptor.getAttributes();
+		if ( CollectionHelper.isEmpty( attributes ) ) {
+			return AnnotationUsageBuilder.NO_VALUES;
+		}
+
+		final AnnotationAttributeAccessors accessors = AnnotationAttributeAccessors.forAnnotationType( annotation.annotationType() );
+		final AnnotationAttributeValue<?>[] values = new AnnotationAttributeValue<?>[attributes.size()];
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			values[i] = makeAttributeValue( annotation, accessors, attributes.get( i ), buildingContext );
+		}
+		return values;
+	}
+
+	private static <A extends Annotation> AnnotationAttributeValue<?> makeAttributeValue(
+			A annotation,
+			AnnotationAttributeAccessors accessors,
+			AnnotationAttributeDescriptor attributeDescriptor,
+			SourceModelBuildingContext buildingContext) {
+		final String attributeName = attributeDescriptor.getAttributeName();
+		final Object rawValue = accessors.extractValue( annotation, attributeName );
+		return new AttributeValueImpl<>(
+				attributeDescriptor,
+				wrapRawValue( rawValue, buildingContext ),
+				accessors.isDefaultValue( attributeName, rawValue )
+		);
+	}
+
+	/**
+	 * Convert a raw (reflection) attribute value into the form used by AnnotationAttributeValue -<ul>
+	 *     <li>{@link Class} values are converted into {@link ClassDetails}</li>
+	 *     <li>{@link Annotation} values are converted into {@link AnnotationUsage}</li>
+	 *     <li>arrays are converted into {@link List}</li>
+	 * </ul>
+	 */
+	public static Object wrapRawValue(Object rawValue, SourceModelBuildingContext buildingContext) {
+		if ( rawValue == null ) {
+			return null;
+		}
+
+		if ( rawValue instanceof String ) {
+			return buildingContext.internString( (String) rawValue );
+		}
+
+		if ( rawValue instanceof Class ) {
+			return resolveClassDetails( (Class<?>) rawValue, buildingContext );
+		}
+
+		if ( rawValue instanceof Annotation ) {
+			final Annotation nested = (Annotation) rawValue;
+			return makeUsage(
+					nested,
+					buildingContext.getAnnotationDescriptorRegistry().getDescriptor( nested.annotationType() ),
+					null,
+					buildingContext
+			);
+		}
+
+		if ( rawValue.getClass().isArray() ) {
+			final int length = Array.getLength( rawValue );
+			if ( length == 0 ) {
+				return Collections.emptyList();
+			}
+			final List<Object> wrappedValues = new ArrayList<>( length );
+			for ( int i = 0; i < length; i++ ) {
+				wrappedValues.add( wrapRawValue( Array.get( rawValue, i ), buildingContext ) );
+			}
+			return wrappedValues;
+		}
+
+		return rawValue;
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.internal.IndexedConsumer;
+import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberFilter;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+/**
+ * ClassDetails implementation wrapping an already loaded {@link Class}
+ *
+ * @author Steve Ebersole
+ */
+public class JdkClassDetails extends AbstractJdkAnnotationTarget implements ClassDetails {
+	private final Class<?> managedClass;
+	private final String className;
+
+	private ClassDetails superType;
+	private List<ClassDetails> implementedInterfaces;
+
+	// NOTE : positioned as in `Class#getDeclaredFields` / `Class#getDeclaredMethods`.  the details
+	// of a member are only built once needed, whether for the full lists or for a filtered visit
+	private Field[] declaredFields;
+	private JdkFieldDetails[] fieldDetails;
+	private Method[] declaredMethods;
+	private JdkMethodDetails[] methodDetails;
+
+	private List<JdkFieldDetails> fields;
+	private List<JdkMethodDetails> methods;
+
+	public JdkClassDetails(Class<?> managedClass, SourceModelBuildingContext buildingContext) {
+		super( buildingContext );
+		this.managedClass = managedClass;
+		this.className = buildingContext.internString( managedClass.getName() );
+	}
+
+	@Override
+	protected AnnotatedElement getAnnotatedElement() {
+		return managedClass;
+	}
+
+	@Override
+	public String getName() {
+		return className;
+	}
+
+	@Override
+	public String getClassName() {
+		return className;
+	}
+
+	@Override
+	public boolean isAbstract() {
+		return Modifier.isAbstract( managedClass.getModifiers() );
+	}
+
+	@Override
+	public ClassDetails getSuperType() {
+		if ( superType == null && managedClass.getSuperclass() != null ) {
+			superType = JdkBuilders.resolveClassDetails( managedClass.getSuperclass(), getBuildingContext() );
+		}
+		return superType;
+	}
+
+	@Override
+	public String getSuperTypeName() {
+		final Class<?> superclass = managedClass.getSuperclass();
+		return superclass == null ? null : superclass.getName();
+	}
+
+	@Override
+	public List<ClassDetails> getImplementedInterfaceTypes() {
+		if ( implementedInterfaces == null ) {
+			implementedInterfaces = resolveInterfaces();
+		}
+		return implementedInterfaces;
+	}
+
+	private List<ClassDetails> resolveInterfaces() {
+		final Class<?>[] interfaces = managedClass.getInterfaces();
+		if ( interfaces.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		final List<ClassDetails> result = new ArrayList<>( interfaces.length );
+		for ( int i = 0; i < interfaces.length; i++ ) {
+			result.add( JdkBuilders.resolveClassDetails( interfaces[i], getBuildingContext() ) );
+		}
+		return result;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getAnnotation(AnnotationDescriptor<A> type) {
+		final AnnotationUsage<A> localUsage = super.getAnnotation( type );
+		if ( localUsage != null ) {
+			return localUsage;
+		}
+
+		if ( type.isInherited() && managedClass.getSuperclass() != null ) {
+			return getSuperType().getAnnotation( type );
+		}
+
+		return null;
+	}
+
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
+		final List<AnnotationUsage<A>> localUsages = super.getRepeatedAnnotations( type );
+
+		if ( type.isInherited() && managedClass.getSuperclass() != null ) {
+			final List<AnnotationUsage<A>> inheritedUsages = getSuperType().getRepeatedAnnotations( type );
+			return CollectionHelper.join( localUsages, inheritedUsages );
+		}
+
+		return localUsages;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
+			AnnotationDescriptor<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		final AnnotationUsage<A> localUsage = super.getNamedAnnotation( type, matchValue, attributeToMatch );
+		if ( localUsage != null ) {
+			return localUsage;
+		}
+
+		if ( type.isInherited() && managedClass.getSuperclass() != null ) {
+			return getSuperType().getNamedAnnotation( type, matchValue, attributeToMatch );
+		}
+		return null;
+	}
+
+	@Override
+	public List<FieldDetails> getFields() {
+		if ( fields == null ) {
+			fields = resolveFields();
+		}
+
+		//noinspection unchecked,rawtypes
+		return (List) fields;
+	}
+
+	private List<JdkFieldDetails> resolveFields() {
+		final Field[] declaredFields = getDeclaredFields();
+		final List<JdkFieldDetails> result = new ArrayList<>( declaredFields.length );
+		for ( int i = 0; i < declaredFields.length; i++ ) {
+			if ( isExcluded( declaredFields[i] ) ) {
+				continue;
+			}
+			result.add( resolveFieldDetails( i ) );
+		}
+		return result;
+	}
+
+	private Field[] getDeclaredFields() {
+		if ( declaredFields == null ) {
+			declaredFields = managedClass.getDeclaredFields();
+			fieldDetails = new JdkFieldDetails[declaredFields.length];
+		}
+		return declaredFields;
+	}
+
+	/**
+	 * Synthetic fields (e.g. {@code $assertionsDisabled}) are not part of the model
+	 */
+	private static boolean isExcluded(Field field) {
+		return field.isSynthetic();
+	}
+
+	private JdkFieldDetails resolveFieldDetails(int position) {
+		JdkFieldDetails details = fieldDetails[position];
+		if ( details == null ) {
+			details = new JdkFieldDetails( declaredFields[position], getBuildingContext() );
+			fieldDetails[position] = details;
+		}
+		return details;
+	}
+
+	@Override
+	public void forEachField(IndexedConsumer<FieldDetails> consumer) {
+		final List<FieldDetails> fields = getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			consumer.accept( i, fields.get( i ) );
+		}
+	}
+
+	@Override
+	public void forEachField(MemberFilter filter, Consumer<FieldDetails> consumer) {
+		final Field[] declaredFields = getDeclaredFields();
+		final RawJdkMember rawMember = new RawJdkMember();
+		for ( int i = 0; i < declaredFields.length; i++ ) {
+			if ( isExcluded( declaredFields[i] ) ) {
+				continue;
+			}
+			if ( filter.matches( rawMember.field( declaredFields[i] ) ) ) {
+				consumer.accept( resolveFieldDetails( i ) );
+			}
+		}
+	}
+
+	@Override
+	public List<MethodDetails> getMethods() {
+		if ( methods == null ) {
+			methods = resolveMethods();
+		}
+
+		//noinspection unchecked,rawtypes
+		return (List) methods;
+	}
+
+	private List<JdkMethodDetails> resolveMethods() {
+		final Method[] declaredMethods = getDeclaredMethods();
+		final List<JdkMethodDetails> result = new ArrayList<>( declaredMethods.length );
+		for ( int i = 0; i < declaredMethods.length; i++ ) {
+			if ( isExcluded( declaredMethods[i] ) ) {
+				continue;
+			}
+			result.add( resolveMethodDetails( i ) );
+		}
+		return result;
+	}
+
+	private Method[] getDeclaredMethods() {
+		if ( declaredMethods == null ) {
+			// NOTE : getDeclaredMethods() already excludes constructors and static initializers
+			declaredMethods = managedClass.getDeclaredMethods();
+			methodDetails = new JdkMethodDetails[declaredMethods.length];
+		}
+		return declaredMethods;
+	}
+
+	/**
+	 * Synthetic and bridge methods are not part of the model
+	 */
+	private static boolean isExcluded(Method method) {
+		return method.isSynthetic() || method.isBridge();
+	}
+
+	private JdkMethodDetails resolveMethodDetails(int position) {
+		JdkMethodDetails details = methodDetails[position];
+		if ( details == null ) {
+			details = new JdkMethodDetails( declaredMethods[position], getBuildingContext() );
+			methodDetails[position] = details;
+		}
+		return details;
+	}
+
+	@Override
+	public void forEachMethod(IndexedConsumer<MethodDetails> consumer) {
+		final List<MethodDetails> methods = getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			consumer.accept( i, methods.get( i ) );
+		}
+	}
+
+	@Override
+	public void forEachMethod(MemberFilter filter, Consumer<MethodDetails> consumer) {
+		final Method[] declaredMethods = getDeclaredMethods();
+		final RawJdkMember rawMember = new RawJdkMember();
+		for ( int i = 0; i < declaredMethods.length; i++ ) {
+			if ( isExcluded( declaredMethods[i] ) ) {
+				continue;
+			}
+			if ( filter.matches( rawMember.method( declaredMethods[i] ) ) ) {
+				consumer.accept( resolveMethodDetails( i ) );
+			}
+		}
+	}
+
+	@Override
+	public <X> Class<X> toJavaClass() {
+		//noinspection unchecked
+		return (Class<X>) managedClass;
+	}
+
+	@Override
+	public String toString() {
+		return "JdkClassDetails(" + className + ")";
+	}
+
+	/**
+	 * RawMember view over a reflected field or method, reused for all members of a visit
+	 */
+	private static class RawJdkMember implements MemberFilter.RawMember {
+		private Field field;
+		private Method method;
+
+		private RawJdkMember field(Field field) {
+			this.field = field;
+			this.method = null;
+			return this;
+		}
+
+		private RawJdkMember method(Method method) {
+			this.field = null;
+			this.method = method;
+			return this;
+		}
+
+		@Override
+		public String getName() {
+			return field != null ? field.getName() : method.getName();
+		}
+
+		@Override
+		public boolean isField() {
+			return field != null;
+		}
+
+		@Override
+		public int getModifierFlags() {
+			return field != null ? field.getModifiers() : method.getModifiers();
+		}
+
+		@Override
+		public boolean isPersistable() {
+			return field != null
+					? JdkFieldDetails.isPersistable( field )
+					: JdkMethodDetails.isPersistable( method );
+		}
+
+		@Override
+		public boolean hasAnnotation(AnnotationDescriptor<?> type) {
+			return field != null
+					? field.isAnnotationPresent( type.getAnnotationType() )
+					: method.isAnnotationPresent( type.getAnnotationType() );
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import static org.hibernate.models.source.internal.ModifierUtils.isPersistableField;
+
+/**
+ * FieldDetails implementation wrapping a reflective {@link Field}
+ *
+ * @author Steve Ebersole
+ */
+public class JdkFieldDetails extends AbstractJdkAnnotationTarget implements FieldDetails {
+	private final Field field;
+	private ClassDetails type;
+
+	public JdkFieldDetails(Field field, SourceModelBuildingContext buildingContext) {
+		super( buildingContext );
+		this.field = field;
+	}
+
+	@Override
+	protected AnnotatedElement getAnnotatedElement() {
+		return field;
+	}
+
+	@Override
+	public String getName() {
+		return field.getName();
+	}
+
+	@Override
+	public ClassDetails getType() {
+		if ( type == null ) {
+			type = JdkBuilders.resolveClassDetails( field.getType(), getBuildingContext() );
+		}
+		return type;
+	}
+
+	@Override
+	public boolean isPersistable() {
+		return isPersistable( field );
+	}
+
+	static boolean isPersistable(Field field) {
+		if ( field.isSynthetic() ) {
+			return false;
+		}
+		return isPersistableField( field.getModifiers() );
+	}
+}
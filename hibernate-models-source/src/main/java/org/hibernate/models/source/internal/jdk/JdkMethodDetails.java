@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.jdk;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMethod;
+
+/**
+ * MethodDetails implementation wrapping a reflective {@link Method}
+ *
+ * @author Steve Ebersole
+ */
+public class JdkMethodDetails extends AbstractJdkAnnotationTarget implements MethodDetails {
+	private final Method method;
+	private ClassDetails type;
+
+	public JdkMethodDetails(Method method, SourceModelBuildingContext buildingContext) {
+		super( buildingContext );
+		this.method = method;
+	}
+
+	@Override
+	protected AnnotatedElement getAnnotatedElement() {
+		return method;
+	}
+
+	@Override
+	public String getName() {
+		return method.getName();
+	}
+
+	@Override
+	public ClassDetails getType() {
+		if ( type == null ) {
+			type = JdkBuilders.resolveClassDetails( method.getReturnType(), getBuildingContext() );
+		}
+		return type;
+	}
+
+	@Override
+	public boolean isPersistable() {
+		return isPersistable( method );
+	}
+
+	static boolean isPersistable(Method method) {
+		if ( method.getParameterCount() > 0 ) {
+			return false;
+		}
+
+		if ( method.getReturnType() == void.class || method.getReturnType() == Void.class ) {
+			return false;
+		}
+
+		if ( method.isBridge() || method.isSynthetic() ) {
+			return false;
+		}
+
+		return isPersistableMethod( method.getModifiers() );
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Implementations of {@linkplain org.hibernate.models.source.spi.ClassDetails}
+ * and friends based on reflection, used for classes which are already loaded
+ * (JDK types, classes passed to us as {@link java.lang.Class} references, etc.).
+ * No bytecode is read for these types.
+ *
+ * @author Steve Ebersole
+ */
+package org.hibernate.models.source.internal.jdk;
@@ -7,11 +7,14 @@
 package org.hibernate.models.source.internal.standard;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.hibernate.models.internal.IndexedBiConsumer;
 import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.source.internal.NamedAnnotationIndex;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.AnnotationUsage;
@@ -24,7 +27,8 @@ import static org.hibernate.models.source.internal.standard.annotations.Annotati
  */
 public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 	private final SourceModelBuildingContext buildingContext;
-	private Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	private volatile NamedAnnotationIndex namedAnnotationIndex;
 
 	public AbstractAnnotationTarget(SourceModelBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
@@ -37,10 +41,38 @@ public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 	protected abstract org.jboss.jandex.AnnotationTarget getJandexAnnotationTarget();
 
 	protected Map<Class<? extends Annotation>, AnnotationUsage<?>> getUsagesMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap( getJandexAnnotationTarget(), this, buildingContext );
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> map = usagesMap;
+		if ( map == null ) {
+			synchronized ( this ) {
+				map = usagesMap;
+				if ( map == null ) {
+					map = buildUsagesMap( getJandexAnnotationTarget(), this, buildingContext );
+					usagesMap = map;
+				}
+			}
 		}
-		return usagesMap;
+		return map;
+	}
+
+	private NamedAnnotationIndex getNamedAnnotationIndex() {
+		NamedAnnotationIndex index = namedAnnotationIndex;
+		if ( index == null ) {
+			synchronized ( this ) {
+				index = namedAnnotationIndex;
+				if ( index == null ) {
+					index = new NamedAnnotationIndex( this::getNamedAnnotationCandidates );
+					namedAnnotationIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * The usages of the given {@code type} considered when resolving a {@linkplain #getNamedAnnotation named} usage
+	 */
+	protected <A extends Annotation> List<AnnotationUsage<A>> getNamedAnnotationCandidates(AnnotationDescriptor<A> type) {
+		return AnnotationUsageHelper.getNamedAnnotationCandidates( type, getUsagesMap() );
 	}
 
 	protected SourceModelBuildingContext getBuildingContext() {
@@ -57,6 +89,20 @@ public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 		return getAnnotation( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ) );
 	}
 
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		return getUsagesMap().values();
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotation(AnnotationDescriptor<A> type) {
+		final AnnotationUsage<A> usage = getAnnotation( type );
+		if ( usage != null ) {
+			return usage;
+		}
+		return AnnotationUsageHelper.findMetaAnnotation( type, getUsagesMap() );
+	}
+
 	@Override
 	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
 		return AnnotationUsageHelper.getRepeatedAnnotations( type, getUsagesMap() );
@@ -69,20 +115,20 @@ public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 
 	@Override
 	public <A extends Annotation> void forEachAnnotation(AnnotationDescriptor<A> type, Consumer<AnnotationUsage<A>> consumer) {
-		final List<AnnotationUsage<A>> annotations = getRepeatedAnnotations( type );
-		if ( annotations == null ) {
-			return;
-		}
-		annotations.forEach( consumer );
+		forEachAnnotation( type, consumer, (position, usage, plainConsumer) -> plainConsumer.accept( usage ) );
 	}
 
 	@Override
 	public <A extends Annotation> void forEachAnnotation(Class<A> type, Consumer<AnnotationUsage<A>> consumer) {
-		final List<AnnotationUsage<A>> annotations = getRepeatedAnnotations( type );
-		if ( annotations == null ) {
-			return;
-		}
-		annotations.forEach( consumer );
+		forEachAnnotation( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( type ), consumer );
+	}
+
+	@Override
+	public <A extends Annotation, C> void forEachAnnotation(
+			AnnotationDescriptor<A> type,
+			C context,
+			IndexedBiConsumer<AnnotationUsage<A>, C> consumer) {
+		AnnotationUsageHelper.forEachRepeatedAnnotation( type, getUsagesMap(), 0, context, consumer );
 	}
 
 	@Override
@@ -90,8 +136,9 @@ public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 			AnnotationDescriptor<A> type,
 			String matchValue,
 			String attributeToMatch) {
-		return AnnotationUsageHelper.getNamedAnnotation( type, matchValue, attributeToMatch, getUsagesMap() );
+		return getNamedAnnotationIndex().find( type, matchValue, attributeToMatch );
 	}
+
 	@Override
 	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
 			Class<A> type,
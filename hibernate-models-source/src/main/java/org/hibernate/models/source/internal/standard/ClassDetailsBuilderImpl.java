@@ -7,8 +7,8 @@
 package org.hibernate.models.source.internal.standard;
 
 import org.hibernate.models.internal.StringHelper;
-import org.hibernate.models.source.ModelsException;
 import org.hibernate.models.source.UnknownClassException;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
@@ -29,35 +29,65 @@ public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
 
 	@Override
 	public ClassDetails buildClassDetails(String name, SourceModelBuildingContext processingContext) {
-		return buildClassDetailsStatic( name, processingContext.getJandexIndex(), processingContext );
+		return buildClassDetails( name, processingContext.getJandexIndex(), processingContext );
 	}
 
-	public static ClassDetails buildClassDetailsStatic(String name, SourceModelBuildingContext processingContext) {
-		return buildClassDetailsStatic( name, processingContext.getJandexIndex(), processingContext );
-	}
-
-	public static ClassDetails buildClassDetailsStatic(
+	protected ClassDetails buildClassDetails(
 			String name,
 			IndexView jandexIndex,
 			SourceModelBuildingContext processingContext) {
 		if ( "void".equals( name ) ) {
 			name = Void.class.getName();
 		}
+
 		final ClassInfo classInfo = jandexIndex.getClassByName( name );
-		if ( StringHelper.isNotEmpty( name ) && classInfo == null ) {
+		if ( classInfo != null ) {
+			return new ClassDetailsImpl( classInfo, processingContext );
+		}
+
+		if ( StringHelper.isNotEmpty( name ) ) {
 			// potentially handle primitives
 			final Class<?> primitiveWrapperClass = resolveMatchingPrimitiveWrapper( name );
 			if ( primitiveWrapperClass != null ) {
-				final ClassInfo wrapperClassInfo = jandexIndex.getClassByName( primitiveWrapperClass.getName() );
-				return new ClassDetailsImpl( wrapperClassInfo, processingContext );
+				return processingContext.getClassDetailsRegistry().resolveClassDetails( primitiveWrapperClass.getName() );
+			}
+
+			// JDK types are already loaded - use reflection rather than reading their bytecode
+			final Class<?> jdkType = JdkBuilders.resolveJdkType( name, processingContext.getClassLoadingAccess() );
+			if ( jdkType != null ) {
+				return JdkBuilders.buildClassDetailsStatic( jdkType, processingContext );
 			}
 
-			throw new UnknownClassException( "Could not find class [" + name + "] in Jandex index" );
+			final ClassInfo unindexedClassInfo = locateUnindexedClassInfo( name, processingContext );
+			if ( unindexedClassInfo != null ) {
+				return new ClassDetailsImpl( unindexedClassInfo, processingContext );
+			}
 		}
-		return new ClassDetailsImpl( classInfo, processingContext );
+
+		throw new UnknownClassException( "Could not find class [" + name + "] in Jandex index" );
+	}
+
+	/**
+	 * Hook to locate the Jandex ClassInfo for a class which is not part of the
+	 * {@linkplain SourceModelBuildingContext#getJandexIndex() index}.  Returns
+	 * {@code null} by default.
+	 */
+	protected ClassInfo locateUnindexedClassInfo(String name, SourceModelBuildingContext processingContext) {
+		return null;
+	}
+
+	public static ClassDetails buildClassDetailsStatic(String name, SourceModelBuildingContext processingContext) {
+		return DEFAULT_BUILDER.buildClassDetails( name, processingContext.getJandexIndex(), processingContext );
+	}
+
+	public static ClassDetails buildClassDetailsStatic(
+			String name,
+			IndexView jandexIndex,
+			SourceModelBuildingContext processingContext) {
+		return DEFAULT_BUILDER.buildClassDetails( name, jandexIndex, processingContext );
 	}
 
-	private static Class<?> resolveMatchingPrimitiveWrapper(String className) {
+	protected static Class<?> resolveMatchingPrimitiveWrapper(String className) {
 		if ( "boolean".equals( className ) ) {
 			return Boolean.class;
 		}
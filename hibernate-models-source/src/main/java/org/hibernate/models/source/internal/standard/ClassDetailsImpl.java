@@ -11,14 +11,23 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.hibernate.models.internal.CollectionHelper;
+import org.hibernate.models.internal.IndexedBiConsumer;
 import org.hibernate.models.internal.IndexedConsumer;
+import org.hibernate.models.source.internal.AnnotationHelper;
+import org.hibernate.models.source.internal.AnnotationUsageHelper;
+import org.hibernate.models.source.internal.ClassDetailsHelper;
+import org.hibernate.models.source.internal.ModifierUtils;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberFilter;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -33,19 +42,32 @@ import org.jboss.jandex.MethodInfo;
  */
 public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassDetails {
 	private final ClassInfo classInfo;
+	private final String className;
+	private final String superTypeName;
 
-	private final ClassDetails superType;
-	private final List<ClassDetails> implementedInterfaces;
+	// NOTE : the super-type and interfaces are resolved lazily - resolving them
+	// eagerly would build ClassDetails for the entire type closure (JDK types included)
+	private ClassDetails superType;
+	private List<ClassDetails> implementedInterfaces;
+
+	// NOTE : positioned as in `ClassInfo#fields` / `ClassInfo#methods`.  the details of a member
+	// are only built once needed, whether for the full lists or for a filtered visit
+	private FieldDetailsImpl[] fieldDetails;
+	private MethodDetailsImpl[] methodDetails;
 
 	private List<FieldDetailsImpl> fields;
 	private List<MethodDetailsImpl> methods;
 
+	// NOTE : keyed by descriptor; only created once an inherited annotation type is looked up
+	private volatile Map<AnnotationDescriptor<?>, InheritedUsages<?>> inheritedUsagesMap;
+
 	public ClassDetailsImpl(ClassInfo classInfo, SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.classInfo = classInfo;
-
-		this.superType = determineSuperType( classInfo, buildingContext );
-		this.implementedInterfaces = determineInterfaces( classInfo, buildingContext );
+		this.className = buildingContext.internString( classInfo.name().toString() );
+		this.superTypeName = classInfo.superName() == null
+				? null
+				: buildingContext.internString( classInfo.superName().toString() );
 
 		buildingContext.getClassDetailsRegistry().addClassDetails( this );
 	}
@@ -53,13 +75,13 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	private static ClassDetails determineSuperType(
 			ClassInfo classInfo,
 			SourceModelBuildingContext buildingContext) {
-		if ( classInfo.superClassType() == null ) {
+		if ( classInfo.superName() == null ) {
 			return null;
 		}
 
 		return buildingContext
 				.getClassDetailsRegistry()
-				.resolveClassDetails( classInfo.superClassType().name().toString() );
+				.resolveClassDetails( classInfo.superName() );
 	}
 
 	private static List<ClassDetails> determineInterfaces(
@@ -73,7 +95,7 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
 		final List<ClassDetails> result = new ArrayList<>( interfaceNames.size() );
 		for ( DotName interfaceName : interfaceNames ) {
-			final ClassDetails interfaceDetails = classDetailsRegistry.resolveClassDetails( interfaceName.toString() );
+			final ClassDetails interfaceDetails = classDetailsRegistry.resolveClassDetails( interfaceName );
 			result.add( interfaceDetails );
 		}
 		return result;
@@ -91,7 +113,7 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 
 	@Override
 	public String getClassName() {
-		return classInfo.name().toString();
+		return className;
 	}
 
 	@Override
@@ -101,54 +123,150 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 
 	@Override
 	public ClassDetails getSuperType() {
+		if ( superType == null && superTypeName != null ) {
+			superType = determineSuperType( classInfo, getBuildingContext() );
+		}
 		return superType;
 	}
 
+	@Override
+	public String getSuperTypeName() {
+		return superTypeName;
+	}
+
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
+		if ( implementedInterfaces == null ) {
+			implementedInterfaces = determineInterfaces( classInfo, getBuildingContext() );
+		}
 		return implementedInterfaces;
 	}
 
+	@Override
+	public boolean isImplementor(Class<?> checkType) {
+		final ClassDetails checkTypeDetails = getBuildingContext().getClassDetailsRegistry().findClassDetails( checkType.getName() );
+		if ( checkTypeDetails == null ) {
+			return ClassDetailsHelper.isImplementor( checkType, this );
+		}
+		return isImplementor( checkTypeDetails );
+	}
+
+	@Override
+	public boolean isImplementor(ClassDetails checkType) {
+		return getBuildingContext().getClassDetailsRegistry().getTypeHierarchyIndex().isImplementor( this, checkType );
+	}
+
 	@Override
 	public <A extends Annotation> AnnotationUsage<A> getAnnotation(AnnotationDescriptor<A> type) {
-		final AnnotationUsage<A> localUsage = super.getAnnotation( type );
-		if ( localUsage != null ) {
-			return localUsage;
+		if ( type.isInherited() && superTypeName != null ) {
+			return resolveInheritedUsages( type ).usage;
 		}
+		return super.getAnnotation( type );
+	}
 
-		if ( type.isInherited() && superType != null ) {
-			return superType.getAnnotation( type );
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
+		if ( type.isInherited() && superTypeName != null ) {
+			return resolveInheritedUsages( type ).usages;
 		}
+		return super.getRepeatedAnnotations( type );
+	}
 
-		return null;
+	@Override
+	public <A extends Annotation, C> void forEachAnnotation(
+			AnnotationDescriptor<A> type,
+			C context,
+			IndexedBiConsumer<AnnotationUsage<A>, C> consumer) {
+		if ( type.isInherited() && superTypeName != null ) {
+			final List<AnnotationUsage<A>> usages = resolveInheritedUsages( type ).usages;
+			for ( int i = 0; i < usages.size(); i++ ) {
+				consumer.accept( i, usages.get( i ), context );
+			}
+			return;
+		}
+		AnnotationUsageHelper.forEachRepeatedAnnotation( type, getUsagesMap(), 0, context, consumer );
 	}
 
 	@Override
-	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
-		final List<AnnotationUsage<A>> localUsages = super.getRepeatedAnnotations( type );
+	protected <A extends Annotation> List<AnnotationUsage<A>> getNamedAnnotationCandidates(AnnotationDescriptor<A> type) {
+		if ( type.isInherited() && superTypeName != null ) {
+			return resolveInheritedUsages( type ).usages;
+		}
+		return super.getNamedAnnotationCandidates( type );
+	}
 
-		if ( type.isInherited() && superType != null ) {
-			final List<AnnotationUsage<A>> inheritedUsages = superType.getRepeatedAnnotations( type );
-			return CollectionHelper.join( localUsages, inheritedUsages );
+	/**
+	 * The effective (local plus inherited) usages of an {@linkplain AnnotationDescriptor#isInherited() inherited}
+	 * annotation, built once from the super-type's own memoized view
+	 */
+	private <A extends Annotation> InheritedUsages<A> resolveInheritedUsages(AnnotationDescriptor<A> type) {
+		final Map<AnnotationDescriptor<?>, InheritedUsages<?>> inheritedUsagesMap = getInheritedUsagesMap();
+		final InheritedUsages<?> existing = inheritedUsagesMap.get( type );
+		if ( existing != null ) {
+			//noinspection unchecked
+			return (InheritedUsages<A>) existing;
 		}
 
-		return localUsages;
+		final InheritedUsages<A> created = buildInheritedUsages( type );
+		final InheritedUsages<?> raced = inheritedUsagesMap.putIfAbsent( type, created );
+		//noinspection unchecked
+		return raced == null ? created : (InheritedUsages<A>) raced;
 	}
 
-	@Override
-	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
-			AnnotationDescriptor<A> type,
-			String matchValue,
-			String attributeToMatch) {
-		final AnnotationUsage<A> localUsage = super.getNamedAnnotation( type, matchValue, attributeToMatch );
-		if ( localUsage != null ) {
-			return localUsage;
+	private Map<AnnotationDescriptor<?>, InheritedUsages<?>> getInheritedUsagesMap() {
+		Map<AnnotationDescriptor<?>, InheritedUsages<?>> map = inheritedUsagesMap;
+		if ( map == null ) {
+			synchronized ( this ) {
+				map = inheritedUsagesMap;
+				if ( map == null ) {
+					map = new ConcurrentHashMap<>( 4 );
+					inheritedUsagesMap = map;
+				}
+			}
+		}
+		return map;
+	}
+
+	private <A extends Annotation> InheritedUsages<A> buildInheritedUsages(AnnotationDescriptor<A> type) {
+		final AnnotationUsage<A> inheritedUsage;
+		final List<AnnotationUsage<A>> inheritedUsages;
+		final ClassDetails superType = getSuperType();
+		if ( superType instanceof ClassDetailsImpl ) {
+			final InheritedUsages<A> superTypeUsages = ( (ClassDetailsImpl) superType ).resolveInheritedUsages( type );
+			inheritedUsage = superTypeUsages.usage;
+			inheritedUsages = superTypeUsages.usages;
 		}
+		else {
+			inheritedUsage = superType.getAnnotation( type );
+			inheritedUsages = Collections.unmodifiableList( superType.getRepeatedAnnotations( type ) );
+		}
+
+		final AnnotationUsage<A> localUsage = super.getAnnotation( type );
+		final List<AnnotationUsage<A>> localUsages = super.getRepeatedAnnotations( type );
+
+		// NOTE : the memoized lists are handed out as-is, so each one is unmodifiable
+		final List<AnnotationUsage<A>> usages;
+		if ( localUsages.isEmpty() ) {
+			usages = inheritedUsages;
+		}
+		else if ( inheritedUsages.isEmpty() ) {
+			usages = Collections.unmodifiableList( localUsages );
+		}
+		else {
+			usages = Collections.unmodifiableList( CollectionHelper.join( localUsages, inheritedUsages ) );
+		}
+
+		return new InheritedUsages<>( localUsage != null ? localUsage : inheritedUsage, usages );
+	}
+
+	private static class InheritedUsages<A extends Annotation> {
+		private final AnnotationUsage<A> usage;
+		private final List<AnnotationUsage<A>> usages;
 
-		if ( type.isInherited() && superType != null ) {
-			return superType.getNamedAnnotation( type, matchValue, attributeToMatch );
+		private InheritedUsages(AnnotationUsage<A> usage, List<AnnotationUsage<A>> usages) {
+			this.usage = usage;
+			this.usages = usages;
 		}
-		return null;
 	}
 
 	@Override
@@ -164,12 +282,28 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	private List<FieldDetailsImpl> resolveFields() {
 		final List<FieldInfo> fieldsInfoList = classInfo.fields();
 		final List<FieldDetailsImpl> result = new ArrayList<>( fieldsInfoList.size() );
-		for ( FieldInfo fieldInfo : fieldsInfoList ) {
-			result.add( new FieldDetailsImpl( fieldInfo, getBuildingContext() ) );
+		for ( int i = 0; i < fieldsInfoList.size(); i++ ) {
+			final FieldInfo fieldInfo = fieldsInfoList.get( i );
+			if ( isExcluded( fieldInfo ) ) {
+				continue;
+			}
+			result.add( resolveFieldDetails( fieldInfo, i, fieldsInfoList.size() ) );
 		}
 		return result;
 	}
 
+	private FieldDetailsImpl resolveFieldDetails(FieldInfo fieldInfo, int position, int count) {
+		if ( fieldDetails == null ) {
+			fieldDetails = new FieldDetailsImpl[count];
+		}
+		FieldDetailsImpl details = fieldDetails[position];
+		if ( details == null ) {
+			details = new FieldDetailsImpl( fieldInfo, getBuildingContext() );
+			fieldDetails[position] = details;
+		}
+		return details;
+	}
+
 	@Override
 	public void forEachField(IndexedConsumer<FieldDetails> consumer) {
 		final List<FieldDetails> fields = getFields();
@@ -178,6 +312,21 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 		}
 	}
 
+	@Override
+	public void forEachField(MemberFilter filter, Consumer<FieldDetails> consumer) {
+		final List<FieldInfo> fieldsInfoList = classInfo.fields();
+		final RawJandexMember rawMember = new RawJandexMember();
+		for ( int i = 0; i < fieldsInfoList.size(); i++ ) {
+			final FieldInfo fieldInfo = fieldsInfoList.get( i );
+			if ( isExcluded( fieldInfo ) ) {
+				continue;
+			}
+			if ( filter.matches( rawMember.field( fieldInfo ) ) ) {
+				consumer.accept( resolveFieldDetails( fieldInfo, i, fieldsInfoList.size() ) );
+			}
+		}
+	}
+
 	@Override
 	public List<MethodDetails> getMethods() {
 		if ( methods == null ) {
@@ -190,15 +339,47 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 	private List<MethodDetailsImpl> resolveMethods() {
 		final List<MethodInfo> methodInfoList = classInfo.methods();
 		final List<MethodDetailsImpl> result = new ArrayList<>( methodInfoList.size() );
-		for ( MethodInfo methodInfo : methodInfoList ) {
-			if ( methodInfo.isConstructor() || "<clinit>".equals( methodInfo.name() ) ) {
+		for ( int i = 0; i < methodInfoList.size(); i++ ) {
+			final MethodInfo methodInfo = methodInfoList.get( i );
+			if ( isExcluded( methodInfo ) ) {
 				continue;
 			}
-			result.add( new MethodDetailsImpl( methodInfo, getBuildingContext() ) );
+			result.add( resolveMethodDetails( methodInfo, i, methodInfoList.size() ) );
 		}
 		return result;
 	}
 
+	/**
+	 * Synthetic fields (e.g. {@code $assertionsDisabled}) are not part of the model, matching
+	 * {@link org.hibernate.models.source.internal.jdk.JdkClassDetails}
+	 */
+	private static boolean isExcluded(FieldInfo fieldInfo) {
+		return ModifierUtils.isSynthetic( fieldInfo.flags() );
+	}
+
+	/**
+	 * Initializers, as well as synthetic and bridge methods, are not part of the model,
+	 * matching {@link org.hibernate.models.source.internal.jdk.JdkClassDetails}
+	 */
+	private static boolean isExcluded(MethodInfo methodInfo) {
+		return methodInfo.isConstructor()
+				|| "<clinit>".equals( methodInfo.name() )
+				|| ModifierUtils.isSynthetic( methodInfo.flags() )
+				|| ModifierUtils.isBridge( methodInfo.flags() );
+	}
+
+	private MethodDetailsImpl resolveMethodDetails(MethodInfo methodInfo, int position, int count) {
+		if ( methodDetails == null ) {
+			methodDetails = new MethodDetailsImpl[count];
+		}
+		MethodDetailsImpl details = methodDetails[position];
+		if ( details == null ) {
+			details = new MethodDetailsImpl( methodInfo, getBuildingContext() );
+			methodDetails[position] = details;
+		}
+		return details;
+	}
+
 	@Override
 	public void forEachMethod(IndexedConsumer<MethodDetails> consumer) {
 		final List<MethodDetails> methods = getMethods();
@@ -207,13 +388,78 @@ public class ClassDetailsImpl extends AbstractAnnotationTarget implements ClassD
 		}
 	}
 
+	@Override
+	public void forEachMethod(MemberFilter filter, Consumer<MethodDetails> consumer) {
+		final List<MethodInfo> methodInfoList = classInfo.methods();
+		final RawJandexMember rawMember = new RawJandexMember();
+		for ( int i = 0; i < methodInfoList.size(); i++ ) {
+			final MethodInfo methodInfo = methodInfoList.get( i );
+			if ( isExcluded( methodInfo ) ) {
+				continue;
+			}
+			if ( filter.matches( rawMember.method( methodInfo ) ) ) {
+				consumer.accept( resolveMethodDetails( methodInfo, i, methodInfoList.size() ) );
+			}
+		}
+	}
+
 	@Override
 	public <X> Class<X> toJavaClass() {
-		throw new UnsupportedOperationException( "Not supported" );
+		return getBuildingContext().getClassLoadingAccess().classForName( className );
 	}
 
 	@Override
 	public String toString() {
-		return "ClassDetails(" + classInfo.name().toString() + ")";
+		return "ClassDetails(" + className + ")";
+	}
+
+	/**
+	 * RawMember view over the Jandex info of a field or method, reused for all members of a visit
+	 */
+	private static class RawJandexMember implements MemberFilter.RawMember {
+		private FieldInfo fieldInfo;
+		private MethodInfo methodInfo;
+
+		private RawJandexMember field(FieldInfo fieldInfo) {
+			this.fieldInfo = fieldInfo;
+			this.methodInfo = null;
+			return this;
+		}
+
+		private RawJandexMember method(MethodInfo methodInfo) {
+			this.fieldInfo = null;
+			this.methodInfo = methodInfo;
+			return this;
+		}
+
+		@Override
+		public String getName() {
+			return fieldInfo != null ? fieldInfo.name() : methodInfo.name();
+		}
+
+		@Override
+		public boolean isField() {
+			return fieldInfo != null;
+		}
+
+		@Override
+		public int getModifierFlags() {
+			return fieldInfo != null ? fieldInfo.flags() : methodInfo.flags();
+		}
+
+		@Override
+		public boolean isPersistable() {
+			return fieldInfo != null
+					? FieldDetailsImpl.isPersistable( fieldInfo )
+					: MethodDetailsImpl.isPersistable( methodInfo );
+		}
+
+		@Override
+		public boolean hasAnnotation(AnnotationDescriptor<?> type) {
+			final DotName annotationName = AnnotationHelper.toDotName( type.getAnnotationType() );
+			return fieldInfo != null
+					? fieldInfo.declaredAnnotation( annotationName ) != null
+					: methodInfo.declaredAnnotation( annotationName ) != null;
+		}
 	}
 }
@@ -20,17 +20,13 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableFi
  */
 public class FieldDetailsImpl extends AbstractAnnotationTarget implements FieldDetails {
 	private final FieldInfo fieldInfo;
-	private final ClassDetails type;
+	private ClassDetails type;
 
 	public FieldDetailsImpl(
 			FieldInfo fieldInfo,
 			SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.fieldInfo = fieldInfo;
-		this.type = buildingContext.getClassDetailsRegistry().resolveClassDetails(
-				fieldInfo.type().name().toString(),
-				ClassDetailsBuilderImpl::buildClassDetailsStatic
-		);
 	}
 
 	@Override
@@ -45,11 +41,19 @@ public class FieldDetailsImpl extends AbstractAnnotationTarget implements FieldD
 
 	@Override
 	public ClassDetails getType() {
+		if ( type == null ) {
+			// resolved lazily - most members are never asked for their type
+			type = getBuildingContext().getClassDetailsRegistry().resolveClassDetails( fieldInfo.type().name() );
+		}
 		return type;
 	}
 
 	@Override
 	public boolean isPersistable() {
+		return isPersistable( fieldInfo );
+	}
+
+	static boolean isPersistable(FieldInfo fieldInfo) {
 		return isPersistableField( fieldInfo.flags() );
 	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.standard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.models.internal.StringHelper;
+import org.hibernate.models.source.ModelsException;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+/**
+ * ClassDetailsBuilder which, when a class cannot be found in the
+ * {@linkplain SourceModelBuildingContext#getJandexIndex() Jandex index},
+ * locates the class file using {@linkplain org.hibernate.models.spi.ClassLoading#locateResource}
+ * and indexes just that class into an overlay.
+ * <p/>
+ * This allows the up-front index to contain just the managed classes; other types
+ * are indexed only if and when they are actually needed.  JDK types are never indexed
+ * here - they are handled reflectively by {@link ClassDetailsBuilderImpl}.
+ * <p/>
+ * Names which cannot be located are remembered so that repeated misses are cheap.
+ * <p/>
+ * The overlay is exposed along with the up-front index through {@link #extendIndex}, which
+ * {@link org.hibernate.models.source.internal.SourceModelBuildingContextImpl#getJandexIndex()}
+ * uses, so that consumers of the index see the lazily indexed classes as well.
+ *
+ * @author Steve Ebersole
+ */
+public class LazyIndexingClassDetailsBuilder extends ClassDetailsBuilderImpl {
+	private final Map<DotName, ClassInfo> overlayIndex = new ConcurrentHashMap<>();
+	private final Set<String> unknownClassNames = ConcurrentHashMap.newKeySet();
+
+	// the single-class indexes backing the overlay, and the last view combining them with an index
+	private final List<IndexView> overlayIndexes = new CopyOnWriteArrayList<>();
+	private volatile ExtendedIndex extendedIndex;
+
+	/**
+	 * A view of the given {@code baseIndex} which also includes the classes indexed on demand so far
+	 */
+	public IndexView extendIndex(IndexView baseIndex) {
+		final int overlayCount = overlayIndexes.size();
+		if ( overlayCount == 0 ) {
+			return baseIndex;
+		}
+
+		final ExtendedIndex existing = extendedIndex;
+		if ( existing != null && existing.baseIndex == baseIndex && existing.overlayCount == overlayCount ) {
+			return existing.view;
+		}
+
+		final List<IndexView> indexes = new ArrayList<>( overlayCount + 1 );
+		indexes.add( baseIndex );
+		indexes.addAll( overlayIndexes );
+		final ExtendedIndex extended = new ExtendedIndex( baseIndex, indexes.size() - 1, CompositeIndex.create( indexes ) );
+		extendedIndex = extended;
+		return extended.view;
+	}
+
+	@Override
+	protected ClassInfo locateUnindexedClassInfo(String name, SourceModelBuildingContext processingContext) {
+		final DotName dotName = DotName.createSimple( name );
+		final ClassInfo overlaid = overlayIndex.get( dotName );
+		if ( overlaid != null ) {
+			return overlaid;
+		}
+
+		if ( unknownClassNames.contains( name ) ) {
+			return null;
+		}
+
+		final Index index = indexClass( name, processingContext );
+		final ClassInfo lazilyIndexed = index == null ? null : index.getClassByName( dotName );
+		if ( lazilyIndexed == null ) {
+			unknownClassNames.add( name );
+			return null;
+		}
+
+		final ClassInfo existing = overlayIndex.putIfAbsent( dotName, lazilyIndexed );
+		if ( existing != null ) {
+			return existing;
+		}
+		overlayIndexes.add( index );
+		return lazilyIndexed;
+	}
+
+	private static Index indexClass(String name, SourceModelBuildingContext processingContext) {
+		final URL resource = processingContext
+				.getClassLoadingAccess()
+				.locateResource( StringHelper.classNameToResourceName( name ) );
+		if ( resource == null ) {
+			return null;
+		}
+
+		// Indexer is not thread-safe, so use one per miss
+		final Indexer indexer = new Indexer();
+		try (InputStream inputStream = resource.openStream()) {
+			indexer.index( inputStream );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to index class - " + name, e );
+		}
+
+		return indexer.complete();
+	}
+
+	private static class ExtendedIndex {
+		private final IndexView baseIndex;
+		private final int overlayCount;
+		private final IndexView view;
+
+		private ExtendedIndex(IndexView baseIndex, int overlayCount, IndexView view) {
+			this.baseIndex = baseIndex;
+			this.overlayCount = overlayCount;
+			this.view = view;
+		}
+	}
+}
@@ -11,7 +11,9 @@ import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMethod;
 
@@ -19,18 +21,16 @@ import static org.hibernate.models.source.internal.ModifierUtils.isPersistableMe
  * @author Steve Ebersole
  */
 public class MethodDetailsImpl extends AbstractAnnotationTarget implements MethodDetails {
+	private static final DotName VOID = DotName.createSimple( Void.class.getName() );
+
 	private final MethodInfo methodInfo;
-	private final ClassDetails type;
+	private ClassDetails type;
 
 	public MethodDetailsImpl(
 			MethodInfo methodInfo,
 			SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 		this.methodInfo = methodInfo;
-		this.type = buildingContext.getClassDetailsRegistry().resolveClassDetails(
-				methodInfo.returnType().name().toString(),
-				ClassDetailsBuilderImpl::buildClassDetailsStatic
-		);
 	}
 
 	@Override
@@ -45,16 +45,26 @@ public class MethodDetailsImpl extends AbstractAnnotationTarget implements Metho
 
 	@Override
 	public ClassDetails getType() {
+		if ( type == null ) {
+			// resolved lazily - most members are never asked for their type
+			type = getBuildingContext().getClassDetailsRegistry().resolveClassDetails( methodInfo.returnType().name() );
+		}
 		return type;
 	}
 
 	@Override
 	public boolean isPersistable() {
+		return isPersistable( methodInfo );
+	}
+
+	static boolean isPersistable(MethodInfo methodInfo) {
 		if ( methodInfo.parametersCount() > 0 ) {
 			return false;
 		}
 
-		if ( "void".equals( type.getName() ) || "Void".equals( type.getName() ) ) {
+		// check the return type without resolving it
+		final Type returnType = methodInfo.returnType();
+		if ( returnType.kind() == Type.Kind.VOID || returnType.name().equals( VOID ) ) {
 			return false;
 		}
 
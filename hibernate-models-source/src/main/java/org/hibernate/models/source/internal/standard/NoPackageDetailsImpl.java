@@ -7,6 +7,8 @@
 package org.hibernate.models.source.internal.standard;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -54,6 +56,11 @@ public class NoPackageDetailsImpl extends AbstractAnnotationTarget implements Pa
 	public <X extends Annotation> void forEachAnnotation(AnnotationDescriptor<X> type, Consumer<AnnotationUsage<X>> consumer) {
 	}
 
+	@Override
+	public Collection<AnnotationUsage<?>> getAllAnnotationUsages() {
+		return Collections.emptyList();
+	}
+
 	@Override
 	public <X extends Annotation> AnnotationUsage<X> getNamedAnnotation(AnnotationDescriptor<X> type, String matchName, String attributeToMatch) {
 		return null;
@@ -16,11 +16,16 @@ import org.jboss.jandex.AnnotationValue;
  * @author Steve Ebersole
  */
 public abstract class AbstractCommonValueDescriptor<W> extends AbstractValueDescriptor<W> {
-	public AbstractCommonValueDescriptor(String name) {
-		super( name );
+	public AbstractCommonValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
-	protected abstract ValueExtractor<W> getValueExtractor(SourceModelBuildingContext buildingContext);
+	protected abstract ValueExtractor<W> getValueExtractor();
+
+	@Override
+	protected boolean isImplicitValueShareable() {
+		return getValueExtractor().isContextFree();
+	}
 
 	@Override
 	protected final AnnotationAttributeValue<W> createImplicitWrapper(
@@ -29,7 +34,7 @@ public abstract class AbstractCommonValueDescriptor<W> extends AbstractValueDesc
 			SourceModelBuildingContext buildingContext) {
 		return new AttributeValueImpl<>(
 				this,
-				getValueExtractor( buildingContext ).extractValue( implicitValue, buildingContext ),
+				getValueExtractor().extractValue( implicitValue, buildingContext ),
 				true
 		);
 	}
@@ -41,7 +46,7 @@ public abstract class AbstractCommonValueDescriptor<W> extends AbstractValueDesc
 			SourceModelBuildingContext buildingContext) {
 		return new AttributeValueImpl<>(
 				this,
-				getValueExtractor( buildingContext ).extractValue( explicitValue, buildingContext ),
+				getValueExtractor().extractValue( explicitValue, buildingContext ),
 				false
 		);
 	}
@@ -18,13 +18,24 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
 /**
+ * @implNote The attribute's default value is read from the annotation type's bytecode
+ * ({@code MethodInfo#defaultValue}) once, when the descriptor is built, and kept in its raw,
+ * context-free Jandex form.  Where the decoded default does not reference any
+ * {@linkplain SourceModelBuildingContext building context} state (primitives, Strings, enums)
+ * the wrapper is also decoded just once and shared by every usage; otherwise it is decoded
+ * per usage.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractValueDescriptor<W> implements AnnotationAttributeDescriptor, AnnotationValueWrapper<W> {
 	private final String name;
+	private final AnnotationValue defaultValue;
+
+	private volatile AnnotationAttributeValue<W> sharedImplicitValue;
 
-	public AbstractValueDescriptor(String name) {
+	public AbstractValueDescriptor(String name, AnnotationValue defaultValue) {
 		this.name = name;
+		this.defaultValue = defaultValue;
 	}
 
 	@Override
@@ -32,6 +43,13 @@ public abstract class AbstractValueDescriptor<W> implements AnnotationAttributeD
 		return name;
 	}
 
+	/**
+	 * The attribute's default value, as declared by the annotation type; {@code null} if none
+	 */
+	public AnnotationValue getDefaultValue() {
+		return defaultValue;
+	}
+
 	@Override
 	public AnnotationAttributeValue<W> wrapValue(
 			AnnotationInstance annotationInstance,
@@ -41,15 +59,39 @@ public abstract class AbstractValueDescriptor<W> implements AnnotationAttributeD
 		final AnnotationValue explicitValue = annotationInstance.value( attributeDescriptor.getAttributeName() );
 		if ( explicitValue == null ) {
 			// this attribute was not specified, use the default
-			final AnnotationValue implicitValue = annotationInstance.valueWithDefault(
-					buildingContext.getJandexIndex(),
-					attributeDescriptor.getAttributeName()
-			);
-			return createImplicitWrapper( implicitValue, target, buildingContext );
+			return resolveImplicitValue( target, buildingContext );
 		}
 		return createExplicitWrapper( explicitValue, target, buildingContext );
 	}
 
+	private AnnotationAttributeValue<W> resolveImplicitValue(
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		if ( !isImplicitValueShareable() ) {
+			return createImplicitWrapper( defaultValue, target, buildingContext );
+		}
+
+		AnnotationAttributeValue<W> shared = sharedImplicitValue;
+		if ( shared == null ) {
+			// benign race - concurrent misses decode equivalent values
+			shared = createImplicitWrapper( defaultValue, target, buildingContext );
+			sharedImplicitValue = shared;
+		}
+		return shared;
+	}
+
+	/**
+	 * Whether the decoded default value is independent of the building context, and so
+	 * can be shared by all usages across all contexts
+	 */
+	protected boolean isImplicitValueShareable() {
+		return true;
+	}
+
+	/**
+	 * Create the wrapper for the attribute's default value.  When {@linkplain #isImplicitValueShareable() shareable}
+	 * the wrapper is shared across usages, so it (and the value it wraps) must be immutable.
+	 */
 	protected abstract AnnotationAttributeValue<W> createImplicitWrapper(
 			AnnotationValue implicitValue,
 			AnnotationTarget target,
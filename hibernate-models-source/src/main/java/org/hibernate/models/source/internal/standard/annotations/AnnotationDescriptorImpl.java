@@ -9,12 +9,16 @@ package org.hibernate.models.source.internal.standard.annotations;
 import java.lang.annotation.Annotation;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.models.source.internal.AnnotationHelper;
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.internal.standard.AbstractAnnotationTarget;
 import org.hibernate.models.source.internal.standard.ClassDetailsBuilderImpl;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
+import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationTarget;
@@ -30,21 +34,38 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 		implements AnnotationDescriptor<A> {
 	private final Class<A> annotationType;
 	private final ClassInfo annotationClassInfo;
+	private final ClassInfo descriptorClassInfo;
 	private final boolean inherited;
 	private final EnumSet<Kind> allowableTargets;
 	private final AnnotationDescriptor<? extends Annotation> repeatableContainer;
+	private final SinglyIndexedClasses singlyIndexedClasses;
 	private final SourceModelBuildingContext buildingContext;
 
-	private List<AnnotationAttributeDescriptor> attributeDescriptors;
+	private volatile List<AnnotationAttributeDescriptor> attributeDescriptors;
+	private volatile Map<String, Integer> attributeOrdinals;
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> metaAnnotations;
 
 	public AnnotationDescriptorImpl(
 			Class<A> annotationType,
 			AnnotationDescriptor<?> repeatableContainer,
 			SourceModelBuildingContext buildingContext) {
+		this( annotationType, repeatableContainer, null, buildingContext );
+	}
+
+	/**
+	 * @param singlyIndexedClasses Cache for the class files of the annotation and its attribute types,
+	 * if those are not part of the index; may be {@code null}
+	 */
+	public AnnotationDescriptorImpl(
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer,
+			SinglyIndexedClasses singlyIndexedClasses,
+			SourceModelBuildingContext buildingContext) {
 		this(
 				resolveClassInfo( annotationType, buildingContext ),
 				annotationType,
 				repeatableContainer,
+				singlyIndexedClasses,
 				buildingContext
 		);
 	}
@@ -60,20 +81,42 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 			Class<A> annotationType,
 			AnnotationDescriptor<?> repeatableContainer,
 			SourceModelBuildingContext buildingContext) {
+		this( annotationClassInfo, annotationType, repeatableContainer, null, buildingContext );
+	}
+
+	public AnnotationDescriptorImpl(
+			ClassInfo annotationClassInfo,
+			Class<A> annotationType,
+			AnnotationDescriptor<?> repeatableContainer,
+			SinglyIndexedClasses singlyIndexedClasses,
+			SourceModelBuildingContext buildingContext) {
 		super( buildingContext );
 
 		this.annotationClassInfo = annotationClassInfo;
 		this.annotationType = annotationType;
 		this.repeatableContainer = repeatableContainer;
-		this.inherited = AnnotationHelper.isInherited( annotationType );
-		this.allowableTargets = AnnotationHelper.extractTargets( annotationType );
+		this.singlyIndexedClasses = singlyIndexedClasses;
 		this.buildingContext = buildingContext;
 
-		// Register ClassDetails for the annotation
-		buildingContext.getClassDetailsRegistry().resolveClassDetails(
-				annotationType.getName(),
-				ClassDetailsBuilderImpl::buildClassDetailsStatic
-		);
+		// read the descriptor metadata from bytecode.  if the annotation is not part
+		// of the index, index just its class file for that purpose
+		this.descriptorClassInfo = annotationClassInfo != null
+				? annotationClassInfo
+				: AnnotationHelper.resolveAnnotationClassInfo( annotationType, null, singlyIndexedClasses );
+		this.inherited = AnnotationHelper.isInherited( descriptorClassInfo );
+		this.allowableTargets = AnnotationHelper.extractTargets( descriptorClassInfo );
+
+		// Register ClassDetails for the annotation.  We already have the Class, so
+		// use reflection if the annotation is not part of the index
+		if ( annotationClassInfo != null ) {
+			buildingContext.getClassDetailsRegistry().resolveClassDetails(
+					annotationType.getName(),
+					ClassDetailsBuilderImpl::buildClassDetailsStatic
+			);
+		}
+		else {
+			JdkBuilders.resolveClassDetails( annotationType, buildingContext );
+		}
 	}
 
 	@Override
@@ -107,25 +150,70 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 	}
 
 	private List<AnnotationAttributeDescriptor> resolveAttributes() {
-		if ( attributeDescriptors == null ) {
-			attributeDescriptors = extractAttributeDescriptors( annotationType, buildingContext );
+		List<AnnotationAttributeDescriptor> resolved = attributeDescriptors;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = attributeDescriptors;
+				if ( resolved == null ) {
+					resolved = extractAttributeDescriptors(
+							descriptorClassInfo,
+							buildingContext.getJandexIndex(),
+							annotationType.getClassLoader(),
+							singlyIndexedClasses
+					);
+					attributeOrdinals = AnnotationHelper.indexAttributes( resolved );
+					attributeDescriptors = resolved;
+				}
+			}
 		}
-		return attributeDescriptors;
+		return resolved;
 	}
 
-
 	@Override
 	public AnnotationAttributeDescriptor getAttribute(String name) {
-		for ( AnnotationAttributeDescriptor attributeDescriptor : resolveAttributes() ) {
-			if ( attributeDescriptor.getAttributeName().equals( name ) ) {
-				return attributeDescriptor;
-			}
-		}
-		return null;
+		final int ordinal = getAttributeOrdinal( name );
+		return ordinal < 0 ? null : resolveAttributes().get( ordinal );
+	}
+
+	@Override
+	public int getAttributeOrdinal(String name) {
+		// resolving the attributes also builds the ordinal map
+		resolveAttributes();
+		final Integer ordinal = attributeOrdinals.get( name );
+		return ordinal == null ? -1 : ordinal;
 	}
 
 	@Override
 	public AnnotationDescriptor<?> getRepeatableContainer() {
 		return repeatableContainer;
 	}
+
+	@Override
+	public Map<Class<? extends Annotation>, AnnotationUsage<?>> getMetaAnnotations() {
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> resolved = metaAnnotations;
+		if ( resolved == null ) {
+			resolved = resolveMetaAnnotations();
+			metaAnnotations = resolved;
+		}
+		return resolved;
+	}
+
+	private Map<Class<? extends Annotation>, AnnotationUsage<?>> resolveMetaAnnotations() {
+		return AnnotationUsageBuilder.collectMetaAnnotations( this, this::getDeclaredUsages );
+	}
+
+	private Map<Class<? extends Annotation>, AnnotationUsage<?>> getDeclaredUsages(AnnotationDescriptor<?> descriptor) {
+		if ( descriptor instanceof AnnotationDescriptorImpl ) {
+			return ( (AnnotationDescriptorImpl<?>) descriptor ).getUsagesMap();
+		}
+
+		// other descriptors (explicit ones, lazy holders wrapping them, ...) do not expose the
+		// usages declared on the annotation type - read them from its bytecode
+		final ClassInfo classInfo = AnnotationHelper.resolveAnnotationClassInfo(
+				descriptor.getAnnotationType(),
+				buildingContext.getJandexIndex(),
+				singlyIndexedClasses
+		);
+		return AnnotationUsageBuilder.buildUsagesMap( classInfo, descriptor, buildingContext );
+	}
 }
@@ -8,14 +8,18 @@ package org.hibernate.models.source.internal.standard.annotations;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.hibernate.models.internal.CollectionHelper;
 import org.hibernate.models.source.internal.AnnotationValueWrapper;
@@ -41,6 +45,9 @@ public class AnnotationUsageBuilder {
 	public static final DotName TARGET = DotName.createSimple( Target.class );
 	public static final DotName RETENTION = DotName.createSimple( Retention.class );
 	public static final DotName DOCUMENTED = DotName.createSimple( Documented.class );
+	public static final DotName INHERITED = DotName.createSimple( Inherited.class );
+
+	public static final AnnotationAttributeValue<?>[] NO_VALUES = new AnnotationAttributeValue<?>[0];
 
 	/**
 	 * Create the AnnotationUsages map for a given target
@@ -52,7 +59,8 @@ public class AnnotationUsageBuilder {
 		if ( jandexAnnotationTarget == null ) {
 			return Collections.emptyMap();
 		}
-		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new HashMap<>();
+		// NOTE : linked, so that usages are visited in declaration order
+		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new LinkedHashMap<>();
 		processAnnotations(
 				jandexAnnotationTarget.declaredAnnotations(),
 				target,
@@ -74,25 +82,50 @@ public class AnnotationUsageBuilder {
 
 		for ( AnnotationInstance annotation : annotations ) {
 			if ( annotation.name().equals( DOCUMENTED )
+					|| annotation.name().equals( INHERITED )
 					|| annotation.name().equals( REPEATABLE )
 					|| annotation.name().equals( RETENTION )
 					|| annotation.name().equals( TARGET ) ) {
 				continue;
 			}
 
-			final Class<? extends Annotation> annotationType = buildingContext
-					.getClassLoadingAccess()
-					.classForName( annotation.name().toString() );
-
-			final AnnotationDescriptor<?> annotationDescriptor = annotationDescriptorRegistry.getDescriptor( annotationType );
+			// resolved by name - the annotation class is only loaded the first time it is seen
+			final AnnotationDescriptor<?> annotationDescriptor = annotationDescriptorRegistry.getDescriptor( annotation.name() );
 			final AnnotationUsage<?> usage = makeUsage(
 					annotation,
 					annotationDescriptor,
 					target,
 					buildingContext
 			);
-			consumer.accept( annotationType, usage );
+			consumer.accept( annotationDescriptor.getAnnotationType(), usage );
+		}
+	}
+
+	/**
+	 * Collect the {@linkplain AnnotationDescriptor#getMetaAnnotations() meta-annotations} implied by
+	 * the given annotation type, reading the usages declared on each annotation type through
+	 * {@code declaredUsagesAccess}
+	 */
+	public static Map<Class<? extends Annotation>, AnnotationUsage<?>> collectMetaAnnotations(
+			AnnotationDescriptor<?> descriptor,
+			Function<AnnotationDescriptor<?>, Map<Class<? extends Annotation>, AnnotationUsage<?>>> declaredUsagesAccess) {
+		// breadth-first, so that the closest usage of each meta-annotation wins; and in declaration
+		// order, so that the winner among equally close usages is always the same.  annotation types
+		// may (directly or indirectly) annotate themselves, so only visit each type once
+		final Map<Class<? extends Annotation>, AnnotationUsage<?>> closure = new LinkedHashMap<>();
+		final List<AnnotationDescriptor<?>> pending = new ArrayList<>();
+		pending.add( descriptor );
+		for ( int i = 0; i < pending.size(); i++ ) {
+			final Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap = declaredUsagesAccess.apply( pending.get( i ) );
+			for ( Map.Entry<Class<? extends Annotation>, AnnotationUsage<?>> entry : usagesMap.entrySet() ) {
+				if ( entry.getKey() == descriptor.getAnnotationType() || closure.containsKey( entry.getKey() ) ) {
+					continue;
+				}
+				closure.put( entry.getKey(), entry.getValue() );
+				pending.add( entry.getValue().getAnnotationDescriptor() );
+			}
 		}
+		return closure.isEmpty() ? Collections.emptyMap() : closure;
 	}
 
 	public static AnnotationUsage<?> makeUsage(
@@ -105,41 +138,29 @@ public class AnnotationUsageBuilder {
 
 	/**
 	 * Extracts values from an annotation creating AnnotationAttributeValue references.
+	 * The values are returned in the order of the {@linkplain AnnotationDescriptor#getAttributes() attributes}.
 	 */
-	public static <A extends Annotation> Map<String, AnnotationAttributeValue<?>> extractAttributeValues(
+	public static <A extends Annotation> AnnotationAttributeValue<?>[] extractAttributeValues(
 			AnnotationInstance annotationInstance,
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget target,
 			SourceModelBuildingContext buildingContext) {
-		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
-			return Collections.emptyMap();
-		}
-
-		if ( annotationDescriptor.getAttributes().size() == 1 ) {
-			final AnnotationAttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( 0 );
-			final AnnotationAttributeValue<?> attributeValue = makeAttributeValue(
-					annotationInstance,
-					annotationDescriptor,
-					attributeDescriptor,
-					target,
-					buildingContext
-			);
-			return Collections.singletonMap( attributeDescriptor.getAttributeName(), attributeValue );
+		final List<AnnotationAttributeDescriptor> attributes = annotationDescriptor.getAttributes();
+		if ( CollectionHelper.isEmpty( attributes ) ) {
+			return NO_VALUES;
 		}
 
-		final Map<String, AnnotationAttributeValue<?>> valueMap = new HashMap<>();
-		for ( int i = 0; i < annotationDescriptor.getAttributes().size(); i++ ) {
-			final AnnotationAttributeDescriptor attributeDescriptor = annotationDescriptor.getAttributes().get( i );
-			final AnnotationAttributeValue<?> attributeValue = makeAttributeValue(
+		final AnnotationAttributeValue<?>[] values = new AnnotationAttributeValue<?>[attributes.size()];
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			values[i] = makeAttributeValue(
 					annotationInstance,
 					annotationDescriptor,
-					attributeDescriptor,
+					attributes.get( i ),
 					target,
 					buildingContext
 			);
-			valueMap.put( attributeDescriptor.getAttributeName(), attributeValue );
 		}
-		return valueMap;
+		return values;
 	}
 
 	private static <A extends Annotation,V> AnnotationAttributeValue<V> makeAttributeValue(
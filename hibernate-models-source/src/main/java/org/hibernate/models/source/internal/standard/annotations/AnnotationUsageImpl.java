@@ -7,7 +7,6 @@
 package org.hibernate.models.source.internal.standard.annotations;
 
 import java.lang.annotation.Annotation;
-import java.util.Map;
 
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.AnnotationAttributeValue;
@@ -27,7 +26,8 @@ public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsag
 	private final AnnotationDescriptor<A> annotationDescriptor;
 	private final AnnotationTarget annotationTarget;
 
-	private final Map<String, AnnotationAttributeValue<?>> attributeValueMap;
+	// in the order of the descriptor's attributes
+	private final AnnotationAttributeValue<?>[] attributeValues;
 
 	public AnnotationUsageImpl(
 			AnnotationInstance annotationInstance,
@@ -40,7 +40,7 @@ public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsag
 		this.annotationTarget = annotationTarget;
 		this.annotationDescriptor = annotationDescriptor;
 
-		this.attributeValueMap = AnnotationUsageBuilder.extractAttributeValues(
+		this.attributeValues = AnnotationUsageBuilder.extractAttributeValues(
 				annotationInstance,
 				annotationDescriptor,
 				annotationTarget,
@@ -60,13 +60,21 @@ public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsag
 
 	@Override
 	public <V> AnnotationAttributeValue<V> getAttributeValue(String name) {
-		//noinspection unchecked
-		return (AnnotationAttributeValue<V>) attributeValueMap.get( name );
+		final int ordinal = annotationDescriptor.getAttributeOrdinal( name );
+		if ( ordinal < 0 ) {
+			return null;
+		}
+		return getAttributeValue( ordinal );
 	}
 
 	@Override
 	public <V> AnnotationAttributeValue<V> getAttributeValue(AnnotationAttributeDescriptor attributeDescriptor) {
+		return getAttributeValue( attributeDescriptor.getAttributeName() );
+	}
+
+	@Override
+	public <V> AnnotationAttributeValue<V> getAttributeValue(int ordinal) {
 		//noinspection unchecked
-		return (AnnotationAttributeValue<V>) attributeValueMap.get( attributeDescriptor.getAttributeName() );
+		return (AnnotationAttributeValue<V>) attributeValues[ordinal];
 	}
 }
\ No newline at end of file
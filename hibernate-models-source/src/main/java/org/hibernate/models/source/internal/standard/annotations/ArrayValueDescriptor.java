@@ -27,11 +27,16 @@ import org.jboss.jandex.AnnotationValue;
 public class ArrayValueDescriptor<C> extends AbstractValueDescriptor<List<C>> {
 	private final ValueExtractor<C> componentDescriptor;
 
-	public ArrayValueDescriptor(String name, ValueExtractor<C> componentDescriptor) {
-		super( name );
+	public ArrayValueDescriptor(String name, AnnotationValue defaultValue, ValueExtractor<C> componentDescriptor) {
+		super( name, defaultValue );
 		this.componentDescriptor = componentDescriptor;
 	}
 
+	@Override
+	protected boolean isImplicitValueShareable() {
+		return componentDescriptor.isContextFree();
+	}
+
 	@Override
 	protected AnnotationAttributeValue<List<C>> createImplicitWrapper(
 			AnnotationValue implicitValue,
@@ -49,7 +54,8 @@ public class ArrayValueDescriptor<C> extends AbstractValueDescriptor<List<C>> {
 					buildingContext
 			) );
 		}
-		return new AttributeValueImpl<>( this, wrappedValues, true );
+		// possibly shared by all usages relying on the default
+		return new AttributeValueImpl<>( this, Collections.unmodifiableList( wrappedValues ), true );
 	}
 
 	@Override
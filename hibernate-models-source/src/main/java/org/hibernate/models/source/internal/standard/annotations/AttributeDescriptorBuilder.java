@@ -6,13 +6,18 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.List;
 
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
-import org.hibernate.models.source.spi.AnnotationDescriptor;
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 import static org.hibernate.models.internal.CollectionHelper.arrayList;
 import static org.hibernate.models.source.internal.standard.annotations.BooleanValueExtractor.BOOLEAN_EXTRACTOR;
@@ -28,102 +33,150 @@ import static org.hibernate.models.source.internal.standard.annotations.ShortVal
 import static org.hibernate.models.source.internal.standard.annotations.StringValueExtractor.STRING_EXTRACTOR;
 
 /**
+ * Builds {@linkplain AnnotationAttributeDescriptor attribute descriptors} from the
+ * Jandex {@linkplain ClassInfo view} of an annotation type - its methods, their return
+ * types and default values.  The default values are kept by the descriptors as-is, so the
+ * descriptors hold no state of any building context.  Neither the annotation class nor the classes it references
+ * (enums, nested annotations) are loaded here; that is deferred until a value is
+ * actually extracted.
+ *
  * @author Steve Ebersole
  */
 public class AttributeDescriptorBuilder {
-	public static <A extends Annotation> List<AnnotationAttributeDescriptor> extractAttributeDescriptors(
-			Class<A> javaType,
-			SourceModelBuildingContext buildingContext) {
-		final Method[] attributes = javaType.getDeclaredMethods();
-		final List<AnnotationAttributeDescriptor> attributeDescriptors = arrayList( attributes.length );
-		for ( int i = 0; i < attributes.length; i++ ) {
-			final Method method = attributes[ i ];
-			attributeDescriptors.add( createAttributeDescriptor( method, buildingContext ) );
+	private static final DotName STRING = DotName.createSimple( String.class.getName() );
+	private static final DotName CLASS = DotName.createSimple( Class.class.getName() );
+
+	/**
+	 * Build the attribute descriptors for the given annotation type
+	 *
+	 * @param annotationClassInfo The Jandex view of the annotation type
+	 * @param jandexIndex Index used to look up referenced types, may be {@code null}
+	 * @param classLoader Used to locate the class files of referenced types not found in the index
+	 * @param singlyIndexedClasses Cache for those class files, may be {@code null}
+	 */
+	public static List<AnnotationAttributeDescriptor> extractAttributeDescriptors(
+			ClassInfo annotationClassInfo,
+			IndexView jandexIndex,
+			ClassLoader classLoader,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		final List<MethodInfo> methods = annotationClassInfo.methods();
+		final List<AnnotationAttributeDescriptor> attributeDescriptors = arrayList( methods.size() );
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodInfo method = methods.get( i );
+			if ( Modifier.isStatic( method.flags() ) || method.parametersCount() > 0 ) {
+				// not an attribute (e.g. a static initializer for constants)
+				continue;
+			}
+			attributeDescriptors.add( createAttributeDescriptor( method, jandexIndex, classLoader, singlyIndexedClasses ) );
 		}
 		return attributeDescriptors;
 	}
 
 	private static AnnotationAttributeDescriptor createAttributeDescriptor(
-			Method method,
-			SourceModelBuildingContext buildingContext) {
-		final Class<?> attributeType = method.getReturnType();
-
-		if ( attributeType.isArray() ) {
-			return buildArrayValuedAttributeDescriptor( method.getName(), attributeType, buildingContext );
+			MethodInfo method,
+			IndexView jandexIndex,
+			ClassLoader classLoader,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		final Type attributeType = method.returnType();
+		final AnnotationValue defaultValue = method.defaultValue();
+
+		if ( attributeType.kind() == Type.Kind.ARRAY ) {
+			final ValueExtractor<?> valueExtractor = resolveValueExtractor(
+					attributeType.asArrayType().constituent(),
+					defaultValue == null ? null : defaultValue.componentKind(),
+					jandexIndex,
+					classLoader,
+					singlyIndexedClasses
+			);
+			return new ArrayValueDescriptor<>( method.name(), defaultValue, valueExtractor );
 		}
 
-		return resolveValueExtractor( attributeType, buildingContext )
-				.createAttributeDescriptor( method.getName() );
+		return resolveValueExtractor(
+				attributeType,
+				defaultValue == null ? null : defaultValue.kind(),
+				jandexIndex,
+				classLoader,
+				singlyIndexedClasses
+		).createAttributeDescriptor( method.name(), defaultValue );
 	}
 
-	@SuppressWarnings("unchecked")
-	private static <T> ValueExtractor<T> resolveValueExtractor(
-			Class<T> attributeType,
-			SourceModelBuildingContext buildingContext) {
-		if ( attributeType.isEnum() ) {
-			//noinspection rawtypes
-			return new EnumValueExtractor<>( (Class) attributeType );
-		}
-
-		if ( attributeType == byte.class ) {
-			return (ValueExtractor<T>) BYTE_EXTRACTOR;
-		}
-
-		if ( attributeType == boolean.class ) {
-			return (ValueExtractor<T>) BOOLEAN_EXTRACTOR;
+	@SuppressWarnings("rawtypes")
+	private static ValueExtractor<?> resolveValueExtractor(
+			Type attributeType,
+			AnnotationValue.Kind defaultValueKind,
+			IndexView jandexIndex,
+			ClassLoader classLoader,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		if ( attributeType.kind() == Type.Kind.PRIMITIVE ) {
+			switch ( attributeType.asPrimitiveType().primitive() ) {
+				case BYTE:
+					return BYTE_EXTRACTOR;
+				case BOOLEAN:
+					return BOOLEAN_EXTRACTOR;
+				case SHORT:
+					return SHORT_EXTRACTOR;
+				case INT:
+					return INTEGER_EXTRACTOR;
+				case LONG:
+					return LONG_EXTRACTOR;
+				case FLOAT:
+					return FLOAT_EXTRACTOR;
+				case DOUBLE:
+					return DOUBLE_EXTRACTOR;
+				case CHAR:
+					return CHARACTER_EXTRACTOR;
+				default:
+					return PASSTHRU_EXTRACTOR;
+			}
 		}
 
-		if ( attributeType == short.class ) {
-			return (ValueExtractor<T>) SHORT_EXTRACTOR;
+		if ( attributeType.kind() != Type.Kind.CLASS && attributeType.kind() != Type.Kind.PARAMETERIZED_TYPE ) {
+			return PASSTHRU_EXTRACTOR;
 		}
 
-		if ( attributeType == int.class ) {
-			return (ValueExtractor<T>) INTEGER_EXTRACTOR;
+		final DotName typeName = attributeType.name();
+		if ( STRING.equals( typeName ) ) {
+			return STRING_EXTRACTOR;
 		}
 
-		if ( attributeType == long.class ) {
-			return (ValueExtractor<T>) LONG_EXTRACTOR;
+		if ( CLASS.equals( typeName ) ) {
+			return CLASS_EXTRACTOR;
 		}
 
-		if ( attributeType == float.class ) {
-			return (ValueExtractor<T>) FLOAT_EXTRACTOR;
+		// the only other legal attribute types are enums and annotations.  use the
+		// default value, if one, to tell which; otherwise look at the type itself
+		if ( defaultValueKind == AnnotationValue.Kind.ENUM ) {
+			return new EnumValueExtractor( typeName.toString(), classLoader );
 		}
 
-		if ( attributeType == double.class ) {
-			return (ValueExtractor<T>) DOUBLE_EXTRACTOR;
+		if ( defaultValueKind == AnnotationValue.Kind.NESTED ) {
+			return new NestedValueExtractor<>( typeName.toString(), classLoader );
 		}
 
-		if ( attributeType == char.class ) {
-			return (ValueExtractor<T>) CHARACTER_EXTRACTOR;
+		final ClassInfo typeClassInfo = locateClassInfo( typeName, jandexIndex, classLoader, singlyIndexedClasses );
+		if ( typeClassInfo.isEnum() ) {
+			return new EnumValueExtractor( typeName.toString(), classLoader );
 		}
 
-		if ( attributeType == String.class ) {
-			return (ValueExtractor<T>) STRING_EXTRACTOR;
+		if ( typeClassInfo.isAnnotation() ) {
+			return new NestedValueExtractor<>( typeName.toString(), classLoader );
 		}
 
-		if ( attributeType == Class.class ) {
-			return (ValueExtractor<T>) CLASS_EXTRACTOR;
-		}
+		return PASSTHRU_EXTRACTOR;
+	}
 
-		if ( Annotation.class.isAssignableFrom( attributeType ) ) {
-			final AnnotationDescriptor<?> descriptor = buildingContext
-					.getAnnotationDescriptorRegistry()
-					.getDescriptor( (Class<? extends Annotation>) attributeType );
-			return (ValueExtractor<T>) new NestedValueExtractor<>( descriptor );
+	private static ClassInfo locateClassInfo(
+			DotName typeName,
+			IndexView jandexIndex,
+			ClassLoader classLoader,
+			SinglyIndexedClasses singlyIndexedClasses) {
+		if ( jandexIndex != null ) {
+			final ClassInfo indexed = jandexIndex.getClassByName( typeName );
+			if ( indexed != null ) {
+				return indexed;
+			}
 		}
 
-		return (ValueExtractor<T>) PASSTHRU_EXTRACTOR;
+		return SinglyIndexedClasses.indexClass( typeName, classLoader, singlyIndexedClasses );
 	}
-
-	private static AnnotationAttributeDescriptor buildArrayValuedAttributeDescriptor(
-			String name,
-			Class<?> attributeType,
-			SourceModelBuildingContext buildingContext) {
-		final ValueExtractor<?> valueExtractor = resolveValueExtractor(
-				attributeType.getComponentType(),
-				buildingContext
-		);
-		return new ArrayValueDescriptor<>( name, valueExtractor );
-	}
-
 }
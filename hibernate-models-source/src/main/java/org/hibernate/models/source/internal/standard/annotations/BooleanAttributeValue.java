@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.standard.annotations;
+
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+
+/**
+ * {@linkplain AnnotationAttributeValue Attribute value} specialized for {@code boolean}
+ * attributes.  The value is held as a primitive and only boxed if asked for
+ * through {@link #getValue()}.
+ *
+ * @author Steve Ebersole
+ */
+public class BooleanAttributeValue implements AnnotationAttributeValue<Boolean> {
+	private final AnnotationAttributeDescriptor descriptor;
+	private final boolean value;
+	private final boolean implicit;
+
+	public BooleanAttributeValue(AnnotationAttributeDescriptor descriptor, boolean value, boolean implicit) {
+		this.descriptor = descriptor;
+		this.value = value;
+		this.implicit = implicit;
+	}
+
+	@Override
+	public AnnotationAttributeDescriptor getAttributeDescriptor() {
+		return descriptor;
+	}
+
+	@Override
+	public Boolean getValue() {
+		return value;
+	}
+
+	@Override
+	public <X> X getValue(Class<X> type) {
+		//noinspection unchecked
+		return (X) getValue();
+	}
+
+	@Override
+	public boolean getBoolean() {
+		return value;
+	}
+
+	@Override
+	public boolean isImplicit() {
+		return implicit;
+	}
+}
@@ -6,26 +6,39 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
-import static org.hibernate.models.source.internal.standard.annotations.BooleanValueExtractor.BOOLEAN_EXTRACTOR;
-
 /**
  * Descriptor for Boolean-valued annotation attributes
  *
+ * @implNote Values are wrapped as {@link BooleanAttributeValue} to avoid boxing
+ *
  * @see AnnotationValue.Kind#BOOLEAN
  *
  * @author Steve Ebersole
  */
-public class BooleanValueDescriptor extends AbstractCommonValueDescriptor<Boolean> {
-	public BooleanValueDescriptor(String name) {
-		super( name );
+public class BooleanValueDescriptor extends AbstractValueDescriptor<Boolean> {
+	public BooleanValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
+	}
+
+	@Override
+	protected AnnotationAttributeValue<Boolean> createImplicitWrapper(
+			AnnotationValue implicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new BooleanAttributeValue( this, implicitValue.asBoolean(), true );
 	}
 
 	@Override
-	protected ValueExtractor<Boolean> getValueExtractor(SourceModelBuildingContext buildingContext) {
-		return BOOLEAN_EXTRACTOR;
+	protected AnnotationAttributeValue<Boolean> createExplicitWrapper(
+			AnnotationValue explicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new BooleanAttributeValue( this, explicitValue.asBoolean(), false );
 	}
 }
@@ -28,8 +28,7 @@ public class BooleanValueExtractor implements ValueExtractor<Boolean> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new BooleanValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new BooleanValueDescriptor( name, defaultValue );
 	}
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.ByteValueExtractor.BYTE_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.ByteValu
  * @author Steve Ebersole
  */
 public class ByteValueDescriptor extends AbstractCommonValueDescriptor<Byte> {
-	public ByteValueDescriptor(String name) {
-		super( name );
+	public ByteValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<Byte> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<Byte> getValueExtractor() {
 		return BYTE_EXTRACTOR;
 	}
 }
@@ -28,7 +28,7 @@ public class ByteValueExtractor implements ValueExtractor<Byte> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(String name) {
-		return new ByteValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new ByteValueDescriptor( name, defaultValue );
 	}
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.CharacterValueExtractor.CHARACTER_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.Characte
  * @author Steve Ebersole
  */
 public class CharacterValueDescriptor extends AbstractCommonValueDescriptor<Character> {
-	public CharacterValueDescriptor(String name) {
-		super( name );
+	public CharacterValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<Character> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<Character> getValueExtractor() {
 		return CHARACTER_EXTRACTOR;
 	}
 }
@@ -28,8 +28,7 @@ public class CharacterValueExtractor implements ValueExtractor<Character> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new CharacterValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new CharacterValueDescriptor( name, defaultValue );
 	}
 }
@@ -7,7 +7,6 @@
 package org.hibernate.models.source.internal.standard.annotations;
 
 import org.hibernate.models.source.spi.ClassDetails;
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
@@ -21,12 +20,12 @@ import static org.hibernate.models.source.internal.standard.annotations.ClassVal
  * @author Steve Ebersole
  */
 public class ClassValueDescriptor extends AbstractCommonValueDescriptor<ClassDetails> {
-	public ClassValueDescriptor(String name) {
-		super( name );
+	public ClassValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<ClassDetails> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<ClassDetails> getValueExtractor() {
 		return CLASS_EXTRACTOR;
 	}
 }
@@ -38,8 +38,13 @@ public class ClassValueExtractor implements ValueExtractor<ClassDetails> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new ClassValueDescriptor( name );
+	public boolean isContextFree() {
+		// ClassDetails belong to the context
+		return false;
+	}
+
+	@Override
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new ClassValueDescriptor( name, defaultValue );
 	}
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.DoubleValueExtractor.DOUBLE_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.DoubleVa
  * @author Steve Ebersole
  */
 public class DoubleValueDescriptor extends AbstractCommonValueDescriptor<Double> {
-	public DoubleValueDescriptor(String name) {
-		super( name );
+	public DoubleValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<Double> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<Double> getValueExtractor() {
 		return DOUBLE_EXTRACTOR;
 	}
 }
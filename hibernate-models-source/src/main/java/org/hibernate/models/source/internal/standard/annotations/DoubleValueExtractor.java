@@ -33,8 +33,7 @@ public class DoubleValueExtractor implements ValueExtractor<Double> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new DoubleValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new DoubleValueDescriptor( name, defaultValue );
 	}
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 /**
@@ -20,13 +18,13 @@ import org.jboss.jandex.AnnotationValue;
 public class EnumValueDescriptor<E extends Enum<E>> extends AbstractCommonValueDescriptor<E> {
 	private final EnumValueExtractor<E> extractor;
 
-	public EnumValueDescriptor(String name, Class<E> enumClass) {
-		super( name );
-		this.extractor = new EnumValueExtractor<>( enumClass );
+	public EnumValueDescriptor(String name, AnnotationValue defaultValue, EnumValueExtractor<E> extractor) {
+		super( name, defaultValue );
+		this.extractor = extractor;
 	}
 
 	@Override
-	protected ValueExtractor<E> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<E> getValueExtractor() {
 		return extractor;
 	}
 }
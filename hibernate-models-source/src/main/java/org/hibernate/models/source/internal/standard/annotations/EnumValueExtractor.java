@@ -6,21 +6,46 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.models.source.internal.AnnotationHelper;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
 /**
+ * @implNote Constants are decoded through a name-to-constant table built once, the first
+ * time a value is extracted, and shared by all usages of the attribute.  The enum class is
+ * resolved through the class-loader of the declaring annotation type, so neither depends on
+ * the building context.
+ *
  * @author Steve Ebersole
  */
 public class EnumValueExtractor<E extends Enum<E>> implements ValueExtractor<E> {
-	private final Class<E> enumClass;
+	private final String enumClassName;
+	private final ClassLoader classLoader;
+	private volatile Class<E> enumClass;
+	private volatile Map<String, E> constantsByName;
 
 	public EnumValueExtractor(Class<E> enumClass) {
+		this.enumClassName = enumClass.getName();
+		this.classLoader = enumClass.getClassLoader();
 		this.enumClass = enumClass;
 	}
 
+	/**
+	 * Form used when building descriptors from the annotation's bytecode.  The
+	 * enum class is not loaded until a value is actually extracted.
+	 *
+	 * @param classLoader The class-loader of the declaring annotation type
+	 */
+	public EnumValueExtractor(String enumClassName, ClassLoader classLoader) {
+		this.enumClassName = enumClassName;
+		this.classLoader = classLoader;
+	}
+
 	@Override
 	public E extractValue(
 			AnnotationValue jandexValue,
@@ -34,12 +59,39 @@ public class EnumValueExtractor<E extends Enum<E>> implements ValueExtractor<E>
 	@Override
 	public E requireValue(AnnotationValue jandexValue, SourceModelBuildingContext buildingContext) {
 		final String enumName = jandexValue.asEnum();
-		return Enum.valueOf( enumClass, enumName );
+		final E constant = resolveConstants().get( enumName );
+		if ( constant == null ) {
+			// let the JDK report the problem
+			return Enum.valueOf( resolveEnumClass(), enumName );
+		}
+		return constant;
+	}
+
+	private Map<String, E> resolveConstants() {
+		Map<String, E> constants = constantsByName;
+		if ( constants == null ) {
+			final E[] enumConstants = resolveEnumClass().getEnumConstants();
+			constants = new HashMap<>( (int) ( enumConstants.length / .75f ) + 1 );
+			for ( int i = 0; i < enumConstants.length; i++ ) {
+				constants.put( enumConstants[i].name(), enumConstants[i] );
+			}
+			constantsByName = constants;
+		}
+		return constants;
+	}
+
+	private Class<E> resolveEnumClass() {
+		Class<E> resolved = enumClass;
+		if ( resolved == null ) {
+			// benign race - concurrent misses load the same class
+			resolved = AnnotationHelper.loadClass( enumClassName, classLoader );
+			enumClass = resolved;
+		}
+		return resolved;
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new EnumValueDescriptor<>( name, enumClass );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new EnumValueDescriptor<>( name, defaultValue, this );
 	}
 }
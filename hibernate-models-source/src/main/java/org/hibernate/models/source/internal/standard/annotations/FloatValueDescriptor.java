@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.FloatValueExtractor.FLOAT_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.FloatVal
  * @author Steve Ebersole
  */
 public class FloatValueDescriptor extends AbstractCommonValueDescriptor<Float> {
-	public FloatValueDescriptor(String name) {
-		super( name );
+	public FloatValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<Float> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<Float> getValueExtractor() {
 		return FLOAT_EXTRACTOR;
 	}
 }
@@ -33,8 +33,7 @@ public class FloatValueExtractor implements ValueExtractor<Float> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new FloatValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new FloatValueDescriptor( name, defaultValue );
 	}
 }
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.internal.standard.annotations;
+
+import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+
+/**
+ * {@linkplain AnnotationAttributeValue Attribute value} specialized for {@code int}
+ * attributes.  The value is held as a primitive and only boxed if asked for
+ * through {@link #getValue()}.
+ *
+ * @author Steve Ebersole
+ */
+public class IntegerAttributeValue implements AnnotationAttributeValue<Integer> {
+	private final AnnotationAttributeDescriptor descriptor;
+	private final int value;
+	private final boolean implicit;
+
+	public IntegerAttributeValue(AnnotationAttributeDescriptor descriptor, int value, boolean implicit) {
+		this.descriptor = descriptor;
+		this.value = value;
+		this.implicit = implicit;
+	}
+
+	@Override
+	public AnnotationAttributeDescriptor getAttributeDescriptor() {
+		return descriptor;
+	}
+
+	@Override
+	public Integer getValue() {
+		return value;
+	}
+
+	@Override
+	public <X> X getValue(Class<X> type) {
+		//noinspection unchecked
+		return (X) getValue();
+	}
+
+	@Override
+	public int getInt() {
+		return value;
+	}
+
+	@Override
+	public long getLong() {
+		return value;
+	}
+
+	@Override
+	public boolean isImplicit() {
+		return implicit;
+	}
+}
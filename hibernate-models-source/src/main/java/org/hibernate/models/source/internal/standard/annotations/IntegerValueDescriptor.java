@@ -6,26 +6,39 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
-import static org.hibernate.models.source.internal.standard.annotations.IntegerValueExtractor.INTEGER_EXTRACTOR;
-
 /**
  * Descriptor for Integer-valued annotation attributes
  *
+ * @implNote Values are wrapped as {@link IntegerAttributeValue} to avoid boxing
+ *
  * @see AnnotationValue.Kind#INTEGER
  *
  * @author Steve Ebersole
  */
-public class IntegerValueDescriptor extends AbstractCommonValueDescriptor<Integer> {
-	public IntegerValueDescriptor(String name) {
-		super( name );
+public class IntegerValueDescriptor extends AbstractValueDescriptor<Integer> {
+	public IntegerValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
+	}
+
+	@Override
+	protected AnnotationAttributeValue<Integer> createImplicitWrapper(
+			AnnotationValue implicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new IntegerAttributeValue( this, implicitValue.asInt(), true );
 	}
 
 	@Override
-	protected ValueExtractor<Integer> getValueExtractor(SourceModelBuildingContext buildingContext) {
-		return INTEGER_EXTRACTOR;
+	protected AnnotationAttributeValue<Integer> createExplicitWrapper(
+			AnnotationValue explicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new IntegerAttributeValue( this, explicitValue.asInt(), false );
 	}
 }
@@ -33,8 +33,7 @@ public class IntegerValueExtractor implements ValueExtractor<Integer> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new IntegerValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new IntegerValueDescriptor( name, defaultValue );
 	}
 }
@@ -6,26 +6,39 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
+import org.hibernate.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.models.source.spi.AnnotationTarget;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
-import static org.hibernate.models.source.internal.standard.annotations.LongValueExtractor.LONG_EXTRACTOR;
-
 /**
  * Descriptor for Long-valued annotation attributes
  *
+ * @implNote Values are wrapped as {@link LongAttributeValue} to avoid boxing
+ *
  * @see AnnotationValue.Kind#LONG
  *
  * @author Steve Ebersole
  */
-public class LongValueDescriptor extends AbstractCommonValueDescriptor<Long> {
-	public LongValueDescriptor(String name) {
-		super( name );
+public class LongValueDescriptor extends AbstractValueDescriptor<Long> {
+	public LongValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
+	}
+
+	@Override
+	protected AnnotationAttributeValue<Long> createImplicitWrapper(
+			AnnotationValue implicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new LongAttributeValue( this, implicitValue.asLong(), true );
 	}
 
 	@Override
-	protected ValueExtractor<Long> getValueExtractor(SourceModelBuildingContext buildingContext) {
-		return LONG_EXTRACTOR;
+	protected AnnotationAttributeValue<Long> createExplicitWrapper(
+			AnnotationValue explicitValue,
+			AnnotationTarget target,
+			SourceModelBuildingContext buildingContext) {
+		return new LongAttributeValue( this, explicitValue.asLong(), false );
 	}
 }
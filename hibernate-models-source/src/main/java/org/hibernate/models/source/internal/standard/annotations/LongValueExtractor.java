@@ -33,8 +33,7 @@ public class LongValueExtractor implements ValueExtractor<Long> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new LongValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new LongValueDescriptor( name, defaultValue );
 	}
 }
@@ -8,9 +8,7 @@ package org.hibernate.models.source.internal.standard.annotations;
 
 import java.lang.annotation.Annotation;
 
-import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationUsage;
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
 import org.jboss.jandex.AnnotationValue;
 
@@ -23,25 +21,15 @@ import org.jboss.jandex.AnnotationValue;
  */
 public class NestedValueDescriptor<A extends Annotation>
 		extends AbstractCommonValueDescriptor<AnnotationUsage<A>> {
-	private final Class<A> annotationType;
-	private NestedValueExtractor<A> extractor;
+	private final NestedValueExtractor<A> extractor;
 
-	public NestedValueDescriptor(String name, AnnotationDescriptor<A> descriptor) {
-		super( name );
-		this.annotationType = descriptor.getAnnotationType();
-		this.extractor = new NestedValueExtractor<>( descriptor );
-	}
-
-	public NestedValueDescriptor(String name, Class<A> annotationType) {
-		super( name );
-		this.annotationType = annotationType;
+	public NestedValueDescriptor(String name, AnnotationValue defaultValue, NestedValueExtractor<A> extractor) {
+		super( name, defaultValue );
+		this.extractor = extractor;
 	}
 
 	@Override
-	protected ValueExtractor<AnnotationUsage<A>> getValueExtractor(SourceModelBuildingContext buildingContext) {
-		if ( extractor == null ) {
-			extractor = new NestedValueExtractor<>( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( annotationType ) );
-		}
+	protected ValueExtractor<AnnotationUsage<A>> getValueExtractor() {
 		return extractor;
 	}
 }
@@ -8,8 +8,8 @@ package org.hibernate.models.source.internal.standard.annotations;
 
 import java.lang.annotation.Annotation;
 
+import org.hibernate.models.source.internal.AnnotationHelper;
 import org.hibernate.models.source.spi.AnnotationAttributeDescriptor;
-import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
@@ -17,14 +17,26 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
 /**
+ * @implNote The nested annotation's descriptor belongs to the building context, so it is
+ * looked up from the context's registry for each value; only the annotation type, which
+ * is resolved through the class-loader of the declaring annotation, is kept.
+ *
  * @author Steve Ebersole
  */
 public class NestedValueExtractor<A extends Annotation> implements ValueExtractor<AnnotationUsage<A>> {
-	private final AnnotationDescriptor<A> descriptor;
+	private final String annotationClassName;
+	private final ClassLoader classLoader;
+	private volatile Class<A> annotationType;
 
-	public NestedValueExtractor(AnnotationDescriptor<A> descriptor) {
-		assert descriptor != null : "AnnotationDescriptor was null";
-		this.descriptor = descriptor;
+	/**
+	 * Form used when building descriptors from the annotation's bytecode.  The
+	 * nested annotation type is not loaded until a value is actually extracted.
+	 *
+	 * @param classLoader The class-loader of the declaring annotation type
+	 */
+	public NestedValueExtractor(String annotationClassName, ClassLoader classLoader) {
+		this.annotationClassName = annotationClassName;
+		this.classLoader = classLoader;
 	}
 
 	@Override
@@ -44,15 +56,30 @@ public class NestedValueExtractor<A extends Annotation> implements ValueExtracto
 		final AnnotationInstance nested = jandexValue.asNested();
 		return new AnnotationUsageImpl<>(
 				nested,
-				descriptor,
+				buildingContext.getAnnotationDescriptorRegistry().getDescriptor( resolveAnnotationType() ),
 				null,
 				buildingContext
 		);
 	}
 
+	private Class<A> resolveAnnotationType() {
+		Class<A> resolved = annotationType;
+		if ( resolved == null ) {
+			// benign race - concurrent misses load the same class
+			resolved = AnnotationHelper.loadClass( annotationClassName, classLoader );
+			annotationType = resolved;
+		}
+		return resolved;
+	}
+
+	@Override
+	public boolean isContextFree() {
+		// nested usages belong to the context
+		return false;
+	}
+
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new NestedValueDescriptor<>( name, descriptor );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new NestedValueDescriptor<>( name, defaultValue, this );
 	}
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.PassthruValueExtractor.PASSTHRU_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.Passthru
  * @author Steve Ebersole
  */
 public class PassthruValueDescriptor<V> extends AbstractCommonValueDescriptor<V> {
-	public PassthruValueDescriptor(String name) {
-		super( name );
+	public PassthruValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<V> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<V> getValueExtractor() {
 		//noinspection unchecked
 		return (ValueExtractor<V>) PASSTHRU_EXTRACTOR;
 	}
@@ -33,8 +33,7 @@ public class PassthruValueExtractor implements ValueExtractor<Object> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new PassthruValueDescriptor<>( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new PassthruValueDescriptor<>( name, defaultValue );
 	}
 }
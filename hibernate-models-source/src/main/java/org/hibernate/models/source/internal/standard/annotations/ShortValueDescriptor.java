@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.ShortValueExtractor.SHORT_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.ShortVal
  * @author Steve Ebersole
  */
 public class ShortValueDescriptor extends AbstractCommonValueDescriptor<Short> {
-	public ShortValueDescriptor(String name) {
-		super( name );
+	public ShortValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<Short> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<Short> getValueExtractor() {
 		return SHORT_EXTRACTOR;
 	}
 }
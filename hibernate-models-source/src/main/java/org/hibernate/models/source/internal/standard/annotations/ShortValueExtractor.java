@@ -33,8 +33,7 @@ public class ShortValueExtractor implements ValueExtractor<Short> {
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new ShortValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new ShortValueDescriptor( name, defaultValue );
 	}
 }
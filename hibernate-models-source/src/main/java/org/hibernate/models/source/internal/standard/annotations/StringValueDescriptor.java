@@ -6,8 +6,6 @@
  */
 package org.hibernate.models.source.internal.standard.annotations;
 
-import org.hibernate.models.source.spi.SourceModelBuildingContext;
-
 import org.jboss.jandex.AnnotationValue;
 
 import static org.hibernate.models.source.internal.standard.annotations.StringValueExtractor.STRING_EXTRACTOR;
@@ -20,12 +18,12 @@ import static org.hibernate.models.source.internal.standard.annotations.StringVa
  * @author Steve Ebersole
  */
 public class StringValueDescriptor extends AbstractCommonValueDescriptor<String> {
-	public StringValueDescriptor(String name) {
-		super( name );
+	public StringValueDescriptor(String name, AnnotationValue defaultValue) {
+		super( name, defaultValue );
 	}
 
 	@Override
-	protected ValueExtractor<String> getValueExtractor(SourceModelBuildingContext buildingContext) {
+	protected ValueExtractor<String> getValueExtractor() {
 		return STRING_EXTRACTOR;
 	}
 }
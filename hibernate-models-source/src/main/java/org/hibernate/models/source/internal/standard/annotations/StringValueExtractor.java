@@ -29,12 +29,11 @@ public class StringValueExtractor implements ValueExtractor<String> {
 
 	@Override
 	public String requireValue(AnnotationValue jandexValue, SourceModelBuildingContext buildingContext) {
-		return jandexValue.asString();
+		return buildingContext.internString( jandexValue.asString() );
 	}
 
 	@Override
-	public AnnotationAttributeDescriptor createAttributeDescriptor(
-			String name) {
-		return new StringValueDescriptor( name );
+	public AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue) {
+		return new StringValueDescriptor( name, defaultValue );
 	}
 }
@@ -18,5 +18,20 @@ public interface ValueExtractor<N> {
 	N extractValue(AnnotationValue jandexValue, SourceModelBuildingContext buildingContext);
 	N requireValue(AnnotationValue jandexValue, SourceModelBuildingContext buildingContext);
 
-	AnnotationAttributeDescriptor createAttributeDescriptor(String name);
+	/**
+	 * Whether extracted values are independent of the building context - i.e. do not reference
+	 * {@linkplain org.hibernate.models.source.spi.ClassDetails class details}, usages or other
+	 * context state - and so can be safely shared between contexts.
+	 */
+	default boolean isContextFree() {
+		return true;
+	}
+
+	/**
+	 * Create the descriptor for an attribute whose values are extracted by this extractor
+	 *
+	 * @param name The attribute name
+	 * @param defaultValue The attribute's default value, as declared by the annotation type; {@code null} if none
+	 */
+	AnnotationAttributeDescriptor createAttributeDescriptor(String name, AnnotationValue defaultValue);
 }
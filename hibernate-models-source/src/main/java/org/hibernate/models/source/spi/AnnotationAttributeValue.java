@@ -34,6 +34,30 @@ public interface AnnotationAttributeValue<W> {
 		return getValue( Boolean.class );
 	}
 
+	/**
+	 * The value as a primitive {@code boolean}.  Implementations specialized for
+	 * boolean attributes return the value without boxing.
+	 */
+	default boolean getBoolean() {
+		return getValue( Boolean.class );
+	}
+
+	/**
+	 * The value as a primitive {@code int}.  Implementations specialized for
+	 * int attributes return the value without boxing.
+	 */
+	default int getInt() {
+		return getValue( Number.class ).intValue();
+	}
+
+	/**
+	 * The value as a primitive {@code long}.  Implementations specialized for
+	 * long attributes return the value without boxing.
+	 */
+	default long getLong() {
+		return getValue( Number.class ).longValue();
+	}
+
 	default ClassDetails asClass() {
 		return getValue( ClassDetails.class );
 	}
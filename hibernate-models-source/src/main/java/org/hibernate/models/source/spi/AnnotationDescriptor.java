@@ -8,8 +8,10 @@ package org.hibernate.models.source.spi;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.models.source.internal.standard.annotations.AnnotationDescriptorImpl;
 
@@ -49,6 +51,25 @@ public interface AnnotationDescriptor<A extends Annotation> extends AnnotationTa
 	 */
 	AnnotationAttributeDescriptor getAttribute(String name);
 
+	/**
+	 * The position of the named attribute within {@linkplain #getAttributes() the attributes},
+	 * or {@code -1} if there is no such attribute.  Usages store their values in the same order,
+	 * so the ordinal can be resolved once and then used for {@linkplain AnnotationUsage#getAttributeValue(int)
+	 * positional access}.
+	 * <p/>
+	 * The default implementation scans the attributes; implementations should back this
+	 * with a precomputed name to ordinal map.
+	 */
+	default int getAttributeOrdinal(String name) {
+		final List<AnnotationAttributeDescriptor> attributes = getAttributes();
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			if ( attributes.get( i ).getAttributeName().equals( name ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	default boolean isRepeatable() {
 		return getRepeatableContainer() != null;
 	}
@@ -58,4 +79,16 @@ public interface AnnotationDescriptor<A extends Annotation> extends AnnotationTa
 	 * for the {@linkplain Repeatable#value() container} annotation.
 	 */
 	AnnotationDescriptor<?> getRepeatableContainer();
+
+	/**
+	 * The meta-annotations implied by the described annotation, keyed by annotation type - those
+	 * declared on the annotation type itself plus, transitively, those declared on each of those
+	 * annotation types.  Where the same meta-annotation is reachable more than once, the usage
+	 * closest to the described annotation is the one reported.
+	 *
+	 * @see AnnotationTarget#getEffectiveAnnotation
+	 */
+	default Map<Class<? extends Annotation>, AnnotationUsage<?>> getMetaAnnotations() {
+		return Collections.emptyMap();
+	}
 }
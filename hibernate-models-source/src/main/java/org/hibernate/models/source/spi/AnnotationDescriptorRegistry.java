@@ -8,6 +8,8 @@ package org.hibernate.models.source.spi;
 
 import java.lang.annotation.Annotation;
 
+import org.jboss.jandex.DotName;
+
 /**
  * Registry of {@linkplain AnnotationDescriptor descriptors} for all known annotations
  *
@@ -18,6 +20,13 @@ public interface AnnotationDescriptorRegistry {
 	 * Get the descriptor for the given annotation {@code type}
 	 */
 	<A extends Annotation> AnnotationDescriptor<A> getDescriptor(Class<A> javaType);
+
+	/**
+	 * Get the descriptor for the annotation type with the given Jandex name.  The
+	 * annotation class is loaded just once per name.
+	 */
+	AnnotationDescriptor<?> getDescriptor(DotName annotationName);
+
 	/**
 	 * Get the descriptor for the given annotation {@code type}
 	 */
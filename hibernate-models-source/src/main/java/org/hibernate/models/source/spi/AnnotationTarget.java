@@ -10,10 +10,13 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Target;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.hibernate.models.internal.IndexedBiConsumer;
+import org.hibernate.models.internal.IndexedConsumer;
 import org.hibernate.models.source.AnnotationAccessException;
 
 /**
@@ -51,6 +54,18 @@ public interface AnnotationTarget {
 	 */
 	<A extends Annotation> AnnotationUsage<A> getAnnotation(Class<A> type);
 
+	/**
+	 * Get the use of the given annotation on this target, either directly or as a
+	 * {@linkplain AnnotationDescriptor#getMetaAnnotations() meta-annotation} implied by one
+	 * of the annotations on this target - e.g. through a composed "stereotype" annotation.
+	 * The direct usage, if one, is preferred.
+	 *
+	 * @return The usage or {@code null}
+	 */
+	default <A extends Annotation> AnnotationUsage<A> getEffectiveAnnotation(AnnotationDescriptor<A> type) {
+		return getAnnotation( type );
+	}
+
 	/**
 	 * For {@linkplain Repeatable repeatable} annotation types, this method will return a list
 	 * of all the annotations on the target, even those on the {@linkplain Repeatable#value() "containing annotation"} -<ul>
@@ -90,6 +105,51 @@ public interface AnnotationTarget {
 	 */
 	<X extends Annotation> void forEachAnnotation(Class<X> type, Consumer<AnnotationUsage<X>> consumer);
 
+	/**
+	 * Form of {@link #forEachAnnotation(AnnotationDescriptor, Consumer)} which also passes the
+	 * position of each usage.
+	 */
+	default <X extends Annotation> void forEachAnnotation(
+			AnnotationDescriptor<X> type,
+			IndexedConsumer<AnnotationUsage<X>> consumer) {
+		forEachAnnotation( type, consumer, (position, usage, indexedConsumer) -> indexedConsumer.accept( position, usage ) );
+	}
+
+	/**
+	 * Form of {@link #forEachAnnotation(AnnotationDescriptor, Consumer)} which also passes the
+	 * position of each usage along with the given {@code context}.
+	 *
+	 * @apiNote State needed by the {@code consumer} can be passed as {@code context} rather than
+	 * captured, allowing a single (non-capturing) consumer to be reused across targets.  Where
+	 * possible, implementations visit the usages in place without collecting them first.
+	 */
+	default <X extends Annotation, C> void forEachAnnotation(
+			AnnotationDescriptor<X> type,
+			C context,
+			IndexedBiConsumer<AnnotationUsage<X>, C> consumer) {
+		final List<AnnotationUsage<X>> usages = getRepeatedAnnotations( type );
+		for ( int i = 0; i < usages.size(); i++ ) {
+			consumer.accept( i, usages.get( i ), context );
+		}
+	}
+
+	/**
+	 * All annotation usages declared directly on this target, whatever their type.  Repeatable
+	 * annotations declared through their container are reported as the usage of the container.
+	 */
+	Collection<AnnotationUsage<?>> getAllAnnotationUsages();
+
+	/**
+	 * Call the {@code consumer} for each {@linkplain #getAllAnnotationUsages() annotation usage}
+	 * declared directly on this target, whatever its type.
+	 *
+	 * @apiNote Useful for classifying a target by the annotations present on it in a single
+	 * pass, rather than by asking for each annotation type of interest in turn.
+	 */
+	default void forEachDeclaredAnnotation(Consumer<AnnotationUsage<?>> consumer) {
+		getAllAnnotationUsages().forEach( consumer );
+	}
+
 	/**
 	 * Get a usage of the given annotation {@code type} whose {@code attributeToMatch} attribute value
 	 * matches the given {@code matchName}.
@@ -44,6 +44,15 @@ public interface AnnotationUsage<A extends Annotation> {
 	 */
 	<V> AnnotationAttributeValue<V> getAttributeValue(AnnotationAttributeDescriptor attributeDescriptor);
 
+	/**
+	 * Positional form of {@link #getAttributeValue(String)}
+	 *
+	 * @see AnnotationDescriptor#getAttributeOrdinal
+	 */
+	default <V> AnnotationAttributeValue<V> getAttributeValue(int ordinal) {
+		return getAttributeValue( getAnnotationDescriptor().getAttributes().get( ordinal ) );
+	}
+
 	default <X> X extractAttributeValue(String name) {
 		return AnnotationUsageHelper.extractValue( this, name );
 	}
@@ -7,6 +7,7 @@
 package org.hibernate.models.source.spi;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.models.internal.IndexedConsumer;
 import org.hibernate.models.source.internal.ClassDetailsHelper;
@@ -51,6 +52,18 @@ public interface ClassDetails extends AnnotationTarget {
 	 */
 	ClassDetails getSuperType();
 
+	/**
+	 * The {@linkplain #getName() name} of the {@linkplain #getSuperType() super type},
+	 * or {@code null} if there is none.
+	 *
+	 * @apiNote Implementations which resolve the super type lazily should return the
+	 * name without forcing that resolution.
+	 */
+	default String getSuperTypeName() {
+		final ClassDetails superType = getSuperType();
+		return superType == null ? null : superType.getName();
+	}
+
 	/**
 	 * Details for the interfaces this class implements.
 	 */
@@ -80,6 +93,19 @@ public interface ClassDetails extends AnnotationTarget {
 	 */
 	void forEachField(IndexedConsumer<FieldDetails> consumer);
 
+	/**
+	 * Visit each field accepted by the given {@code filter}.  The filter is applied
+	 * before the details of the field are built.
+	 */
+	void forEachField(MemberFilter filter, Consumer<FieldDetails> consumer);
+
+	/**
+	 * Visit each field which {@linkplain MemberDetails#isPersistable() could be persistent}
+	 */
+	default void forEachPersistableField(Consumer<FieldDetails> consumer) {
+		forEachField( MemberFilter.PERSISTABLE, consumer );
+	}
+
 	/**
 	 * Get the methods for this class
 	 */
@@ -90,6 +116,19 @@ public interface ClassDetails extends AnnotationTarget {
 	 */
 	void forEachMethod(IndexedConsumer<MethodDetails> consumer);
 
+	/**
+	 * Visit each method accepted by the given {@code filter}.  The filter is applied
+	 * before the details of the method are built.
+	 */
+	void forEachMethod(MemberFilter filter, Consumer<MethodDetails> consumer);
+
+	/**
+	 * Visit each method which {@linkplain MemberDetails#isPersistable() could be persistent}
+	 */
+	default void forEachPersistableMethod(Consumer<MethodDetails> consumer) {
+		forEachMethod( MemberFilter.PERSISTABLE, consumer );
+	}
+
 	/**
 	 * Know what you are doing before calling this method
 	 */
@@ -11,6 +11,8 @@ import java.util.List;
 import org.hibernate.models.source.ModelsException;
 import org.hibernate.models.source.UnknownClassException;
 
+import org.jboss.jandex.DotName;
+
 /**
  * Registry of all {@link ClassDetails} references
  *
@@ -30,6 +32,19 @@ public interface ClassDetailsRegistry {
 	 */
 	ClassDetails getClassDetails(String name);
 
+	/**
+	 * Form of {@link #findClassDetails(String)} accepting the Jandex {@link DotName},
+	 * which avoids building the String form of the name for the lookup.
+	 */
+	ClassDetails findClassDetails(DotName name);
+
+	/**
+	 * Form of {@link #getClassDetails(String)} accepting the Jandex {@link DotName}
+	 *
+	 * @throws UnknownClassException If no registration is found with the given {@code name}
+	 */
+	ClassDetails getClassDetails(DotName name);
+
 	/**
 	 * Visit each registered class details
 	 */
@@ -46,6 +61,12 @@ public interface ClassDetailsRegistry {
 	 */
 	void forEachDirectSubType(String superTypeName, ClassDetailsConsumer consumer);
 
+	/**
+	 * Index over the type hierarchies of the registered classes.  The index is built once,
+	 * on first access; classes registered afterwards are handled without the benefit of it.
+	 */
+	TypeHierarchyIndex getTypeHierarchyIndex();
+
 	/**
 	 * Adds a managed-class descriptor using its {@linkplain ClassDetails#getName() name}
 	 * as the registration key.
@@ -75,6 +96,19 @@ public interface ClassDetailsRegistry {
 	 */
 	ClassDetails resolveClassDetails(String name, ClassDetailsCreator creator);
 
+	/**
+	 * Form of {@link #resolveClassDetails(String)} accepting the Jandex {@link DotName}.
+	 * The String form of the name is only built when a registration needs to be created.
+	 */
+	ClassDetails resolveClassDetails(DotName name);
+
+	/**
+	 * Form of {@link #resolveClassDetails(String, ClassDetailsBuilder)} accepting the
+	 * Jandex {@link DotName}.  The String form of the name is only built when a
+	 * registration needs to be created.
+	 */
+	ClassDetails resolveClassDetails(DotName name, ClassDetailsBuilder creator);
+
 	/**
 	 * Resolve (find or create) the named PackageDetails.  If there is currently no
 	 * such registration, one is created using the specified {@code creator}.
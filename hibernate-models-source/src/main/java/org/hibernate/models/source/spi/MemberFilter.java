@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+/**
+ * Filter applied to the members of a class before their {@linkplain MemberDetails details}
+ * are built, so that details are only built for the members of interest.
+ *
+ * @see ClassDetails#forEachField(MemberFilter, java.util.function.Consumer)
+ * @see ClassDetails#forEachMethod(MemberFilter, java.util.function.Consumer)
+ *
+ * @author Steve Ebersole
+ */
+@FunctionalInterface
+public interface MemberFilter {
+	/**
+	 * Accepts members which {@linkplain MemberDetails#isPersistable() could be persistent}
+	 */
+	MemberFilter PERSISTABLE = RawMember::isPersistable;
+
+	/**
+	 * Whether the member is accepted
+	 */
+	boolean matches(RawMember member);
+
+	/**
+	 * Filter accepting members accepted by either this filter or the {@code other}
+	 */
+	default MemberFilter or(MemberFilter other) {
+		return (member) -> matches( member ) || other.matches( member );
+	}
+
+	/**
+	 * Filter accepting members declaring a usage of the given annotation {@code type}
+	 */
+	static MemberFilter annotatedWith(AnnotationDescriptor<?> type) {
+		return (member) -> member.hasAnnotation( type );
+	}
+
+	/**
+	 * View of the raw information about a member, available without building its details.
+	 *
+	 * @apiNote Implementations may reuse a single instance for all members visited; it
+	 * should not be retained
+	 */
+	interface RawMember {
+		/**
+		 * The name of the field or method
+		 */
+		String getName();
+
+		/**
+		 * Whether the member is a field, as opposed to a method
+		 */
+		boolean isField();
+
+		/**
+		 * The member's modifier flags, as defined by {@link java.lang.reflect.Modifier}
+		 * and the class-file format
+		 */
+		int getModifierFlags();
+
+		/**
+		 * @see MemberDetails#isPersistable()
+		 */
+		boolean isPersistable();
+
+		/**
+		 * Whether the member declares a usage of the given annotation {@code type}
+		 */
+		boolean hasAnnotation(AnnotationDescriptor<?> type);
+	}
+}
@@ -41,6 +41,20 @@ public interface SourceModelBuildingContext extends NamedAnnotationScope {
 	 */
 	IndexView getJandexIndex();
 
+	/**
+	 * Get the canonical instance of the given {@code value} for this build.
+	 * Used for names (class names, annotation String values, etc.) which are
+	 * heavily duplicated across the model so that they share a single instance.
+	 */
+	String internString(String value);
+
+	/**
+	 * Release resources held only for the duration of the build, such as the pool
+	 * backing {@link #internString}.  The context remains usable afterwards, but
+	 * values are no longer pooled.
+	 */
+	void release();
+
 	@Override
 	default SourceModelBuildingContext getSourceModelBuildingContext() {
 		return this;
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source.spi;
+
+import java.util.List;
+
+/**
+ * Index over the type hierarchies of the {@linkplain ClassDetailsRegistry registered} classes,
+ * answering sub-type questions without walking the hierarchy.
+ * <p/>
+ * The index is a snapshot of the registry at the time it was built.  Types registered
+ * later are still handled, just without the benefit of the index.
+ *
+ * @see ClassDetailsRegistry#getTypeHierarchyIndex()
+ *
+ * @author Steve Ebersole
+ */
+public interface TypeHierarchyIndex {
+	/**
+	 * Whether the given {@code type} is part of this index
+	 */
+	boolean isIndexed(ClassDetails type);
+
+	/**
+	 * Whether {@code type} is the same as, extends or implements {@code checkType}
+	 */
+	boolean isImplementor(ClassDetails type, ClassDetails checkType);
+
+	/**
+	 * The classes which directly extend the given {@code type}, including those registered
+	 * after the index was built
+	 */
+	List<ClassDetails> getDirectSubTypes(ClassDetails type);
+
+	/**
+	 * The top-most class in the super-type chain of {@code type} ({@code type} included)
+	 * which is annotated with {@code marker}, or {@code null} if none are.
+	 * <p/>
+	 * E.g., given {@code @Entity}, the root entity of the hierarchy.
+	 */
+	ClassDetails findRootType(ClassDetails type, AnnotationDescriptor<?> marker);
+
+	/**
+	 * Visit each indexed class, super-types before their sub-types
+	 */
+	void forEachType(ClassDetailsRegistry.ClassDetailsConsumer consumer);
+}
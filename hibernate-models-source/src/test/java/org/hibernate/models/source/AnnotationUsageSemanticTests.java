@@ -6,17 +6,28 @@
  */
 package org.hibernate.models.source;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.models.source.internal.AnnotationDescriptorRegistryImpl;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
 import org.hibernate.models.source.internal.standard.ClassDetailsBuilderImpl;
 import org.hibernate.models.source.internal.standard.ClassDetailsImpl;
+import org.hibernate.models.source.internal.standard.annotations.AnnotationDescriptorImpl;
 import org.hibernate.models.source.spi.AnnotationDescriptor;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
+import org.hibernate.models.source.spi.TypeHierarchyIndex;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.models.source.TestHelper.createBuildingContext;
 
 /**
@@ -82,6 +93,13 @@ public class AnnotationUsageSemanticTests {
 		assertThat( somethingClass.getAnnotation( customMetaAnnotation ) ).isNull();
 		assertThat( somethingExtraClass.getAnnotation( customMetaAnnotation ) ).isNull();
 
+		// meta-annotations are only reported as implied by the annotations present
+		assertThat( customAnnotation.getMetaAnnotations() ).containsOnlyKeys( CustomMetaAnnotation.class );
+		final AnnotationUsage<CustomMetaAnnotation> implied = whateverClass.getEffectiveAnnotation( customMetaAnnotation );
+		assertThat( implied ).isNotNull();
+		assertThat( implied.getAttributeValue( "someValue" ).asString() ).isEqualTo( "abc" );
+		assertThat( whateverClass.getEffectiveAnnotation( customAnnotation ) ).isSameAs( whateverClass.getAnnotation( customAnnotation ) );
+
 		// inherited
 		assertThat( whateverClass.getAnnotation( customAnnotation ) ).isNotNull();
 		assertThat( whateverClass.getAnnotation( customsAnnotation ) ).isNull();
@@ -129,6 +147,89 @@ public class AnnotationUsageSemanticTests {
 		// Finds the one from `Whatever` as well as from `SomethingExtra`
 		assertThat( somethingExtraClass.getRepeatedAnnotations( customAnnotation ) ).hasSize( 2 );
 		assertThat( somethingExtraClass.getRepeatedAnnotations( customsAnnotation ) ).hasSize( 1 );
+
+		// the effective inherited usages are memoized, and shared with the super-type when nothing is added locally
+		assertThat( somethingExtraClass.getRepeatedAnnotations( customAnnotation ) )
+				.isSameAs( somethingExtraClass.getRepeatedAnnotations( customAnnotation ) );
+		assertThat( somethingClass.getRepeatedAnnotations( customAnnotation ) )
+				.isSameAs( whateverClass.getRepeatedAnnotations( customAnnotation ) );
+		assertThat( somethingClass.getAnnotation( customAnnotation ) )
+				.isSameAs( whateverClass.getAnnotation( customAnnotation ) );
+
+		// and, being shared, cannot be modified
+		assertThatThrownBy( () -> whateverClass.getRepeatedAnnotations( customAnnotation ).clear() )
+				.isInstanceOf( UnsupportedOperationException.class );
+		assertThatThrownBy( () -> somethingExtraClass.getRepeatedAnnotations( customAnnotation ).clear() )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	void typeHierarchyIndexAssertions() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext(
+				Whatever.class,
+				Something.class,
+				SomethingExtra.class,
+				CustomAnnotation.class,
+				CustomAnnotations.class
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+		final AnnotationDescriptor<CustomAnnotation> customAnnotation = buildingContext.getAnnotationDescriptorRegistry().getDescriptor( CustomAnnotation.class );
+
+		final ClassDetails whateverClass = classDetailsRegistry.resolveClassDetails( Whatever.class.getName() );
+		final ClassDetails somethingClass = classDetailsRegistry.resolveClassDetails( Something.class.getName() );
+		final ClassDetails somethingExtraClass = classDetailsRegistry.resolveClassDetails( SomethingExtra.class.getName() );
+
+		final TypeHierarchyIndex typeHierarchyIndex = classDetailsRegistry.getTypeHierarchyIndex();
+		assertThat( typeHierarchyIndex.isIndexed( somethingClass ) ).isTrue();
+		assertThat( typeHierarchyIndex.isImplementor( somethingClass, whateverClass ) ).isTrue();
+		assertThat( typeHierarchyIndex.isImplementor( whateverClass, somethingClass ) ).isFalse();
+		assertThat( typeHierarchyIndex.isImplementor( somethingExtraClass, somethingClass ) ).isFalse();
+		assertThat( somethingExtraClass.isImplementor( Whatever.class ) ).isTrue();
+		assertThat( somethingExtraClass.isImplementor( Something.class ) ).isFalse();
+
+		assertThat( typeHierarchyIndex.getDirectSubTypes( whateverClass ) ).containsExactlyInAnyOrder( somethingClass, somethingExtraClass );
+		assertThat( typeHierarchyIndex.getDirectSubTypes( somethingClass ) ).isEmpty();
+
+		assertThat( typeHierarchyIndex.findRootType( somethingExtraClass, customAnnotation ) ).isSameAs( whateverClass );
+		assertThat( typeHierarchyIndex.findRootType( whateverClass, customAnnotation ) ).isSameAs( whateverClass );
+
+		// the index is built once; classes registered later are still handled, without rebuilding it
+		final ClassDetails laterClass = JdkBuilders.resolveClassDetails( Later.class, buildingContext );
+		assertThat( classDetailsRegistry.getTypeHierarchyIndex() ).isSameAs( typeHierarchyIndex );
+		assertThat( typeHierarchyIndex.isIndexed( laterClass ) ).isFalse();
+		assertThat( typeHierarchyIndex.isImplementor( laterClass, whateverClass ) ).isTrue();
+		assertThat( typeHierarchyIndex.isImplementor( laterClass, somethingExtraClass ) ).isFalse();
+		assertThat( typeHierarchyIndex.getDirectSubTypes( somethingClass ) ).containsExactly( laterClass );
+		assertThat( typeHierarchyIndex.findRootType( laterClass, customAnnotation ) ).isSameAs( whateverClass );
+	}
+
+	@Test
+	void testMetaAnnotationsThroughOtherDescriptors() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext(
+				CustomMetaAnnotation.class,
+				CustomAnnotation.class,
+				CustomAnnotations.class,
+				ImpliesCustom.class
+		);
+		final AnnotationDescriptorRegistryImpl descriptorRegistry = (AnnotationDescriptorRegistryImpl) buildingContext.getAnnotationDescriptorRegistry();
+
+		// a descriptor which is not backed by the annotation's own usages
+		descriptorRegistry.register( org.hibernate.models.source.internal.explicit.AnnotationDescriptorImpl.buildDescriptor(
+				CustomAnnotation.class,
+				descriptorRegistry.getDescriptor( CustomAnnotations.class )
+		) );
+
+		// the closure still reaches through it, and reports the meta-annotations closest first
+		final AnnotationDescriptor<ImpliesCustom> impliesCustom = new AnnotationDescriptorImpl<>( ImpliesCustom.class, null, buildingContext );
+		assertThat( impliesCustom.getMetaAnnotations().keySet() ).containsExactly( CustomAnnotation.class, CustomMetaAnnotation.class );
+		final AnnotationUsage<?> implied = impliesCustom.getMetaAnnotations().get( CustomMetaAnnotation.class );
+		assertThat( implied.getAttributeValue( "someValue" ).asString() ).isEqualTo( "abc" );
+	}
+
+	@Target( ElementType.TYPE )
+	@Retention( RetentionPolicy.RUNTIME )
+	@CustomAnnotation
+	public @interface ImpliesCustom {
 	}
 
 	@CustomAnnotation
@@ -136,6 +237,8 @@ public class AnnotationUsageSemanticTests {
 
 	public static class Something extends Whatever {}
 
+	public static class Later extends Something {}
+
 	@CustomAnnotations( @CustomAnnotation )
 	public static class SomethingExtra extends Whatever {}
 
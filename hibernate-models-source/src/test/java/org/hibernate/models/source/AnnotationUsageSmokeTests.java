@@ -21,7 +21,9 @@ import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.models.source.TestHelper.createBuildingContext;
@@ -72,6 +74,111 @@ public class AnnotationUsageSmokeTests {
 		assertThat( nameColumnUsage.getAttributeValue( "updatable" ).asBoolean() ).isTrue();
 	}
 
+	@Test
+	void testAttributeOrdinals() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( SimpleEntity.class );
+		final AnnotationDescriptor<Column> columnDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Column.class );
+
+		// ordinals follow the attribute order
+		for ( int i = 0; i < columnDescriptor.getAttributes().size(); i++ ) {
+			final String attributeName = columnDescriptor.getAttributes().get( i ).getAttributeName();
+			assertThat( columnDescriptor.getAttributeOrdinal( attributeName ) ).isEqualTo( i );
+			assertThat( columnDescriptor.getAttribute( attributeName ) ).isSameAs( columnDescriptor.getAttributes().get( i ) );
+		}
+		assertThat( columnDescriptor.getAttributeOrdinal( "unknown" ) ).isEqualTo( -1 );
+
+		final ClassInfo classInfo = buildingContext.getJandexIndex().getClassByName( SimpleEntity.class );
+		final AnnotationUsage<?> nameColumnUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "name" ).annotation( DotName.createSimple( Column.class ) ),
+				columnDescriptor,
+				null,
+				buildingContext
+		);
+		final int nameOrdinal = columnDescriptor.getAttributeOrdinal( "name" );
+		assertThat( nameColumnUsage.getAttributeValue( nameOrdinal ) ).isSameAs( nameColumnUsage.getAttributeValue( "name" ) );
+	}
+
+	@Test
+	void testSharedImplicitValues() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( SimpleEntity.class );
+
+		final ClassInfo classInfo = buildingContext.getJandexIndex().getClassByName( SimpleEntity.class );
+		final DotName columnName = DotName.createSimple( Column.class );
+		final AnnotationDescriptor<Column> columnDescriptor = buildingContext
+				.getAnnotationDescriptorRegistry()
+				.getDescriptor( Column.class );
+
+		final AnnotationUsage<?> idColumnUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "id" ).annotation( columnName ),
+				columnDescriptor,
+				null,
+				buildingContext
+		);
+		final AnnotationUsage<?> nameColumnUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "name" ).annotation( columnName ),
+				columnDescriptor,
+				null,
+				buildingContext
+		);
+
+		// defaults are decoded once and shared
+		assertThat( idColumnUsage.getAttributeValue( "table" ).isImplicit() ).isTrue();
+		assertThat( idColumnUsage.getAttributeValue( "table" ) ).isSameAs( nameColumnUsage.getAttributeValue( "table" ) );
+		assertThat( idColumnUsage.getAttributeValue( "length" ).asInteger() ).isEqualTo( 255 );
+
+		// explicit values are not
+		assertThat( idColumnUsage.getAttributeValue( "name" ).asString() ).isEqualTo( "id" );
+		assertThat( nameColumnUsage.getAttributeValue( "name" ).asString() ).isEqualTo( "description" );
+
+		// defaults do not depend on the context which first decoded them
+		final SourceModelBuildingContext otherBuildingContext = createBuildingContext( SimpleEntity.class );
+		final AnnotationUsage<?> otherIdColumnUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "id" ).annotation( columnName ),
+				otherBuildingContext.getAnnotationDescriptorRegistry().getDescriptor( Column.class ),
+				null,
+				otherBuildingContext
+		);
+		assertThat( otherIdColumnUsage.getAttributeValue( "table" ).asString() ).isEqualTo( "" );
+		assertThat( otherIdColumnUsage.getAttributeValue( "length" ).asInteger() ).isEqualTo( 255 );
+
+		final AnnotationUsage<?> basicUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "name" ).annotation( DotName.createSimple( Basic.class ) ),
+				buildingContext.getAnnotationDescriptorRegistry().getDescriptor( Basic.class ),
+				null,
+				buildingContext
+		);
+		final AnnotationUsage<?> otherBasicUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "name" ).annotation( DotName.createSimple( Basic.class ) ),
+				otherBuildingContext.getAnnotationDescriptorRegistry().getDescriptor( Basic.class ),
+				null,
+				otherBuildingContext
+		);
+		assertThat( basicUsage.getAttributeValue( "fetch" ).getValue() ).isEqualTo( FetchType.EAGER );
+		assertThat( basicUsage.getAttributeValue( "fetch" ).isImplicit() ).isTrue();
+		assertThat( otherBasicUsage.getAttributeValue( "fetch" ).getValue() ).isEqualTo( FetchType.EAGER );
+	}
+
+	@Test
+	void testPrimitiveValues() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( SimpleEntity.class );
+
+		final ClassInfo classInfo = buildingContext.getJandexIndex().getClassByName( SimpleEntity.class );
+		final AnnotationUsage<?> nameColumnUsage = AnnotationUsageBuilder.makeUsage(
+				classInfo.field( "name" ).annotation( DotName.createSimple( Column.class ) ),
+				buildingContext.getAnnotationDescriptorRegistry().getDescriptor( Column.class ),
+				null,
+				buildingContext
+		);
+
+		assertThat( nameColumnUsage.getAttributeValue( "nullable" ).getBoolean() ).isFalse();
+		assertThat( nameColumnUsage.getAttributeValue( "unique" ).getBoolean() ).isTrue();
+		assertThat( nameColumnUsage.getAttributeValue( "length" ).getInt() ).isEqualTo( 255 );
+		assertThat( nameColumnUsage.getAttributeValue( "length" ).getLong() ).isEqualTo( 255L );
+		assertThat( nameColumnUsage.getAttributeValue( "precision" ).asInteger() ).isEqualTo( 0 );
+	}
+
 	@Test
 	void testMetaAnnotation() {
 		final SourceModelBuildingContext buildingContext = createBuildingContext(
@@ -6,22 +6,31 @@
  */
 package org.hibernate.models.source;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.annotations.JavaTypeRegistration;
 import org.hibernate.internal.util.MutableInteger;
+import org.hibernate.models.source.internal.AnnotationHelper;
+import org.hibernate.models.source.internal.NamedAnnotationIndex;
+import org.hibernate.models.source.internal.SinglyIndexedClasses;
 import org.hibernate.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.models.source.spi.AnnotationUsage;
 import org.hibernate.models.source.spi.ClassDetails;
 import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MemberFilter;
 import org.hibernate.models.source.spi.MethodDetails;
 import org.hibernate.models.source.spi.SourceModelBuildingContext;
 
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+
 import org.junit.jupiter.api.Test;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
 import jakarta.persistence.NamedQuery;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,9 +69,50 @@ public class JandexSmokeTests {
 		verifyNameMapping( findNamedField( classDetails.getFields(), "name" ) );
 		verifyIdMapping( findNamedField( classDetails.getFields(), "id" ) );
 
+		// filtered visits only see the matching members, and share their details with the full lists
+		final List<String> persistableMethodNames = new ArrayList<>();
+		classDetails.forEachPersistableMethod( (methodDetails) -> persistableMethodNames.add( methodDetails.getName() ) );
+		assertThat( persistableMethodNames ).containsExactlyInAnyOrder( "getId", "getName" );
+
+		final List<FieldDetails> idFields = new ArrayList<>();
+		classDetails.forEachField(
+				MemberFilter.annotatedWith( buildingContext.getAnnotationDescriptorRegistry().getDescriptor( Id.class ) ),
+				idFields::add
+		);
+		assertThat( idFields ).containsExactly( findNamedField( classDetails.getFields(), "id" ) );
+
 		final AnnotationDescriptorRegistry descriptorRegistry = buildingContext.getAnnotationDescriptorRegistry();
 		final AnnotationUsage<CustomAnnotation> customAnnotation = classDetails.getAnnotation( descriptorRegistry.getDescriptor( CustomAnnotation.class ) );
 		assertThat( customAnnotation ).isNotNull();
+
+		// visiting the declared usages sees the same usages
+		assertThat( classDetails.getAllAnnotationUsages() ).contains( customAnnotation );
+		final List<AnnotationUsage<?>> declaredUsages = new ArrayList<>();
+		classDetails.forEachDeclaredAnnotation( declaredUsages::add );
+		assertThat( declaredUsages ).containsExactlyElementsOf( classDetails.getAllAnnotationUsages() );
+
+		// descriptors are also available by Jandex name, and are the same instances
+		assertThat( descriptorRegistry.getDescriptor( DotName.createSimple( CustomAnnotation.class.getName() ) ) )
+				.isSameAs( descriptorRegistry.getDescriptor( CustomAnnotation.class ) );
+	}
+
+	@Test
+	void testInternedNames() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( SimpleEntity.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( SimpleEntity.class.getName() );
+
+		// equal names share a single instance for the duration of the build
+		final String className = new String( SimpleEntity.class.getName() );
+		assertThat( buildingContext.internString( className ) ).isSameAs( classDetails.getClassName() );
+		assertThat( buildingContext.internString( new String( "name" ) ) )
+				.isSameAs( buildingContext.internString( new String( "name" ) ) );
+
+		// and are no longer pooled once released
+		buildingContext.release();
+		assertThat( buildingContext.internString( className ) ).isSameAs( className );
+		assertThat( classDetails.getClassName() ).isEqualTo( SimpleEntity.class.getName() );
 	}
 
 	@Test
@@ -70,6 +120,18 @@ public class JandexSmokeTests {
 		assertThat( extractTargets( Column.class ) ).containsOnly( FIELD, METHOD );
 		assertThat( extractTargets( Entity.class ) ).containsOnly( CLASS );
 		assertThat( extractTargets( JavaTypeRegistration.class ) ).contains( PACKAGE );
+
+		// annotations outside any index have their class file read just once per cache
+		final SinglyIndexedClasses singlyIndexedClasses = new SinglyIndexedClasses();
+		final ClassInfo columnClassInfo = AnnotationHelper.resolveAnnotationClassInfo( Column.class, null, singlyIndexedClasses );
+		assertThat( AnnotationHelper.resolveAnnotationClassInfo( Column.class, null, singlyIndexedClasses ) ).isSameAs( columnClassInfo );
+		assertThat( AnnotationHelper.resolveAnnotationClassInfo( Column.class, null, new SinglyIndexedClasses() ) ).isNotSameAs( columnClassInfo );
+		singlyIndexedClasses.clear();
+		assertThat( AnnotationHelper.resolveAnnotationClassInfo( Column.class, null, singlyIndexedClasses ) ).isNotSameAs( columnClassInfo );
+
+		// and the Jandex name of an annotation type is only created once
+		assertThat( AnnotationHelper.toDotName( Column.class ) ).isEqualTo( DotName.createSimple( Column.class.getName() ) );
+		assertThat( AnnotationHelper.toDotName( Column.class ) ).isSameAs( AnnotationHelper.toDotName( Column.class ) );
 	}
 
 	@Test
@@ -96,11 +158,71 @@ public class JandexSmokeTests {
 		final AnnotationUsage<NamedQuery> xyzReverse = classDetails.getNamedAnnotation( NamedQuery.class, "select you", "query" );
 		assertThat( xyzReverse.getAttributeValue( "name" ).asString() ).isEqualTo( "xyz" );
 
+		// repeated lookups are served from the name index
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "abc" ) ).isSameAs( abc );
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "select you", "query" ) ).isSameAs( xyz );
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "unknown" ) ).isNull();
+
 		final MutableInteger expectedIndexRef = new MutableInteger();
 		classDetails.forEachAnnotation( NamedQuery.class, (usage) -> {
 			expectedIndexRef.getAndIncrement();
 		} );
 		assertThat( expectedIndexRef.get() ).isEqualTo( 2 );
+
+		// the indexed form visits the same usages, in the same order
+		final MutableInteger positionRef = new MutableInteger();
+		classDetails.forEachAnnotation(
+				buildingContext.getAnnotationDescriptorRegistry().getDescriptor( NamedQuery.class ),
+				usages,
+				(position, usage, expected) -> {
+					assertThat( position ).isEqualTo( positionRef.getAndIncrement() );
+					assertThat( usage ).isSameAs( expected.get( position ) );
+				}
+		);
+		assertThat( positionRef.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testNamedAnnotationLookups() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( ManyQueries.class );
+		final ClassDetails classDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( ManyQueries.class.getName() );
+
+		// more candidates than are scanned, so these are resolved through the name index
+		final List<AnnotationUsage<NamedQuery>> usages = classDetails.getRepeatedAnnotations( NamedQuery.class );
+		assertThat( usages ).hasSizeGreaterThan( NamedAnnotationIndex.SCAN_THRESHOLD );
+		for ( int i = 0; i < usages.size(); i++ ) {
+			final AnnotationUsage<NamedQuery> usage = usages.get( i );
+			final String name = usage.getAttributeValue( "name" ).asString();
+			assertThat( classDetails.getNamedAnnotation( NamedQuery.class, name ) ).isSameAs( usage );
+		}
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "select q3", "query" ) )
+				.isSameAs( usages.get( 2 ) );
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "unknown" ) ).isNull();
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, null ) ).isNull();
+
+		// a single direct usage is scanned
+		final SourceModelBuildingContext singleContext = createBuildingContext( SingleQuery.class );
+		final ClassDetails singleDetails = singleContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( SingleQuery.class.getName() );
+		final AnnotationUsage<NamedQuery> single = singleDetails.getAnnotation( NamedQuery.class );
+		assertThat( singleDetails.getNamedAnnotation( NamedQuery.class, "single" ) ).isSameAs( single );
+		assertThat( singleDetails.getNamedAnnotation( NamedQuery.class, "unknown" ) ).isNull();
+	}
+
+	@NamedQuery( name = "q1", query = "select q1" )
+	@NamedQuery( name = "q2", query = "select q2" )
+	@NamedQuery( name = "q3", query = "select q3" )
+	@NamedQuery( name = "q4", query = "select q4" )
+	@NamedQuery( name = "q5", query = "select q5" )
+	@NamedQuery( name = "q6", query = "select q6" )
+	public static class ManyQueries {
+	}
+
+	@NamedQuery( name = "single", query = "select single" )
+	public static class SingleQuery {
 	}
 
 	private FieldDetails findNamedField(List<FieldDetails> fields, String name) {
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.jdk.JdkBuilders;
+import org.hibernate.models.source.internal.jdk.JdkClassDetails;
+import org.hibernate.models.source.internal.standard.ClassDetailsImpl;
+import org.hibernate.models.source.spi.AnnotationUsage;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.source.spi.MethodDetails;
+import org.hibernate.models.source.spi.SourceModelBuildingContext;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Indexer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+import static org.hibernate.models.source.TestHelper.createBuildingContext;
+
+/**
+ * @author Steve Ebersole
+ */
+public class JdkClassDetailsTests {
+	@Test
+	void testReflectiveClassDetails() {
+		// nothing is indexed
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				SIMPLE_CLASS_LOADING,
+				new Indexer().complete()
+		);
+
+		final ClassDetails classDetails = JdkBuilders.resolveClassDetails( SimpleEntity.class, buildingContext );
+		assertThat( classDetails ).isInstanceOf( JdkClassDetails.class );
+		assertThat( classDetails.getClassName() ).isEqualTo( SimpleEntity.class.getName() );
+		assertThat( classDetails.toJavaClass() ).isSameAs( SimpleEntity.class );
+		assertThat( classDetails.getSuperType().getClassName() ).isEqualTo( Object.class.getName() );
+
+		final AnnotationUsage<Entity> entityUsage = classDetails.getAnnotation( Entity.class );
+		assertThat( entityUsage.getAttributeValue( "name" ).asString() ).isEqualTo( "SimpleColumnEntity" );
+		assertThat( entityUsage.getAttributeValue( "name" ).isImplicit() ).isFalse();
+
+		final AnnotationUsage<Cache> cacheUsage = classDetails.getAnnotation( Cache.class );
+		assertThat( cacheUsage.getAttributeValue( "usage" ).getValue() ).isEqualTo( CacheConcurrencyStrategy.READ_ONLY );
+		assertThat( cacheUsage.getAttributeValue( "includeLazy" ).isImplicit() ).isTrue();
+
+		final List<AnnotationUsage<NamedQuery>> namedQueries = classDetails.getRepeatedAnnotations( NamedQuery.class );
+		assertThat( namedQueries ).hasSize( 2 );
+		assertThat( classDetails.getNamedAnnotation( NamedQuery.class, "xyz", "name" ) ).isNotNull();
+
+		final FieldDetails nameField = classDetails.getFields()
+				.stream()
+				.filter( (field) -> field.getName().equals( "name" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( nameField.getType().getClassName() ).isEqualTo( String.class.getName() );
+
+		final AnnotationUsage<Column> columnUsage = nameField.getAnnotation( Column.class );
+		assertThat( columnUsage.getAttributeValue( "name" ).asString() ).isEqualTo( "description" );
+		assertThat( columnUsage.getAttributeValue( "nullable" ).asBoolean() ).isFalse();
+		assertThat( columnUsage.getAttributeValue( "table" ).isImplicit() ).isTrue();
+	}
+
+	@Test
+	void testSyntheticMembersExcluded() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( SyntheticMembers.class );
+		final ClassDetails standardDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( SyntheticMembers.class.getName() );
+		assertThat( standardDetails ).isInstanceOf( ClassDetailsImpl.class );
+
+		final ClassDetails jdkDetails = JdkBuilders.resolveClassDetails(
+				SyntheticMembers.class,
+				new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, new Indexer().complete() )
+		);
+		assertThat( jdkDetails ).isInstanceOf( JdkClassDetails.class );
+
+		// `$assertionsDisabled` and the bridge `compareTo(Object)` are excluded by both
+		for ( ClassDetails classDetails : List.of( standardDetails, jdkDetails ) ) {
+			assertThat( classDetails.getFields() ).extracting( FieldDetails::getName ).containsExactly( "name" );
+			assertThat( classDetails.getMethods() ).extracting( MethodDetails::getName )
+					.containsExactlyInAnyOrder( "getName", "compareTo" );
+
+			final List<String> visitedFields = new ArrayList<>();
+			classDetails.forEachField( (rawMember) -> true, (field) -> visitedFields.add( field.getName() ) );
+			assertThat( visitedFields ).containsExactly( "name" );
+
+			final List<String> visitedMethods = new ArrayList<>();
+			classDetails.forEachMethod( (rawMember) -> true, (method) -> visitedMethods.add( method.getName() ) );
+			assertThat( visitedMethods ).containsExactlyInAnyOrder( "getName", "compareTo" );
+		}
+	}
+
+	@Test
+	void testVoidGettersNotPersistable() {
+		final SourceModelBuildingContext buildingContext = createBuildingContext( VoidGetters.class );
+		final ClassDetails standardDetails = buildingContext
+				.getClassDetailsRegistry()
+				.resolveClassDetails( VoidGetters.class.getName() );
+		final ClassDetails jdkDetails = JdkBuilders.resolveClassDetails(
+				VoidGetters.class,
+				new SourceModelBuildingContextImpl( SIMPLE_CLASS_LOADING, new Indexer().complete() )
+		);
+
+		// neither `void` nor `Void` getters are persistable, in both families
+		for ( ClassDetails classDetails : List.of( standardDetails, jdkDetails ) ) {
+			final List<String> persistableMethods = new ArrayList<>();
+			classDetails.forEachPersistableMethod( (method) -> persistableMethods.add( method.getName() ) );
+			assertThat( persistableMethods ).containsExactly( "getName" );
+
+			for ( MethodDetails method : classDetails.getMethods() ) {
+				assertThat( method.isPersistable() ).isEqualTo( method.getName().equals( "getName" ) );
+			}
+		}
+	}
+
+	public static class SyntheticMembers implements Comparable<SyntheticMembers> {
+		private String name;
+
+		public String getName() {
+			// generates the synthetic `$assertionsDisabled` field
+			assert name != null;
+			return name;
+		}
+
+		@Override
+		public int compareTo(SyntheticMembers other) {
+			return name.compareTo( other.name );
+		}
+	}
+
+	public static class VoidGetters {
+		public String getName() {
+			return null;
+		}
+
+		public void getNothing() {
+		}
+
+		public Void getVoid() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.source;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.hibernate.models.source.internal.SourceModelBuildingContextImpl;
+import org.hibernate.models.source.internal.standard.LazyIndexingClassDetailsBuilder;
+import org.hibernate.models.source.spi.ClassDetails;
+import org.hibernate.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.models.source.spi.FieldDetails;
+import org.hibernate.models.spi.ClassLoading;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.internal.SimpleClassLoading.SIMPLE_CLASS_LOADING;
+
+/**
+ * @author Steve Ebersole
+ */
+public class LazyIndexingTests {
+	@Test
+	void testLazyIndexing() throws IOException {
+		// index just the model class - no baseline
+		final Indexer indexer = new Indexer();
+		indexer.indexClass( SimpleEntity.class );
+		final Index jandexIndex = indexer.complete();
+
+		final CountingClassLoading classLoading = new CountingClassLoading();
+		final SourceModelBuildingContextImpl buildingContext = new SourceModelBuildingContextImpl(
+				classLoading,
+				jandexIndex,
+				new LazyIndexingClassDetailsBuilder(),
+				null
+		);
+		final ClassDetailsRegistry classDetailsRegistry = buildingContext.getClassDetailsRegistry();
+
+		final ClassDetails entityDetails = classDetailsRegistry.resolveClassDetails( SimpleEntity.class.getName() );
+		assertThat( entityDetails.getSuperType() ).isNotNull();
+		assertThat( entityDetails.getSuperType().getClassName() ).isEqualTo( Object.class.getName() );
+
+		final FieldDetails nameField = entityDetails.getFields()
+				.stream()
+				.filter( (field) -> field.getName().equals( "name" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( nameField.getType().getClassName() ).isEqualTo( String.class.getName() );
+
+		// classes indexed on demand are visible through the index of the building context
+		assertThat( buildingContext.getJandexIndex().getClassByName( TestEntity.class ) ).isNull();
+		classDetailsRegistry.resolveClassDetails( TestEntity.class.getName() );
+		assertThat( jandexIndex.getClassByName( TestEntity.class ) ).isNull();
+		assertThat( buildingContext.getJandexIndex().getClassByName( TestEntity.class ) ).isNotNull();
+		assertThat( buildingContext.getJandexIndex().getClassByName( SimpleEntity.class ) ).isNotNull();
+		assertThat( buildingContext.getJandexIndex() ).isSameAs( buildingContext.getJandexIndex() );
+
+		assertThatThrownBy( () -> classDetailsRegistry.resolveClassDetails( "does.not.Exist" ) )
+				.isInstanceOf( UnknownClassException.class );
+		assertThat( classLoading.attempts ).isPositive();
+		final int attempts = classLoading.attempts;
+		// again, served from the negative cache - no further attempt to load or index the class
+		assertThatThrownBy( () -> classDetailsRegistry.resolveClassDetails( "does.not.Exist" ) )
+				.isInstanceOf( UnknownClassException.class );
+		assertThat( classLoading.attempts ).isEqualTo( attempts );
+	}
+
+	private static class CountingClassLoading implements ClassLoading {
+		// attempts to load or locate the class file of `does.not.Exist`
+		private int attempts;
+
+		@Override
+		public <T> Class<T> classForName(String name) {
+			if ( name.startsWith( "does.not." ) ) {
+				attempts++;
+			}
+			return SIMPLE_CLASS_LOADING.classForName( name );
+		}
+
+		@Override
+		public URL locateResource(String resourceName) {
+			if ( resourceName.startsWith( "does/not/" ) ) {
+				attempts++;
+			}
+			return SIMPLE_CLASS_LOADING.locateResource( resourceName );
+		}
+	}
+}